@@ -0,0 +1,108 @@
+package io.github.makbn.jlmap.model;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the bulk operations of {@link JLGeodesy} with the same work done one {@link JLLatLng}
+ * at a time. Run with {@code mvn -pl jlmap-api -Pjmh test-compile exec:exec}, JMH options can be
+ * passed with {@code -Djmh.args="..."}.
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JLGeodesyBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    JLLatLng center;
+    JLCoordinates coordinates;
+    JLLatLng[] points;
+    double[] latLngs;
+    double[] distances;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        JLCoordinates.Builder builder = JLCoordinates.builder(size);
+        for (int i = 0; i < size; i++) {
+            builder.add(random.nextDouble() * 20 + 40, random.nextDouble() * 30 - 5);
+        }
+        center = new JLLatLng(50, 10);
+        coordinates = builder.build();
+        points = coordinates.toArray();
+        latLngs = coordinates.toLatLngArray();
+        distances = new double[size];
+    }
+
+    @Benchmark
+    public double[] distancesScalar() {
+        for (int i = 0; i < points.length; i++) {
+            distances[i] = center.distanceTo(points[i]);
+        }
+        return distances;
+    }
+
+    @Benchmark
+    public double[] distancesBulk() {
+        return JLGeodesy.distances(center.getLat(), center.getLng(), latLngs, distances);
+    }
+
+    @Benchmark
+    public int withinRadiusScalar() {
+        int count = 0;
+        for (JLLatLng point : points) {
+            count += center.distanceTo(point) <= 500_000 ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int withinRadiusBulk() {
+        return JLGeodesy.withinRadius(center, coordinates, 500_000).length;
+    }
+
+    @Benchmark
+    public double lengthScalar() {
+        double length = 0;
+        for (int i = 1; i < points.length; i++) {
+            length += points[i - 1].distanceTo(points[i]);
+        }
+        return length;
+    }
+
+    @Benchmark
+    public double lengthBulk() {
+        return JLGeodesy.length(coordinates);
+    }
+
+    @Benchmark
+    public void boundsScalar(Blackhole blackhole) {
+        double south = 90;
+        double north = -90;
+        double west = 180;
+        double east = -180;
+        for (JLLatLng point : points) {
+            south = Math.min(south, point.getLat());
+            north = Math.max(north, point.getLat());
+            west = Math.min(west, point.getLng());
+            east = Math.max(east, point.getLng());
+        }
+        blackhole.consume(south + north + west + east);
+    }
+
+    @Benchmark
+    public JLBounds boundsBulk() {
+        return JLGeodesy.bounds(coordinates);
+    }
+}
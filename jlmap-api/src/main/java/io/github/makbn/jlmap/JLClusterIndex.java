@@ -0,0 +1,491 @@
+package io.github.makbn.jlmap;
+
+import io.github.makbn.jlmap.model.JLBounds;
+import io.github.makbn.jlmap.model.JLCoordinates;
+import io.github.makbn.jlmap.model.JLLatLng;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Hierarchical clusters of points for every zoom level, built once on the server.
+ * <p>
+ * The points are projected to Web Mercator and clustered greedily level by level, starting at
+ * {@link #getMaxZoom() maxZoom}: every point or cluster of the level above that is not yet taken
+ * is merged with all untaken ones within {@link #getRadius() radius} pixels into a cluster at
+ * their weighted center. Each level is kept in a static KD-tree, so the clusters inside the
+ * visible bounds are found without looking at the others. Building takes {@code O(n log n)} per
+ * level, levels shrink quickly as points merge.
+ * </p>
+ * <p>
+ * The index is immutable, rebuild it when the points change.
+ * </p>
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class JLClusterIndex {
+    /**
+     * Cluster radius in pixels.
+     */
+    public static final double DEFAULT_RADIUS = 60;
+    /**
+     * Highest zoom level with clusters, all points are shown on their own above it.
+     */
+    public static final int DEFAULT_MAX_ZOOM = 16;
+    /**
+     * Highest supported zoom level.
+     */
+    public static final int MAX_ZOOM = 30;
+    private static final double TILE_SIZE = 256;
+    private static final double MAX_LATITUDE = 85.0511287798;
+
+    @Getter
+    double radius;
+    @Getter
+    int minZoom;
+    @Getter
+    int maxZoom;
+    /**
+     * Level {@code z - minZoom} holds the clusters of zoom {@code z}, the last level the points.
+     */
+    Level[] levels;
+
+    private JLClusterIndex(double radius, int minZoom, int maxZoom, Level[] levels) {
+        this.radius = radius;
+        this.minZoom = minZoom;
+        this.maxZoom = maxZoom;
+        this.levels = levels;
+    }
+
+    /**
+     * Clusters the points with the {@link #DEFAULT_RADIUS default radius} from zoom {@code 0} to
+     * {@link #DEFAULT_MAX_ZOOM}.
+     *
+     * @param points the points, rings are ignored
+     */
+    public static JLClusterIndex of(@NonNull JLCoordinates points) {
+        return of(points, DEFAULT_RADIUS, 0, DEFAULT_MAX_ZOOM);
+    }
+
+    /**
+     * @param points  the points, rings are ignored
+     * @param radius  cluster radius in pixels
+     * @param minZoom lowest zoom level with clusters
+     * @param maxZoom highest zoom level with clusters
+     */
+    public static JLClusterIndex of(@NonNull JLCoordinates points, double radius, int minZoom, int maxZoom) {
+        if (!(radius > 0) || minZoom < 0 || maxZoom < minZoom || maxZoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("invalid cluster options: radius " + radius
+                    + ", zoom " + minZoom + " to " + maxZoom);
+        }
+        int size = points.size();
+        double[] x = new double[size];
+        double[] y = new double[size];
+        int[] counts = new int[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = projectX(points.getLng(i));
+            y[i] = projectY(points.getLat(i));
+            counts[i] = 1;
+        }
+        Level[] levels = new Level[maxZoom - minZoom + 2];
+        Level level = new Level(x, y, counts, null, null, null);
+        levels[levels.length - 1] = level;
+        for (int zoom = maxZoom; zoom >= minZoom; zoom--) {
+            level = level.cluster(radius / (TILE_SIZE * Math.pow(2, zoom)));
+            levels[zoom - minZoom] = level;
+        }
+        return new JLClusterIndex(radius, minZoom, maxZoom, levels);
+    }
+
+    /**
+     * @param bounds area to search
+     * @param zoom   zoom level of the map
+     * @return the clusters and single points inside the bounds at the zoom level
+     */
+    public List<Cluster> getClusters(@NonNull JLBounds bounds, int zoom) {
+        int z = Math.max(minZoom, Math.min(zoom, maxZoom + 1));
+        Level level = levels[z - minZoom];
+        double minY = projectY(bounds.getNorth());
+        double maxY = projectY(bounds.getSouth());
+        List<Cluster> result = new ArrayList<>();
+        IntConsumer collector = i -> result.add(level.toCluster(z, i));
+        if (bounds.getEast() - bounds.getWest() >= 360) {
+            level.tree.range(0, minY, 1, maxY, collector);
+            return result;
+        }
+        double west = ((bounds.getWest() + 180) % 360 + 360) % 360 - 180;
+        double east = ((bounds.getEast() + 180) % 360 + 360) % 360 - 180;
+        if (east < west) {
+            // crosses the antimeridian
+            level.tree.range(projectX(west), minY, 1, maxY, collector);
+            level.tree.range(0, minY, projectX(east), maxY, collector);
+        } else {
+            level.tree.range(projectX(west), minY, projectX(east), maxY, collector);
+        }
+        return result;
+    }
+
+    /**
+     * @return the zoom level at which the cluster splits into more than one cluster or point
+     */
+    public int getExpansionZoom(@NonNull Cluster cluster) {
+        int zoom = cluster.zoom();
+        int index = cluster.index();
+        while (zoom <= maxZoom) {
+            Level level = levels[zoom - minZoom];
+            if (level.childCount(index) != 1) {
+                break;
+            }
+            index = level.children[level.childStart[index]];
+            zoom++;
+        }
+        return Math.min(zoom + 1, maxZoom + 1);
+    }
+
+    /**
+     * @return indexes of all points of the cluster
+     */
+    public int[] getLeaves(@NonNull Cluster cluster) {
+        if (cluster.isPoint()) {
+            return new int[]{cluster.pointIndex()};
+        }
+        int[] stack = {cluster.index()};
+        for (int zoom = cluster.zoom(); zoom <= maxZoom; zoom++) {
+            Level level = levels[zoom - minZoom];
+            int[] next = new int[countChildren(level, stack)];
+            int position = 0;
+            for (int index : stack) {
+                for (int child = level.childStart[index]; child < level.childStart[index + 1]; child++) {
+                    next[position++] = level.children[child];
+                }
+            }
+            stack = next;
+        }
+        return stack;
+    }
+
+    private static int countChildren(Level level, int[] indexes) {
+        int count = 0;
+        for (int index : indexes) {
+            count += level.childCount(index);
+        }
+        return count;
+    }
+
+    private static double projectX(double lng) {
+        return lng / 360 + 0.5;
+    }
+
+    private static double projectY(double lat) {
+        double sin = Math.sin(Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, lat))));
+        return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+    }
+
+    private static double unprojectLng(double x) {
+        return (x - 0.5) * 360;
+    }
+
+    private static double unprojectLat(double y) {
+        return Math.toDegrees(Math.atan(Math.sinh((0.5 - y) * 2 * Math.PI)));
+    }
+
+    /**
+     * A cluster, or a single point if {@link #count()} is {@code 1}.
+     *
+     * @param zoom       zoom level of the cluster
+     * @param index      index of the cluster within its zoom level
+     * @param latLng     weighted center of the points, the point itself for single points
+     * @param count      number of points
+     * @param pointIndex index of the point for single points, {@code -1} for clusters
+     */
+    public record Cluster(int zoom, int index, JLLatLng latLng, int count, int pointIndex) {
+        public boolean isPoint() {
+            return pointIndex >= 0;
+        }
+    }
+
+    /**
+     * Clusters of one zoom level in projected coordinates from {@code 0} to {@code 1}.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class Level {
+        double[] x;
+        double[] y;
+        int[] counts;
+        /**
+         * Index of the point of single points, {@code -1} for clusters. {@code null} for the
+         * level of the points, where it is the index itself.
+         */
+        int[] pointIndexes;
+        /**
+         * Members of each cluster in the level above, {@code children[childStart[i]]} to
+         * {@code children[childStart[i + 1] - 1]}. {@code null} for the level of the points.
+         */
+        int[] childStart;
+        int[] children;
+        KDTree tree;
+
+        Level(double[] x, double[] y, int[] counts, int[] pointIndexes, int[] childStart, int[] children) {
+            this.x = x;
+            this.y = y;
+            this.counts = counts;
+            this.pointIndexes = pointIndexes;
+            this.childStart = childStart;
+            this.children = children;
+            this.tree = new KDTree(x, y);
+        }
+
+        int childCount(int index) {
+            return childStart[index + 1] - childStart[index];
+        }
+
+        int pointIndex(int index) {
+            return pointIndexes == null ? index : pointIndexes[index];
+        }
+
+        Cluster toCluster(int zoom, int index) {
+            return new Cluster(zoom, index, new JLLatLng(unprojectLat(y[index]), unprojectLng(x[index])),
+                    counts[index], counts[index] == 1 ? pointIndex(index) : -1);
+        }
+
+        /**
+         * @param distance cluster radius in projected units
+         * @return the level below this one
+         */
+        Level cluster(double distance) {
+            int size = x.length;
+            boolean[] taken = new boolean[size];
+            double[] nextX = new double[size];
+            double[] nextY = new double[size];
+            int[] nextCounts = new int[size];
+            int[] nextPoints = new int[size];
+            int[] childStart = new int[size + 1];
+            int[] children = new int[size];
+            int next = 0;
+            int childCount = 0;
+            for (int i = 0; i < size; i++) {
+                if (taken[i]) {
+                    continue;
+                }
+                taken[i] = true;
+                int first = childCount;
+                children[childCount++] = i;
+                int[] end = {childCount};
+                tree.within(x[i], y[i], distance, neighbor -> {
+                    if (!taken[neighbor]) {
+                        taken[neighbor] = true;
+                        children[end[0]++] = neighbor;
+                    }
+                });
+                childCount = end[0];
+                double weightedX = 0;
+                double weightedY = 0;
+                int count = 0;
+                for (int c = first; c < childCount; c++) {
+                    int member = children[c];
+                    weightedX += x[member] * counts[member];
+                    weightedY += y[member] * counts[member];
+                    count += counts[member];
+                }
+                nextX[next] = weightedX / count;
+                nextY[next] = weightedY / count;
+                nextCounts[next] = count;
+                nextPoints[next] = childCount - first == 1 ? pointIndex(i) : -1;
+                childStart[next] = first;
+                next++;
+            }
+            childStart[next] = childCount;
+            return new Level(Arrays.copyOf(nextX, next), Arrays.copyOf(nextY, next),
+                    Arrays.copyOf(nextCounts, next), Arrays.copyOf(nextPoints, next),
+                    Arrays.copyOf(childStart, next + 1), children);
+        }
+    }
+
+    /**
+     * Static KD-tree over points, sorted in place by alternating axes down to leaves of
+     * {@link #NODE_SIZE} points.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class KDTree {
+        static final int NODE_SIZE = 64;
+        int[] ids;
+        double[] coords;
+
+        KDTree(double[] x, double[] y) {
+            int size = x.length;
+            ids = new int[size];
+            coords = new double[size * 2];
+            for (int i = 0; i < size; i++) {
+                ids[i] = i;
+                coords[i * 2] = x[i];
+                coords[i * 2 + 1] = y[i];
+            }
+            sort(0, size - 1, 0);
+        }
+
+        void range(double minX, double minY, double maxX, double maxY, IntConsumer consumer) {
+            int[] stack = new int[96];
+            int top = 0;
+            stack[top++] = 0;
+            stack[top++] = ids.length - 1;
+            stack[top++] = 0;
+            while (top > 0) {
+                int axis = stack[--top];
+                int right = stack[--top];
+                int left = stack[--top];
+                if (right - left <= NODE_SIZE) {
+                    for (int i = left; i <= right; i++) {
+                        double px = coords[i * 2];
+                        double py = coords[i * 2 + 1];
+                        if (px >= minX && px <= maxX && py >= minY && py <= maxY) {
+                            consumer.accept(ids[i]);
+                        }
+                    }
+                    continue;
+                }
+                int m = (left + right) >>> 1;
+                double px = coords[m * 2];
+                double py = coords[m * 2 + 1];
+                if (px >= minX && px <= maxX && py >= minY && py <= maxY) {
+                    consumer.accept(ids[m]);
+                }
+                if (axis == 0 ? minX <= px : minY <= py) {
+                    stack = push(stack, top, left, m - 1, 1 - axis);
+                    top += 3;
+                }
+                if (axis == 0 ? maxX >= px : maxY >= py) {
+                    stack = push(stack, top, m + 1, right, 1 - axis);
+                    top += 3;
+                }
+            }
+        }
+
+        void within(double qx, double qy, double r, IntConsumer consumer) {
+            int[] stack = new int[96];
+            int top = 0;
+            stack[top++] = 0;
+            stack[top++] = ids.length - 1;
+            stack[top++] = 0;
+            double r2 = r * r;
+            while (top > 0) {
+                int axis = stack[--top];
+                int right = stack[--top];
+                int left = stack[--top];
+                if (right - left <= NODE_SIZE) {
+                    for (int i = left; i <= right; i++) {
+                        if (squaredDistance(coords[i * 2], coords[i * 2 + 1], qx, qy) <= r2) {
+                            consumer.accept(ids[i]);
+                        }
+                    }
+                    continue;
+                }
+                int m = (left + right) >>> 1;
+                double px = coords[m * 2];
+                double py = coords[m * 2 + 1];
+                if (squaredDistance(px, py, qx, qy) <= r2) {
+                    consumer.accept(ids[m]);
+                }
+                if (axis == 0 ? qx - r <= px : qy - r <= py) {
+                    stack = push(stack, top, left, m - 1, 1 - axis);
+                    top += 3;
+                }
+                if (axis == 0 ? qx + r >= px : qy + r >= py) {
+                    stack = push(stack, top, m + 1, right, 1 - axis);
+                    top += 3;
+                }
+            }
+        }
+
+        private static int[] push(int[] stack, int top, int left, int right, int axis) {
+            int[] result = top + 3 > stack.length ? Arrays.copyOf(stack, stack.length * 2) : stack;
+            result[top] = left;
+            result[top + 1] = right;
+            result[top + 2] = axis;
+            return result;
+        }
+
+        private static double squaredDistance(double ax, double ay, double bx, double by) {
+            double dx = ax - bx;
+            double dy = ay - by;
+            return dx * dx + dy * dy;
+        }
+
+        private void sort(int left, int right, int axis) {
+            if (right - left <= NODE_SIZE) {
+                return;
+            }
+            int m = (left + right) >>> 1;
+            select(m, left, right, axis);
+            sort(left, m - 1, 1 - axis);
+            sort(m + 1, right, 1 - axis);
+        }
+
+        /**
+         * Floyd-Rivest selection: moves the k-th smallest value on the axis to {@code k}, smaller
+         * ones before and larger ones after it.
+         */
+        private void select(int k, int left, int right, int axis) {
+            while (right > left) {
+                if (right - left > 600) {
+                    int n = right - left + 1;
+                    int m = k - left + 1;
+                    double z = Math.log(n);
+                    double s = 0.5 * Math.exp(2 * z / 3);
+                    double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * (m - n / 2.0 < 0 ? -1 : 1);
+                    int newLeft = (int) Math.max(left, Math.floor(k - m * s / n + sd));
+                    int newRight = (int) Math.min(right, Math.floor(k + (n - m) * s / n + sd));
+                    select(k, newLeft, newRight, axis);
+                }
+                double t = coords[k * 2 + axis];
+                int i = left;
+                int j = right;
+                swap(left, k);
+                if (coords[right * 2 + axis] > t) {
+                    swap(left, right);
+                }
+                while (i < j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                    while (coords[i * 2 + axis] < t) {
+                        i++;
+                    }
+                    while (coords[j * 2 + axis] > t) {
+                        j--;
+                    }
+                }
+                if (coords[left * 2 + axis] == t) {
+                    swap(left, j);
+                } else {
+                    j++;
+                    swap(j, right);
+                }
+                if (j <= k) {
+                    left = j + 1;
+                }
+                if (k <= j) {
+                    right = j - 1;
+                }
+            }
+        }
+
+        private void swap(int i, int j) {
+            int id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+            for (int axis = 0; axis < 2; axis++) {
+                double value = coords[i * 2 + axis];
+                coords[i * 2 + axis] = coords[j * 2 + axis];
+                coords[j * 2 + axis] = value;
+            }
+        }
+    }
+}
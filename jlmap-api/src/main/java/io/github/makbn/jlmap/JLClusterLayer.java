@@ -0,0 +1,449 @@
+package io.github.makbn.jlmap;
+
+import io.github.makbn.jlmap.engine.JLClientDispatcher;
+import io.github.makbn.jlmap.engine.JLServerToClientTransporter;
+import io.github.makbn.jlmap.engine.JLWebEngine;
+import io.github.makbn.jlmap.listener.JLAction;
+import io.github.makbn.jlmap.listener.OnJLActionListener;
+import io.github.makbn.jlmap.listener.event.Event;
+import io.github.makbn.jlmap.model.*;
+import io.github.makbn.jlmap.model.builder.JLBulkBuilder;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A set of markers that are shown as {@link JLMarkerCluster clusters} wherever they are too close
+ * to each other at the current zoom level.
+ * <p>
+ * The clusters of all zoom levels are computed on the server by a {@link JLClusterIndex}, which is
+ * built once and rebuilt only after markers were added, moved or removed. After every move of the
+ * map the layer looks up the clusters and single markers inside the padded bounds and sends only
+ * the difference to what the client already shows: one {@code removeAll}, one bulk {@code addAll}
+ * for the markers and one {@code addClusters} for the clusters. Clicking a cluster zooms the map
+ * in until it splits, before the {@link #setClusterListener(OnJLActionListener) cluster listener}
+ * is called.
+ * </p>
+ * <p>
+ * Moving or removing single markers only marks the clusters as outdated, they are rebuilt with the
+ * next move of the map or on {@link #refresh()}, so moving many markers one by one doesn't rebuild
+ * the index for each of them. Cluster ids are derived from their markers and position, clusters
+ * that are the same after a rebuild stay on the client.
+ * </p>
+ * <p>
+ * Like in a {@link JLViewportLayer}, markers are registered with the map and can be used like any
+ * other marker, but they only receive events and send calls while they are shown on their own.
+ * </p>
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class JLClusterLayer implements JLViewportDependent {
+    /**
+     * Client-side type name of the clusters, used by the event forwarder.
+     */
+    public static final String CLUSTER_TYPE = "markerCluster";
+
+    JLWebEngine<?> engine;
+    JLMapEventHandler callbackHandler;
+    JLServerToClientTransporter<?> transport;
+    /**
+     * Creates a builder configured with the options and callbacks of the markers.
+     */
+    Supplier<JLBulkBuilder<JLMarker>> builderFactory;
+    Supplier<String> idGenerator;
+    /**
+     * Prefix of the ids of all clusters of this layer.
+     */
+    String clusterPrefix;
+    /**
+     * Markers of the layer by id, in insertion order. Guarded by this layer.
+     */
+    Map<String, JLMarker> markers = new LinkedHashMap<>();
+    /**
+     * Ids of the markers currently on the client, guarded by this layer.
+     */
+    Set<String> shownMarkers = new HashSet<>();
+    /**
+     * Clusters currently on the client by id, guarded by this layer.
+     */
+    Map<String, ShownCluster> shownClusters = new HashMap<>();
+    Consumer<JLObject<?>> onRemoved = this::release;
+    Consumer<JLObject<?>> onMoved = this::moved;
+    OnJLActionListener<JLMarkerCluster> onClusterAction = this::clusterAction;
+    @Getter
+    @NonFinal
+    volatile double padding = JLViewportLayer.DEFAULT_PADDING;
+    @Getter
+    @NonFinal
+    volatile double radius = JLClusterIndex.DEFAULT_RADIUS;
+    @Getter
+    @NonFinal
+    volatile int maxZoom = JLClusterIndex.DEFAULT_MAX_ZOOM;
+    @Nullable
+    @NonFinal
+    volatile OnJLActionListener<JLMarkerCluster> clusterListener;
+    /**
+     * Current clusters and the markers they were built from, {@code null} after changes. Guarded
+     * by this layer.
+     */
+    @Nullable
+    @NonFinal
+    Snapshot snapshot;
+    /**
+     * Last bounds of the map, {@code null} until known. Guarded by this layer.
+     */
+    @Nullable
+    @NonFinal
+    JLBounds bounds;
+
+    /**
+     * Creates an empty layer and starts following the bounds of the map.
+     *
+     * @param engine          engine of the map
+     * @param callbackHandler event handler of the map, markers and clusters are registered with it
+     * @param transport       transport of the clusters
+     * @param builderFactory  creates a builder with the options and callbacks of the markers
+     * @param idGenerator     creates the unique ids of new markers
+     */
+    public JLClusterLayer(@NonNull JLWebEngine<?> engine, @NonNull JLMapEventHandler callbackHandler,
+                          @NonNull JLServerToClientTransporter<?> transport,
+                          @NonNull Supplier<JLBulkBuilder<JLMarker>> builderFactory,
+                          @NonNull Supplier<String> idGenerator) {
+        this.engine = engine;
+        this.callbackHandler = callbackHandler;
+        this.transport = transport;
+        this.builderFactory = builderFactory;
+        this.idGenerator = idGenerator;
+        this.clusterPrefix = idGenerator.get() + "_cluster";
+        callbackHandler.addViewportDependent(this);
+        if (callbackHandler.getBounds() == null) {
+            // the map wasn't moved yet, ask it for its bounds
+            engine.dispatch(JLClientDispatcher.encodeCommand("reportView"));
+        }
+    }
+
+    /**
+     * Adds markers at the positions and updates the clusters.
+     *
+     * @return the added markers, in the iteration order of {@code latLngs}
+     */
+    public List<JLMarker> addAll(@NonNull Collection<JLLatLng> latLngs) {
+        JLBulkBuilder<JLMarker> builder = builderFactory.get();
+        latLngs.forEach(latLng -> builder.add(idGenerator.get(), latLng));
+        if (builder.size() == 0) {
+            return List.of();
+        }
+        List<JLMarker> added = builder.buildJLObjects();
+        for (JLMarker marker : added) {
+            marker.setMaterialized(false);
+            marker.addRemovalListener(onRemoved);
+            marker.addMoveListener(onMoved);
+        }
+        callbackHandler.addJLObjects(added);
+        synchronized (this) {
+            added.forEach(marker -> markers.put(marker.getJLId(), marker));
+            changed();
+            refresh();
+        }
+        return added;
+    }
+
+    /**
+     * @return the added marker
+     * @see #addAll(Collection)
+     */
+    public JLMarker add(@NonNull JLLatLng latLng) {
+        return addAll(List.of(latLng)).get(0);
+    }
+
+    /**
+     * Removes the marker from the layer and the map.
+     *
+     * @return {@code true} if the marker belonged to this layer
+     */
+    public boolean remove(@NonNull JLMarker marker) {
+        synchronized (this) {
+            if (!markers.containsKey(marker.getJLId())) {
+                return false;
+            }
+        }
+        marker.remove();
+        return true;
+    }
+
+    /**
+     * @return number of markers of the layer
+     */
+    public synchronized int size() {
+        return markers.size();
+    }
+
+    /**
+     * @return the markers of the cluster, empty if the cluster is no longer shown
+     */
+    public synchronized List<JLMarker> getMarkers(@NonNull JLMarkerCluster cluster) {
+        ShownCluster shown = shownClusters.get(cluster.getJLId());
+        if (shown == null) {
+            return List.of();
+        }
+        int[] leaves = shown.snapshot().index().getLeaves(shown.cluster());
+        List<JLMarker> result = new ArrayList<>(leaves.length);
+        for (int leaf : leaves) {
+            result.add(shown.snapshot().markers().get(leaf));
+        }
+        return result;
+    }
+
+    /**
+     * @return the clusters currently shown on the client
+     */
+    public synchronized List<JLMarkerCluster> getClusters() {
+        return shownClusters.values().stream().map(ShownCluster::object).toList();
+    }
+
+    /**
+     * @return number of markers and clusters currently on the client
+     */
+    public synchronized int getMaterializedCount() {
+        return shownMarkers.size() + shownClusters.size();
+    }
+
+    /**
+     * Called after a cluster was clicked and the map started zooming into it.
+     *
+     * @param clusterListener the listener, {@code null} to only zoom in
+     */
+    public void setClusterListener(@Nullable OnJLActionListener<JLMarkerCluster> clusterListener) {
+        this.clusterListener = clusterListener;
+    }
+
+    /**
+     * @param radius  cluster radius in pixels
+     * @param maxZoom highest zoom level with clusters, all markers are shown on their own above it
+     */
+    public void setClusterOptions(double radius, int maxZoom) {
+        if (!(radius > 0) || maxZoom < 0 || maxZoom > JLClusterIndex.MAX_ZOOM) {
+            throw new IllegalArgumentException("invalid cluster options: radius " + radius + ", max zoom " + maxZoom);
+        }
+        synchronized (this) {
+            this.radius = radius;
+            this.maxZoom = maxZoom;
+            changed();
+            refresh();
+        }
+    }
+
+    /**
+     * @param padding fraction of the visible width and height around the viewport whose markers
+     *                and clusters are kept on the client, {@code 0} for the visible area only
+     */
+    public void setPadding(double padding) {
+        if (!(padding >= 0)) {
+            throw new IllegalArgumentException("padding must not be negative: " + padding);
+        }
+        this.padding = padding;
+        refresh();
+    }
+
+    /**
+     * Rebuilds outdated clusters and shows the clusters and markers of the current bounds, e.g.
+     * after moving markers, without waiting for the next move of the map.
+     */
+    public synchronized void refresh() {
+        if (bounds != null) {
+            applyViewport(bounds);
+        }
+    }
+
+    /**
+     * Removes all markers and clusters of the layer from the client and stops following the map,
+     * the markers stay registered.
+     */
+    public synchronized void detach() {
+        callbackHandler.removeViewportDependent(this);
+        send(List.of(), List.of(), new ArrayList<>(shownMarkers), new ArrayList<>(shownClusters.keySet()));
+        bounds = null;
+    }
+
+    @Override
+    public synchronized void applyViewport(@NonNull JLBounds bounds) {
+        this.bounds = bounds;
+        Snapshot current = snapshot();
+        int zoom = callbackHandler.getZoom();
+        List<JLMarker> addedMarkers = new ArrayList<>();
+        List<ShownCluster> addedClusters = new ArrayList<>();
+        Set<String> visible = new HashSet<>();
+        for (JLClusterIndex.Cluster cluster : current.index().getClusters(bounds.pad(padding), zoom)) {
+            if (cluster.isPoint()) {
+                JLMarker marker = current.markers().get(cluster.pointIndex());
+                visible.add(marker.getJLId());
+                if (!shownMarkers.contains(marker.getJLId())) {
+                    addedMarkers.add(marker);
+                }
+                continue;
+            }
+            String id = current.clusterId(cluster, clusterPrefix);
+            visible.add(id);
+            if (!shownClusters.containsKey(id)) {
+                addedClusters.add(new ShownCluster(createCluster(id, current, cluster), cluster, current));
+            }
+        }
+        List<String> removedMarkers = shownMarkers.stream().filter(id -> !visible.contains(id)).toList();
+        List<String> removedClusters = shownClusters.keySet().stream().filter(id -> !visible.contains(id)).toList();
+        send(addedMarkers, addedClusters, removedMarkers, removedClusters);
+    }
+
+    private JLMarkerCluster createCluster(String id, Snapshot current, JLClusterIndex.Cluster cluster) {
+        JLMarkerCluster object = JLMarkerCluster.builder()
+                .id(id)
+                .latLng(cluster.latLng())
+                .count(cluster.count())
+                .zoom(cluster.zoom())
+                .expansionZoom(current.index().getExpansionZoom(cluster))
+                .transport(transport)
+                .build();
+        object.setOnActionListener(onClusterAction);
+        return object;
+    }
+
+    private void clusterAction(JLMarkerCluster cluster, Event event) {
+        if (event.action() == JLAction.CLICK) {
+            engine.flush();
+            engine.dispatch(JLClientDispatcher.encodeCall(JLClientDispatcher.MAP_TARGET, "setView",
+                    cluster.getLatLng(), cluster.getExpansionZoom()));
+        }
+        OnJLActionListener<JLMarkerCluster> listener = clusterListener;
+        if (listener != null) {
+            listener.onAction(cluster, event);
+        }
+    }
+
+    private Snapshot snapshot() {
+        if (snapshot == null) {
+            List<JLMarker> indexed = new ArrayList<>(markers.values());
+            JLCoordinates.Builder points = JLCoordinates.builder(indexed.size());
+            indexed.forEach(marker -> points.add(marker.getLatLng().getLat(), marker.getLatLng().getLng()));
+            snapshot = new Snapshot(JLClusterIndex.of(points.build(), radius, 0, maxZoom), indexed, new HashMap<>());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Marks the clusters as outdated, they are rebuilt when they are shown next.
+     */
+    private void changed() {
+        snapshot = null;
+    }
+
+    private synchronized void moved(JLObject<?> object) {
+        if (markers.containsKey(object.getJLId())) {
+            changed();
+        }
+    }
+
+    private synchronized void release(JLObject<?> object) {
+        if (markers.remove(object.getJLId()) != null) {
+            // removed from the client by the object itself if it is shown
+            shownMarkers.remove(object.getJLId());
+            changed();
+        }
+    }
+
+    private void send(List<JLMarker> addedMarkers, List<ShownCluster> addedClusters,
+                      List<String> removedMarkers, List<String> removedClusters) {
+        // calls on the markers made before must not be overtaken, e.g. a setLatLng before removeAll
+        engine.flush();
+        if (!removedMarkers.isEmpty() || !removedClusters.isEmpty()) {
+            List<String> removed = new ArrayList<>(removedMarkers);
+            removed.addAll(removedClusters);
+            engine.dispatch(JLClientDispatcher.encodeCommand("removeAll", removed));
+            for (String id : removedMarkers) {
+                shownMarkers.remove(id);
+                JLMarker marker = markers.get(id);
+                if (marker != null) {
+                    marker.setMaterialized(false);
+                }
+            }
+            for (String id : removedClusters) {
+                shownClusters.remove(id);
+                callbackHandler.getRegistry().remove(id);
+            }
+        }
+        if (!addedClusters.isEmpty()) {
+            List<String> ids = new ArrayList<>(addedClusters.size());
+            List<JLLatLng> latLngs = new ArrayList<>(addedClusters.size());
+            List<Integer> counts = new ArrayList<>(addedClusters.size());
+            for (ShownCluster shown : addedClusters) {
+                JLMarkerCluster cluster = shown.object();
+                ids.add(cluster.getJLId());
+                latLngs.add(cluster.getLatLng());
+                counts.add(cluster.getCount());
+                shownClusters.put(cluster.getJLId(), shown);
+                callbackHandler.addJLObject(cluster.getJLId(), cluster);
+            }
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("ids", ids);
+            payload.put("latLngs", latLngs);
+            payload.put("counts", counts);
+            payload.put("jlType", CLUSTER_TYPE);
+            engine.dispatch(JLClientDispatcher.encodeCommand("addClusters", payload));
+        }
+        if (addedMarkers.isEmpty()) {
+            return;
+        }
+        JLBulkBuilder<JLMarker> builder = builderFactory.get();
+        for (JLMarker marker : addedMarkers) {
+            builder.add(marker.getJLId(), marker.getLatLng());
+            shownMarkers.add(marker.getJLId());
+        }
+        engine.dispatch(builder.buildOperations());
+        for (JLMarker marker : addedMarkers) {
+            marker.setMaterialized(true);
+            marker.reattach();
+            if (marker.getIcon() != null) {
+                marker.setIcon(marker.getIcon());
+            }
+        }
+    }
+
+    /**
+     * Cluster index, the markers at its point indexes and the ids of the clusters looked up so far.
+     */
+    private record Snapshot(JLClusterIndex index, List<JLMarker> markers, Map<Long, String> clusterIds) {
+
+        /**
+         * @return an id that only depends on the zoom level, position and markers of the cluster,
+         * so equal clusters of different builds share it
+         */
+        String clusterId(JLClusterIndex.Cluster cluster, String prefix) {
+            return clusterIds.computeIfAbsent(((long) cluster.zoom() << 32) | cluster.index(), key -> {
+                // order-independent, the point indexes of a marker differ between builds
+                long members = 0;
+                for (int leaf : index.getLeaves(cluster)) {
+                    members += mix(markers.get(leaf).getJLId().hashCode());
+                }
+                long hash = mix(members ^ Double.doubleToLongBits(cluster.latLng().getLat()))
+                        ^ Double.doubleToLongBits(cluster.latLng().getLng());
+                return prefix + cluster.zoom() + "_" + cluster.count() + "_" + Long.toHexString(mix(hash));
+            });
+        }
+
+        private static long mix(long value) {
+            value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+            value = (value ^ (value >>> 33)) * 0xc4ceb93fe53ac49bL;
+            return value ^ (value >>> 33);
+        }
+    }
+
+    private record ShownCluster(JLMarkerCluster object, JLClusterIndex.Cluster cluster, Snapshot snapshot) {
+    }
+}
@@ -222,6 +222,21 @@ public interface JLMap<T> extends JLObject<JLMap<T>>, JLHasContextMenu<JLMap<T>>
         return new JLLatLng(lat, lng);
     }
 
+    /**
+     * Sends all batched object updates to the client immediately.
+     * <p>
+     * Only relevant when batching is enabled through
+     * {@code getJLEngine().getTransportBatch().setEnabled(true)}. Otherwise, updates are
+     * executed as they are issued and this method does nothing.
+     * </p>
+     *
+     * @throws JLMapNotReadyException if the map is not properly initialized
+     */
+    default void flush() {
+        checkMapState();
+        getJLEngine().flush();
+    }
+
     /**
      * Checks if the map is ready for operations.
      *
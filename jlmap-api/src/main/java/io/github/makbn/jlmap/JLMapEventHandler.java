@@ -1,16 +1,26 @@
 package io.github.makbn.jlmap;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
 import io.github.makbn.jlmap.listener.event.*;
-import io.github.makbn.jlmap.model.*;
+import io.github.makbn.jlmap.model.JLBounds;
+import io.github.makbn.jlmap.model.JLObject;
+import io.github.makbn.jlmap.model.JLObjectBase;
+import io.github.makbn.jlmap.model.JLViewportDependent;
+import io.github.makbn.jlmap.model.JLZoomDependent;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.Objects;
-import java.util.Set;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * @author Matt Akbarian  (@makbn)
@@ -21,35 +31,64 @@ public class JLMapEventHandler {
     public static final String MAP_TYPE = "map";
     public static final String MAP_UUID = "main_map";
 
-    HashMap<Class<? extends JLObject<?>>, HashMap<String, JLObject<?>>> jlObjects;
-
-    HashMap<String, Class<? extends JLObject<?>>[]> classMap;
-    Set<JLEventHandler> eventHandlers = Set.of(
-            new JLDragEventHandler(),
-            new JLInteractionEventHandler(),
-            new JLStatusChangeEventHandler(),
-            new JLLayerEventHandler()
-    );
+    /**
+     * Objects of the map by id, safe to change from any thread while events are dispatched.
+     */
+    @Getter
+    JLObjectRegistry registry;
+    /**
+     * Handler of each Leaflet event, built once from {@link JLEventHandler#getFunctions()}.
+     */
+    HashMap<String, JLEventHandler> eventHandlers;
+    /**
+     * Last zoom level reported by the client.
+     */
+    @Getter
+    @NonFinal
+    volatile int zoom = JLProperties.DEFAULT_INITIAL_ZOOM;
+    /**
+     * Last bounds reported by the client, {@code null} until the map was moved for the first time.
+     */
+    @Getter
+    @Nullable
+    @NonFinal
+    volatile JLBounds bounds;
+    /**
+     * Content updated after every move of the map.
+     */
+    List<JLViewportDependent> viewportDependents = new CopyOnWriteArrayList<>();
 
     public JLMapEventHandler() {
-        this.jlObjects = new HashMap<>();
-        this.classMap = new HashMap<>();
-        initClassMap();
+        this(JLObjectRegistry.Retention.STRONG);
     }
 
-    @SuppressWarnings("unchecked")
-    private void initClassMap() {
-        classMap.put(JLMarker.class.getSimpleName().toLowerCase(), new Class[]{JLMarker.class});
-        classMap.put(JLPopup.class.getSimpleName().toLowerCase(), new Class[]{JLPopup.class});
-        classMap.put(JLCircleMarker.class.getSimpleName().toLowerCase(), new Class[]{JLCircleMarker.class});
-        classMap.put(JLCircle.class.getSimpleName().toLowerCase(), new Class[]{JLCircle.class});
-        classMap.put(JLPolyline.class.getSimpleName().toLowerCase(), new Class[]{JLPolyline.class});
-        classMap.put(JLMultiPolyline.class.getSimpleName().toLowerCase(), new Class[]{JLMultiPolyline.class});
-        classMap.put(JLPolygon.class.getSimpleName().toLowerCase(), new Class[]{JLPolygon.class});
-        classMap.put(JLGeoJson.class.getSimpleName().toLowerCase(), new Class[]{JLGeoJson.class});
+    /**
+     * @param retention how the registry holds the objects of the map
+     */
+    public JLMapEventHandler(@NonNull JLObjectRegistry.Retention retention) {
+        this.registry = new JLObjectRegistry(retention);
+        this.eventHandlers = new HashMap<>();
+        initEventHandlers(new JLDragEventHandler(), new JLInteractionEventHandler(),
+                new JLStatusChangeEventHandler(), new JLLayerEventHandler());
+    }
+
+    private void initEventHandlers(JLEventHandler<?>... handlers) {
+        for (JLEventHandler<?> handler : handlers) {
+            for (String function : handler.getFunctions()) {
+                JLEventHandler<?> previous = eventHandlers.put(function, handler);
+                if (previous != null) {
+                    throw new IllegalStateException(String.format("%s is handled by %s and %s", function,
+                            previous.getClass().getSimpleName(), handler.getClass().getSimpleName()));
+                }
+            }
+        }
     }
 
     /**
+     * Routes an event to the listener of its source. Routing is two hash lookups, one for the
+     * handler of the function and one for the object, and doesn't allocate; the payload is only
+     * decoded once a listener is found.
+     *
      * @param functionName name of source function from js
      * @param jlType       name of object class
      * @param uuid         id of object
@@ -60,58 +99,148 @@ public class JLMapEventHandler {
     @SuppressWarnings("all")
     public void functionCalled(JLMap<?> mapView, String functionName, Object jlType, Object uuid,
                                Object param1, Object param2, Object param3) {
-        log.debug("function: {} jlType: {} uuid: {} param1: {} param2: {} param3: {}",
-                functionName, jlType, uuid, param1, param2, param3);
+        if (log.isDebugEnabled()) {
+            log.debug("function: {} jlType: {} uuid: {} param1: {} param2: {} param3: {}",
+                    functionName, jlType, uuid, param1, param2, param3);
+        }
         try {
-            //get target class of Leaflet layer in JL Application
-            Class<?>[] targetClasses = classMap.get(jlType);
-            if (targetClasses == null) {
-                targetClasses = classMap.get(jlType.toString().replace("jl", ""));
+            JLEventHandler handler = functionName != null ? eventHandlers.get(functionName) : null;
+            if (handler == null || jlType == null || uuid == null) {
+                return;
             }
-            //function called by an known class
-            if (targetClasses != null) {
-                //one Leaflet class may map to multiple class in JL Application
-                // like ployLine mapped to JLPolyline and JLMultiPolyline
-                Arrays.stream(targetClasses)
-                        .filter(jlObjects::containsKey)
-                        .map(targetClass -> jlObjects.get(targetClass).get(String.valueOf(uuid)))
-                        .filter(Objects::nonNull)
-                        .filter(jlObject -> Objects.nonNull(jlObject.getOnActionListener()))
-                        .forEach(jlObject -> invokeEventHandler(functionName, jlType, uuid, param1, param2, param3, mapView, jlObject));
-            } else if (MAP_TYPE.equals(jlType) && MAP_UUID.equals(uuid) && mapView.getOnActionListener() != null) {
-                eventHandlers.stream()
-                        .filter(hadler -> hadler.canHandle(functionName))
-                        .forEach(hadler -> hadler.handle(mapView, mapView, functionName, mapView.getOnActionListener(),
-                                jlType, uuid, param1, param2, param3));
+            if (MAP_TYPE.equals(jlType) && MAP_UUID.equals(uuid)) {
+                boolean zoomEnd = JLStatusChangeEventHandler.FUNCTION_ZOOM_END.equals(functionName);
+                boolean moveEnd = JLDragEventHandler.FUNCTION_MOVE_END.equals(functionName);
+                if (mapView.getOnActionListener() == null && !zoomEnd && !moveEnd) {
+                    return;
+                }
+                JLEventPayload payload = JLEventPayload.parse(param1, param2, param3);
+                //moveend also carries the zoom, e.g. the first report of a map that was never zoomed
+                if (zoomEnd || (moveEnd && param1 != null && payload.getZoom() != zoom)) {
+                    applyZoom(payload.getZoom());
+                }
+                //leaflet fires moveend after every zoom as well
+                if (moveEnd && payload.getBounds() != null) {
+                    applyViewport(payload.getBounds());
+                }
+                if (mapView.getOnActionListener() != null) {
+                    handler.handle(mapView, mapView, functionName, mapView.getOnActionListener(), payload);
+                }
+                return;
+            }
+            //ids are unique per map, the type sent by the client isn't needed to find the object
+            String id = uuid instanceof String value ? value : String.valueOf(uuid);
+            JLObject<?> jlObject = registry.get(id);
+            if (jlObject != null && jlObject.getOnActionListener() != null) {
+                handler.handle(mapView, jlObject, functionName, jlObject.getOnActionListener(),
+                        JLEventPayload.parse(param1, param2, param3));
+            }
+            //the layer is gone on the client, no further events can reach it
+            if (jlObject instanceof JLObjectBase<?> base && JLLayerEventHandler.FUNCTION_REMOVE.equals(functionName)) {
+                // also releases it from the client-to-server bridge and the layers
+                base.release();
+            } else if (jlObject != null && JLLayerEventHandler.FUNCTION_REMOVE.equals(functionName)) {
+                registry.remove(id, jlObject.getClass());
             }
         } catch (Exception e) {
             log.error(e.getMessage(), e);
         }
     }
 
-    private void invokeEventHandler(String functionName, Object jlType, Object uuid, Object param1, Object param2, Object param3, JLMap<?> map, JLObject<?> jlObject) {
-        eventHandlers.stream()
-                .filter(handler -> handler.canHandle(functionName))
-                .forEach(handler -> handler.handle(map, jlObject, functionName,
-                        jlObject.getOnActionListener(), jlType, uuid, param1, param2, param3));
+    /**
+     * Dispatches a batch of events collected by the client, in the order they happened.
+     *
+     * @param mapView the map the events belong to
+     * @param events  JSON array of {@code [functionName, jlType, uuid, param1, param2, param3]} entries
+     */
+    public void functionsCalled(JLMap<?> mapView, @NonNull String events) {
+        JsonArray batch;
+        try {
+            batch = JsonParser.parseString(events).getAsJsonArray();
+        } catch (RuntimeException e) {
+            log.error("invalid event batch: {}", events, e);
+            return;
+        }
+        for (JsonElement element : batch) {
+            JsonArray event = element.getAsJsonArray();
+            functionCalled(mapView, argument(event, 0), argument(event, 1), argument(event, 2),
+                    argument(event, 3), argument(event, 4), argument(event, 5));
+        }
     }
 
-    public void addJLObject(@NonNull String key, @NonNull JLObject<?> object) {
-        if (jlObjects.containsKey(object.getClass())) {
-            jlObjects.get(object.getClass())
-                    .put(key, object);
-        } else {
-            HashMap<String, JLObject<?>> map = new HashMap<>();
-            map.put(key, object);
-            //noinspection unchecked
-            jlObjects.put((Class<? extends JLObject<?>>) object.getClass(), map);
+    private static String argument(JsonArray event, int index) {
+        if (index >= event.size() || event.get(index).isJsonNull()) {
+            return null;
         }
+        JsonElement argument = event.get(index);
+        return argument.isJsonPrimitive() ? argument.getAsString() : argument.toString();
+    }
+
+    /**
+     * Updates the {@link JLZoomDependent zoom dependent} objects, e.g. the levels of detail of
+     * simplified paths, once the map finished zooming.
+     *
+     * @param zoom the new zoom level of the map
+     */
+    public void applyZoom(int zoom) {
+        this.zoom = zoom;
+        for (JLZoomDependent zoomDependent : registry.zoomDependents()) {
+            try {
+                zoomDependent.applyZoom(zoom);
+            } catch (RuntimeException e) {
+                log.error("failed to apply zoom {} to {}", zoom, ((JLObject<?>) zoomDependent).getJLId(), e);
+            }
+        }
+    }
+
+    /**
+     * Updates the {@link #addViewportDependent(JLViewportDependent) viewport dependent} content
+     * once the map finished moving.
+     *
+     * @param bounds the new bounds of the map
+     */
+    public void applyViewport(@NonNull JLBounds bounds) {
+        this.bounds = bounds;
+        for (JLViewportDependent viewportDependent : viewportDependents) {
+            try {
+                viewportDependent.applyViewport(bounds);
+            } catch (RuntimeException e) {
+                log.error("failed to apply bounds {} to {}", bounds, viewportDependent, e);
+            }
+        }
+    }
+
+    /**
+     * Calls {@link JLViewportDependent#applyViewport(JLBounds)} after every move of the map,
+     * starting with the current bounds if already known.
+     */
+    public void addViewportDependent(@NonNull JLViewportDependent viewportDependent) {
+        viewportDependents.add(viewportDependent);
+        JLBounds current = bounds;
+        if (current != null) {
+            viewportDependent.applyViewport(current);
+        }
+    }
+
+    public void removeViewportDependent(@NonNull JLViewportDependent viewportDependent) {
+        viewportDependents.remove(viewportDependent);
+    }
+
+    public void addJLObject(@NonNull String key, @NonNull JLObject<?> object) {
+        registry.put(key, object);
+    }
+
+    /**
+     * Registers a set of objects under their {@link JLObject#getJLId() ids} in one pass.
+     *
+     * @param objects objects to register
+     */
+    public void addJLObjects(@NonNull Collection<? extends JLObject<?>> objects) {
+        registry.putAll(objects);
     }
 
     public void remove(@NonNull Class<? extends JLObject<?>> targetClass, @NonNull String key) {
-        if (!jlObjects.containsKey(targetClass))
-            return;
-        JLObject<?> object = jlObjects.get(targetClass).remove(key);
+        JLObject<?> object = registry.remove(key, targetClass);
         if (object != null) {
             log.error("{} id: {} removed", targetClass.getSimpleName(), object.getJLId());
         }
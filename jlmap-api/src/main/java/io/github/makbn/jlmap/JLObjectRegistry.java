@@ -0,0 +1,312 @@
+package io.github.makbn.jlmap;
+
+import io.github.makbn.jlmap.model.JLObject;
+import io.github.makbn.jlmap.model.JLObjectBase;
+import io.github.makbn.jlmap.model.JLZoomDependent;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe registry of the objects of a map, keyed by their id.
+ * <p>
+ * Layers add and remove objects from any thread while client events read them, so all operations
+ * are non-blocking for readers and safe to call concurrently. Ids are unique per map, lookups
+ * therefore don't need the class of the object. Iteration over {@link #values()} and {@link #ids()}
+ * is weakly consistent: it never throws {@link java.util.ConcurrentModificationException} and
+ * reflects the registry at some point during the iteration.
+ * </p>
+ * <p>
+ * Objects with a position, e.g. markers and circles, are also kept in a {@link #getSpatialIndex()
+ * spatial index} that follows their moves through {@code setLatLng}. The ids of
+ * {@link JLZoomDependent zoom dependent} objects are kept apart, so zooming doesn't scan all objects.
+ * </p>
+ * <p>
+ * Objects are released as soon as they are {@link JLObjectBase#remove() removed} from the map.
+ * With {@link Retention#WEAK} the registry additionally doesn't keep objects alive that the
+ * application no longer references.
+ * </p>
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class JLObjectRegistry {
+    /**
+     * Values are either the objects themselves or, for weak retention, an {@link ObjectReference}.
+     */
+    ConcurrentHashMap<String, Object> objects = new ConcurrentHashMap<>();
+    @Getter
+    Retention retention;
+    @Nullable
+    ReferenceQueue<JLObject<?>> collected;
+    LongAdder evictions = new LongAdder();
+    Consumer<JLObject<?>> onRemoved = this::release;
+    Consumer<JLObject<?>> onMoved = this::moved;
+    /**
+     * Positions of the registered objects that have one.
+     */
+    @Getter
+    JLSpatialIndex spatialIndex;
+    /**
+     * Ids of the registered objects that are {@link JLZoomDependent}.
+     */
+    Set<String> zoomDependentIds = ConcurrentHashMap.newKeySet();
+
+    public JLObjectRegistry() {
+        this(Retention.STRONG);
+    }
+
+    public JLObjectRegistry(@NonNull Retention retention) {
+        this.retention = retention;
+        this.collected = retention == Retention.WEAK ? new ReferenceQueue<>() : null;
+        // weakly held objects are looked up by id so that the index doesn't keep them alive
+        this.spatialIndex = new JLSpatialIndex(JLSpatialIndex.DEFAULT_CELL_SIZE, collected != null ? this::get : null);
+    }
+
+    /**
+     * Registers the object under the given id, replacing any object registered with the same id.
+     *
+     * @return the replaced object, {@code null} if there was none
+     */
+    @Nullable
+    public JLObject<?> put(@NonNull String id, @NonNull JLObject<?> object) {
+        expunge();
+        if (object instanceof JLObjectBase<?> base) {
+            base.addRemovalListener(onRemoved);
+            base.addMoveListener(onMoved);
+        }
+        JLObject<?> replaced = unwrap(objects.put(id, wrap(id, object)));
+        spatialIndex.add(object);
+        if (object instanceof JLZoomDependent) {
+            zoomDependentIds.add(id);
+        } else {
+            zoomDependentIds.remove(id);
+        }
+        return replaced;
+    }
+
+    /**
+     * Registers all objects under their {@link JLObject#getJLId() ids}.
+     */
+    public void putAll(@NonNull Collection<? extends JLObject<?>> objects) {
+        for (JLObject<?> object : objects) {
+            put(object.getJLId(), object);
+        }
+    }
+
+    /**
+     * @return the object registered with the id, {@code null} if there is none
+     */
+    @Nullable
+    public JLObject<?> get(@NonNull String id) {
+        return unwrap(objects.get(id));
+    }
+
+    /**
+     * @return the object registered with the id, {@code null} if there is none or it is not of the given type
+     */
+    @Nullable
+    public <T> T get(@NonNull String id, @NonNull Class<T> type) {
+        JLObject<?> object = get(id);
+        return type.isInstance(object) ? type.cast(object) : null;
+    }
+
+    /**
+     * @return the removed object, {@code null} if there was none
+     */
+    @Nullable
+    public JLObject<?> remove(@NonNull String id) {
+        expunge();
+        JLObject<?> removed = unwrap(objects.remove(id));
+        spatialIndex.remove(id);
+        zoomDependentIds.remove(id);
+        return removed;
+    }
+
+    /**
+     * Removes the object registered with the id if it is of the given type.
+     *
+     * @return the removed object, {@code null} if there was none of the given type
+     */
+    @Nullable
+    public <T> T remove(@NonNull String id, @NonNull Class<T> type) {
+        expunge();
+        Object value = objects.get(id);
+        JLObject<?> object = unwrap(value);
+        if (type.isInstance(object) && objects.remove(id, value)) {
+            spatialIndex.remove(id);
+            zoomDependentIds.remove(id);
+            return type.cast(object);
+        }
+        return null;
+    }
+
+    public boolean contains(@NonNull String id) {
+        return get(id) != null;
+    }
+
+    /**
+     * @return number of registered objects, objects collected since the last change may still be counted
+     */
+    public int size() {
+        expunge();
+        return objects.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return number of objects released because they were removed from the map or collected
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return read-only live view of the registered ids
+     */
+    public Set<String> ids() {
+        return Collections.unmodifiableSet(objects.keySet());
+    }
+
+    /**
+     * @return the registered objects that are {@link JLZoomDependent}, without looking at the others
+     */
+    public List<JLZoomDependent> zoomDependents() {
+        List<JLZoomDependent> result = new ArrayList<>(zoomDependentIds.size());
+        for (String id : zoomDependentIds) {
+            if (get(id) instanceof JLZoomDependent zoomDependent) {
+                result.add(zoomDependent);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return read-only live view of the registered objects
+     */
+    public Collection<JLObject<?>> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<JLObject<?>> iterator() {
+                Iterator<Object> values = objects.values().iterator();
+                return new Iterator<>() {
+                    JLObject<?> next;
+
+                    @Override
+                    public boolean hasNext() {
+                        while (next == null && values.hasNext()) {
+                            next = unwrap(values.next());
+                        }
+                        return next != null;
+                    }
+
+                    @Override
+                    public JLObject<?> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        JLObject<?> object = next;
+                        next = null;
+                        return object;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return objects.size();
+            }
+        };
+    }
+
+    public void clear() {
+        objects.clear();
+        spatialIndex.clear();
+        zoomDependentIds.clear();
+    }
+
+    private void release(JLObject<?> object) {
+        String id = object.getJLId();
+        Object value = objects.get(id);
+        if (value != null && unwrap(value) == object && objects.remove(id, value)) {
+            spatialIndex.remove(id);
+            zoomDependentIds.remove(id);
+            evictions.increment();
+        }
+    }
+
+    private void moved(JLObject<?> object) {
+        if (get(object.getJLId()) == object) {
+            spatialIndex.update(object);
+        }
+    }
+
+    /**
+     * Drops the entries of objects that were garbage collected.
+     */
+    private void expunge() {
+        if (collected == null) {
+            return;
+        }
+        Reference<? extends JLObject<?>> reference;
+        while ((reference = collected.poll()) != null) {
+            String id = ((ObjectReference) reference).id;
+            if (objects.remove(id, reference)) {
+                spatialIndex.remove(id);
+                zoomDependentIds.remove(id);
+                evictions.increment();
+            }
+        }
+    }
+
+    private Object wrap(String id, JLObject<?> object) {
+        return collected == null ? object : new ObjectReference(id, object, collected);
+    }
+
+    @Nullable
+    private static JLObject<?> unwrap(@Nullable Object value) {
+        if (value instanceof ObjectReference reference) {
+            return reference.get();
+        }
+        return (JLObject<?>) value;
+    }
+
+    /**
+     * How the registry holds its objects.
+     */
+    public enum Retention {
+        /**
+         * Objects stay registered until they are removed from the map or from the registry.
+         */
+        STRONG,
+        /**
+         * Like {@link #STRONG}, but objects the application no longer references are dropped once
+         * they are garbage collected. Their events are no longer delivered, so keep a reference to
+         * every object whose listener should keep working.
+         */
+        WEAK
+    }
+
+    private static final class ObjectReference extends WeakReference<JLObject<?>> {
+        final String id;
+
+        ObjectReference(String id, JLObject<?> object, ReferenceQueue<JLObject<?>> queue) {
+            super(object, queue);
+            this.id = id;
+        }
+    }
+}
@@ -9,6 +9,10 @@ import lombok.NoArgsConstructor;
 public final class JLProperties {
     public static final int INIT_MIN_WIDTH = 1024;
     public static final int INIT_MIN_HEIGHT = 576;
+    /**
+     * @deprecated not used anymore, distances use {@link io.github.makbn.jlmap.model.JLGeodesy#EARTH_RADIUS}
+     */
+    @Deprecated(since = "2.0.0")
     public static final int EARTH_RADIUS = 6367;
     public static final int DEFAULT_CIRCLE_RADIUS = 200;
     public static final int DEFAULT_CIRCLE_MARKER_RADIUS = 10;
@@ -0,0 +1,359 @@
+package io.github.makbn.jlmap;
+
+import io.github.makbn.jlmap.model.JLBounds;
+import io.github.makbn.jlmap.model.JLGeodesy;
+import io.github.makbn.jlmap.model.JLHasLatLng;
+import io.github.makbn.jlmap.model.JLLatLng;
+import io.github.makbn.jlmap.model.JLObject;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe index of the positions of {@link JLHasLatLng point objects}, e.g. markers and
+ * circles, answering which objects are inside bounds, within a radius or nearest to a point
+ * without iterating all objects.
+ * <p>
+ * Positions are kept in a uniform grid of {@link #getCellSize() cellSize} degrees. A query only
+ * visits the cells it overlaps, or the occupied cells if those are fewer, so its cost depends on
+ * the number of objects near the queried area rather than on the number of objects of the map.
+ * Circles are indexed by their center. The index of a map is maintained by its
+ * {@link JLObjectRegistry}: objects are added when registered, moved when their position is
+ * changed through {@code setLatLng} and removed when they are removed from the map.
+ * </p>
+ * <p>
+ * Queries are weakly consistent like {@link JLObjectRegistry#values()}: objects added, moved or
+ * removed during a query may or may not be reflected in its result.
+ * </p>
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class JLSpatialIndex {
+    /**
+     * Cell size of the grid in degrees, about 28 km in latitude.
+     */
+    public static final double DEFAULT_CELL_SIZE = 0.25;
+    private static final double EARTH_RADIUS_METERS = JLGeodesy.EARTH_RADIUS;
+    private static final double HALF_CIRCUMFERENCE_METERS = Math.PI * EARTH_RADIUS_METERS;
+
+    /**
+     * Size of a grid cell in degrees.
+     */
+    @Getter
+    double cellSize;
+    int rows;
+    int columns;
+    ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    ConcurrentHashMap<Long, Set<Entry>> cells = new ConcurrentHashMap<>();
+    /**
+     * Resolves the id of an entry to the object, {@code null} if it is no longer available.
+     */
+    Function<String, JLObject<?>> resolver;
+
+    /**
+     * Creates an index that holds the added objects itself.
+     */
+    public JLSpatialIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Creates an index that holds the added objects itself.
+     *
+     * @param cellSize size of a grid cell in degrees, ideally in the order of the queried areas
+     */
+    public JLSpatialIndex(double cellSize) {
+        this(cellSize, null);
+    }
+
+    /**
+     * @param resolver resolves ids to the objects, {@code null} to hold the objects in the index
+     */
+    JLSpatialIndex(double cellSize, @Nullable Function<String, JLObject<?>> resolver) {
+        if (!(cellSize > 0 && cellSize <= 90)) {
+            throw new IllegalArgumentException("cell size must be in (0, 90]: " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.rows = (int) Math.ceil(180 / cellSize);
+        this.columns = (int) Math.ceil(360 / cellSize);
+        this.resolver = resolver;
+    }
+
+    /**
+     * Adds the object at its current position or moves it there if it is already indexed.
+     * Objects without a position are ignored.
+     *
+     * @return {@code true} if the object is indexed
+     */
+    public boolean add(@NonNull JLObject<?> object) {
+        JLLatLng latLng = object instanceof JLHasLatLng located ? located.getLatLng() : null;
+        if (latLng == null) {
+            remove(object);
+            return false;
+        }
+        String id = object.getJLId();
+        JLObject<?> reference = resolver == null ? object : null;
+        entries.compute(id, (key, previous) -> {
+            if (previous != null) {
+                removeFromCell(previous);
+            }
+            Entry entry = new Entry(id, reference, latLng.getLat(), latLng.getLng(), cell(latLng.getLat(), latLng.getLng()));
+            cells.compute(entry.cell, (cell, members) -> {
+                Set<Entry> result = members != null ? members : ConcurrentHashMap.newKeySet();
+                result.add(entry);
+                return result;
+            });
+            return entry;
+        });
+        return true;
+    }
+
+    /**
+     * Moves the object to its current position, same as {@link #add(JLObject)}.
+     */
+    public boolean update(@NonNull JLObject<?> object) {
+        return add(object);
+    }
+
+    /**
+     * @return {@code true} if the object was indexed
+     */
+    public boolean remove(@NonNull JLObject<?> object) {
+        return remove(object.getJLId());
+    }
+
+    /**
+     * @return {@code true} if an object with the id was indexed
+     */
+    public boolean remove(@NonNull String id) {
+        boolean[] removed = new boolean[1];
+        entries.computeIfPresent(id, (key, entry) -> {
+            removeFromCell(entry);
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    public boolean contains(@NonNull String id) {
+        return entries.containsKey(id);
+    }
+
+    /**
+     * @return number of indexed objects
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+        cells.clear();
+    }
+
+    /**
+     * @param bounds area to search, including its edges. Bounds crossing the antimeridian may have
+     *               a west longitude greater than their east one, or an east longitude beyond 180
+     *               like Leaflet reports them for wrapped maps
+     * @return the objects whose position is inside the bounds, in no particular order
+     */
+    public List<JLObject<?>> query(@NonNull JLBounds bounds) {
+        double south = bounds.getSouth();
+        double north = bounds.getNorth();
+        double west = bounds.getWest();
+        double extent = bounds.getEast() - west;
+        if (extent < 0) {
+            extent += 360;
+        }
+        if (extent >= 360) {
+            west = -180;
+            extent = 360;
+        }
+        double queryWest = west;
+        double queryExtent = extent;
+        List<JLObject<?>> result = new ArrayList<>();
+        for (Entry entry : candidates(south, north, west, west + extent, entry -> entry.lat >= south
+                && entry.lat <= north && eastOf(queryWest, entry.lng) <= queryExtent)) {
+            addResolved(result, entry);
+        }
+        return result;
+    }
+
+    /**
+     * @param type type of the objects to return, e.g. {@code JLMarker.class}
+     * @return the objects of the type whose position is inside the bounds, in no particular order
+     */
+    public <T> List<T> query(@NonNull JLBounds bounds, @NonNull Class<T> type) {
+        List<T> result = new ArrayList<>();
+        for (JLObject<?> object : query(bounds)) {
+            if (type.isInstance(object)) {
+                result.add(type.cast(object));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param center center of the circle to search
+     * @param radius radius in meters
+     * @return the objects at most the radius away from the center, nearest first
+     */
+    public List<JLObject<?>> withinRadius(@NonNull JLLatLng center, double radius) {
+        List<Neighbor> neighbors = neighbors(center.getLat(), center.getLng(), radius);
+        neighbors.sort(null);
+        List<JLObject<?>> result = new ArrayList<>(neighbors.size());
+        for (Neighbor neighbor : neighbors) {
+            addResolved(result, neighbor.entry);
+        }
+        return result;
+    }
+
+    /**
+     * @param point the point to search from
+     * @param count maximum number of objects to return
+     * @return up to {@code count} objects nearest to the point, nearest first
+     */
+    public List<JLObject<?>> nearest(@NonNull JLLatLng point, int count) {
+        if (count <= 0 || entries.isEmpty()) {
+            return List.of();
+        }
+        // grow the searched circle until it contains enough objects, all objects within it are
+        // nearer than the ones outside
+        double radius = Math.toRadians(cellSize) * EARTH_RADIUS_METERS;
+        List<Neighbor> neighbors = neighbors(point.getLat(), point.getLng(), radius);
+        while (neighbors.size() < count && radius < HALF_CIRCUMFERENCE_METERS) {
+            radius *= 4;
+            neighbors = neighbors(point.getLat(), point.getLng(), radius);
+        }
+        neighbors.sort(null);
+        List<JLObject<?>> result = new ArrayList<>(Math.min(count, neighbors.size()));
+        for (Neighbor neighbor : neighbors) {
+            if (result.size() == count) {
+                break;
+            }
+            addResolved(result, neighbor.entry);
+        }
+        return result;
+    }
+
+    private List<Neighbor> neighbors(double lat, double lng, double radius) {
+        List<Neighbor> neighbors = new ArrayList<>();
+        if (!(radius >= 0)) {
+            return neighbors;
+        }
+        double angle = radius / EARTH_RADIUS_METERS;
+        double south = lat - Math.toDegrees(angle);
+        double north = lat + Math.toDegrees(angle);
+        // widest longitude extent of the circle, all longitudes if it contains a pole
+        double sinExtent = Math.sin(angle) / Math.cos(Math.toRadians(lat));
+        double lngRadius = south <= -90 || north >= 90 || !(sinExtent < 1) ? 180 : Math.toDegrees(Math.asin(sinExtent));
+        Predicate<Entry> within = entry -> JLGeodesy.distance(lat, lng, entry.lat, entry.lng) <= radius;
+        for (Entry entry : candidates(Math.max(-90, south), Math.min(90, north), lng - lngRadius, lng + lngRadius, within)) {
+            neighbors.add(new Neighbor(entry, JLGeodesy.distance(lat, lng, entry.lat, entry.lng)));
+        }
+        return neighbors;
+    }
+
+    /**
+     * Collects the entries matching the filter from the cells overlapping the area. West and east
+     * may be outside of -180 to 180 for areas crossing the antimeridian.
+     */
+    private List<Entry> candidates(double south, double north, double west, double east, Predicate<Entry> filter) {
+        List<Entry> result = new ArrayList<>();
+        if (!(south <= north && west <= east)) {
+            return result;
+        }
+        int firstRow = row(south);
+        int lastRow = row(north);
+        long firstColumn = (long) Math.floor((west + 180) / cellSize);
+        long lastColumn = (long) Math.floor((east + 180) / cellSize);
+        long columnCount = Math.min(columns, lastColumn - firstColumn + 1);
+        if ((long) (lastRow - firstRow + 1) * columnCount > cells.size()) {
+            for (Set<Entry> members : cells.values()) {
+                collect(members, filter, result);
+            }
+            return result;
+        }
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (long column = firstColumn; column < firstColumn + columnCount; column++) {
+                Set<Entry> members = cells.get((long) row * columns + Math.floorMod(column, columns));
+                if (members != null) {
+                    collect(members, filter, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return degrees from the west longitude eastwards to the longitude, from 0 to 360
+     */
+    private static double eastOf(double west, double lng) {
+        double offset = (lng - west) % 360;
+        return offset < 0 ? offset + 360 : offset;
+    }
+
+    private static void collect(Set<Entry> members, Predicate<Entry> filter, List<Entry> result) {
+        for (Entry entry : members) {
+            if (filter.test(entry)) {
+                result.add(entry);
+            }
+        }
+    }
+
+    private void addResolved(List<JLObject<?>> result, Entry entry) {
+        JLObject<?> object = entry.object != null ? entry.object : resolver.apply(entry.id);
+        if (object != null) {
+            result.add(object);
+        }
+    }
+
+    private void removeFromCell(Entry entry) {
+        cells.computeIfPresent(entry.cell, (cell, members) -> {
+            members.remove(entry);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    private long cell(double lat, double lng) {
+        return (long) row(lat) * columns + Math.floorMod((long) Math.floor((lng + 180) / cellSize), columns);
+    }
+
+    private int row(double lat) {
+        return (int) Math.max(0, Math.min(rows - 1, Math.floor((lat + 90) / cellSize)));
+    }
+
+    /**
+     * Position of an object when it was indexed. Entries are compared by identity, a moved object
+     * gets a new entry.
+     *
+     * @param object the object if the index holds it, otherwise resolved by id
+     */
+    private record Entry(String id, @Nullable JLObject<?> object, double lat, double lng, long cell) {
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+
+    private record Neighbor(Entry entry, double distance) implements Comparable<Neighbor> {
+        @Override
+        public int compareTo(Neighbor other) {
+            return Double.compare(distance, other.distance);
+        }
+    }
+}
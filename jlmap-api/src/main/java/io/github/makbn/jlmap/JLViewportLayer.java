@@ -0,0 +1,282 @@
+package io.github.makbn.jlmap;
+
+import io.github.makbn.jlmap.engine.JLClientDispatcher;
+import io.github.makbn.jlmap.engine.JLWebEngine;
+import io.github.makbn.jlmap.model.*;
+import io.github.makbn.jlmap.model.builder.JLBulkBuilder;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A set of point objects, e.g. markers, that only exist on the client while they are near the
+ * visible area of the map.
+ * <p>
+ * The server keeps all objects of the layer, they are registered with the map and can be used
+ * like any other object. After every move of the map the layer sends the objects that entered the
+ * {@link JLBounds#pad(double) padded} bounds in one {@code addAll} and drops the ones that left
+ * them in one {@code removeAll}, so the memory and DOM size of the client depend on the objects
+ * near the viewport instead of the size of the dataset. Objects are found through a
+ * {@link JLSpatialIndex} of the layer.
+ * </p>
+ * <p>
+ * Objects that are not on the client don't receive events and don't send calls, e.g. moving or
+ * removing them only updates the layer. Listeners, their forwarded actions and the icons of
+ * markers are restored when the object is sent again; other client-side state, e.g. opened
+ * popups, is not.
+ * </p>
+ *
+ * @param <M> type of the objects
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class JLViewportLayer<M extends JLObjectBase<M> & JLHasLatLng> implements JLViewportDependent {
+    /**
+     * Objects within a quarter of the visible width or height around the viewport are kept on the
+     * client, short moves don't send anything.
+     */
+    public static final double DEFAULT_PADDING = 0.25;
+
+    JLWebEngine<?> engine;
+    JLMapEventHandler callbackHandler;
+    /**
+     * Creates a builder configured with the options and callbacks of the objects.
+     */
+    Supplier<JLBulkBuilder<M>> builderFactory;
+    Supplier<String> idGenerator;
+    JLSpatialIndex index = new JLSpatialIndex();
+    /**
+     * Objects currently on the client by id, guarded by this layer.
+     */
+    Map<String, M> materialized = new HashMap<>();
+    Consumer<JLObject<?>> onRemoved = this::release;
+    Consumer<JLObject<?>> onMoved = this::moved;
+    /**
+     * Fraction of the visible width and height added around the viewport.
+     */
+    @Getter
+    @NonFinal
+    volatile double padding = DEFAULT_PADDING;
+    /**
+     * Last bounds of the map, {@code null} until known. Guarded by this layer.
+     */
+    @Nullable
+    @NonFinal
+    JLBounds bounds;
+    /**
+     * Padded bounds, guarded by this layer.
+     */
+    @Nullable
+    @NonFinal
+    JLBounds viewport;
+
+    /**
+     * Creates an empty layer and starts following the bounds of the map.
+     *
+     * @param engine          engine of the map
+     * @param callbackHandler event handler of the map, objects are registered with it
+     * @param builderFactory  creates a builder with the options and callbacks of the objects
+     * @param idGenerator     creates the unique ids of new objects
+     */
+    public JLViewportLayer(@NonNull JLWebEngine<?> engine, @NonNull JLMapEventHandler callbackHandler,
+                           @NonNull Supplier<JLBulkBuilder<M>> builderFactory, @NonNull Supplier<String> idGenerator) {
+        this.engine = engine;
+        this.callbackHandler = callbackHandler;
+        this.builderFactory = builderFactory;
+        this.idGenerator = idGenerator;
+        callbackHandler.addViewportDependent(this);
+        if (callbackHandler.getBounds() == null) {
+            // the map wasn't moved yet, ask it for its bounds
+            engine.dispatch(JLClientDispatcher.encodeCommand("reportView"));
+        }
+    }
+
+    /**
+     * Adds objects at the positions, only the ones near the viewport are sent to the client.
+     *
+     * @return the added objects, in the iteration order of {@code latLngs}
+     */
+    public List<M> addAll(@NonNull Collection<JLLatLng> latLngs) {
+        JLBulkBuilder<M> builder = builderFactory.get();
+        latLngs.forEach(latLng -> builder.add(idGenerator.get(), latLng));
+        if (builder.size() == 0) {
+            return List.of();
+        }
+        List<M> objects = builder.buildJLObjects();
+        for (M object : objects) {
+            object.setMaterialized(false);
+            object.addRemovalListener(onRemoved);
+            object.addMoveListener(onMoved);
+            index.add(object);
+        }
+        callbackHandler.addJLObjects(objects);
+        synchronized (this) {
+            if (viewport != null) {
+                List<M> visible = new ArrayList<>();
+                for (M object : objects) {
+                    if (viewport.contains(object.getLatLng())) {
+                        visible.add(object);
+                    }
+                }
+                send(visible, List.of());
+            }
+        }
+        return objects;
+    }
+
+    /**
+     * @return the added object
+     * @see #addAll(Collection)
+     */
+    public M add(@NonNull JLLatLng latLng) {
+        return addAll(List.of(latLng)).get(0);
+    }
+
+    /**
+     * Removes the object from the layer and the map.
+     *
+     * @return {@code true} if the object belonged to this layer
+     */
+    public boolean remove(@NonNull M object) {
+        if (!index.contains(object.getJLId())) {
+            return false;
+        }
+        object.remove();
+        return true;
+    }
+
+    /**
+     * @return the objects of the layer whose position is inside the bounds, whether on the client or not
+     */
+    @SuppressWarnings("unchecked")
+    public List<M> query(@NonNull JLBounds bounds) {
+        return (List<M>) (List<?>) index.query(bounds);
+    }
+
+    /**
+     * @return number of objects of the layer
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * @return number of objects currently on the client
+     */
+    public synchronized int getMaterializedCount() {
+        return materialized.size();
+    }
+
+    /**
+     * @param padding fraction of the visible width and height around the viewport whose objects
+     *                are kept on the client, {@code 0} for the visible area only
+     */
+    public void setPadding(double padding) {
+        if (!(padding >= 0)) {
+            throw new IllegalArgumentException("padding must not be negative: " + padding);
+        }
+        this.padding = padding;
+        synchronized (this) {
+            if (bounds != null) {
+                applyViewport(bounds);
+            }
+        }
+    }
+
+    /**
+     * Removes all objects of the layer from the client and stops following the map, the objects
+     * stay registered.
+     */
+    public synchronized void detach() {
+        callbackHandler.removeViewportDependent(this);
+        send(List.of(), new ArrayList<>(materialized.keySet()));
+        bounds = null;
+        viewport = null;
+    }
+
+    @Override
+    public synchronized void applyViewport(@NonNull JLBounds bounds) {
+        this.bounds = bounds;
+        this.viewport = bounds.pad(padding);
+        List<M> added = new ArrayList<>();
+        Set<String> visible = new HashSet<>();
+        for (JLObject<?> object : index.query(viewport)) {
+            visible.add(object.getJLId());
+            if (!materialized.containsKey(object.getJLId())) {
+                added.add(cast(object));
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        for (String id : materialized.keySet()) {
+            if (!visible.contains(id)) {
+                removed.add(id);
+            }
+        }
+        send(added, removed);
+    }
+
+    private synchronized void moved(JLObject<?> object) {
+        if (!index.contains(object.getJLId())) {
+            return;
+        }
+        index.update(object);
+        if (viewport == null) {
+            return;
+        }
+        boolean inside = viewport.contains(((JLHasLatLng) object).getLatLng());
+        boolean onClient = materialized.containsKey(object.getJLId());
+        if (inside && !onClient) {
+            send(List.of(cast(object)), List.of());
+        } else if (!inside && onClient) {
+            send(List.of(), List.of(object.getJLId()));
+        }
+    }
+
+    private synchronized void release(JLObject<?> object) {
+        index.remove(object);
+        materialized.remove(object.getJLId());
+    }
+
+    private void send(List<M> added, List<String> removed) {
+        // calls on the objects made before must not be overtaken, e.g. a setLatLng before removeAll
+        engine.flush();
+        if (!removed.isEmpty()) {
+            engine.dispatch(JLClientDispatcher.encodeCommand("removeAll", removed));
+            for (String id : removed) {
+                M object = materialized.remove(id);
+                if (object != null) {
+                    object.setMaterialized(false);
+                }
+            }
+        }
+        if (added.isEmpty()) {
+            return;
+        }
+        JLBulkBuilder<M> builder = builderFactory.get();
+        for (M object : added) {
+            builder.add(object.getJLId(), object.getLatLng());
+            materialized.put(object.getJLId(), object);
+        }
+        engine.dispatch(builder.buildOperations());
+        for (M object : added) {
+            object.setMaterialized(true);
+            object.reattach();
+            if (object instanceof JLMarker marker && marker.getIcon() != null) {
+                marker.setIcon(marker.getIcon());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private M cast(JLObject<?> object) {
+        return (M) object;
+    }
+}
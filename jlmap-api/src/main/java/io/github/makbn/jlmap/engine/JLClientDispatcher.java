@@ -0,0 +1,683 @@
+package io.github.makbn.jlmap.engine;
+
+import io.github.makbn.jlmap.listener.JLAction;
+import io.github.makbn.jlmap.model.*;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Client-side command dispatcher and the compact wire format used to drive it.
+ * <p>
+ * Instead of generating a JavaScript source string per call, transport requests are encoded as
+ * a JSON array of operations {@code [[objectId, function, [args...]], ...]} and handed to
+ * {@code window.jlDispatch(root, ops)}, which is installed once when the map is initialized.
+ * The script executed per call is therefore constant and never needs to be parsed or compiled
+ * again by the browser; only the data changes.
+ * </p>
+ * <p>
+ * Operations addressed to the object id {@value #COMMAND_TARGET} invoke built-in dispatcher commands
+ * instead of an object method, e.g. {@code addAll} which instantiates a whole set of layers in one
+ * client-side loop (see {@link #encodeCommand(String, Object...)}), {@code removeAll} which drops
+ * layers from the map without reporting their removal, {@code reportView} which makes the map
+ * send its current bounds through {@code moveend} and {@code addClusters} which adds clickable
+ * cluster markers labeled with their number of points. Other operations can address the map
+ * itself through the object id {@value #MAP_TARGET} (see {@link #encodeCall(String, String, Object...)}).
+ * </p>
+ * <p>
+ * Operations of returnable requests carry a fourth element {@code 1}. Operations addressed to an
+ * object that doesn't exist on the client are skipped with a warning, except for returnable ones,
+ * which fail the whole call instead of returning {@code undefined}.
+ * </p>
+ * <p>
+ * Objects also understand a few functions Leaflet doesn't provide, e.g. {@code appendLatLngs(ring,
+ * latLngs, trim)} of polylines, which drops {@code trim} points from the start of the ring
+ * ({@code -1} for a single line) and appends the given ones in one call.
+ * </p>
+ * <h3>Argument Encoding:</h3>
+ * <ul>
+ *   <li><strong>Primitives and strings</strong>: JSON numbers, booleans and strings</li>
+ *   <li><strong>{@link JLLatLng}, {@link JLPoint}</strong>: two-element arrays</li>
+ *   <li><strong>{@link JLBounds}</strong>: {@code [northEast, southWest]}</li>
+ *   <li><strong>{@link JLOptions}</strong>: plain JSON object with the Leaflet option names</li>
+ *   <li><strong>{@link JLIcon}</strong>: {@code {"$icon": options}}, turned into {@code L.icon(options)} on the client</li>
+ *   <li><strong>{@link JLCoordinates}</strong>: array of {@code [lat, lng]} pairs, see also {@link #path(JLCoordinates, JLCoordinateEncoding)}</li>
+ *   <li><strong>{@link #forwarder(String)}</strong>: {@code {"$forwarder": type}}, the shared event forwarder of the type</li>
+ *   <li><strong>Maps, collections and arrays</strong>: JSON objects and arrays of encoded values</li>
+ *   <li><strong>Anything else</strong>: {@code {"$js": source}}, evaluated on the client as a last resort</li>
+ * </ul>
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JLClientDispatcher {
+
+    /**
+     * Object id that addresses the dispatcher's built-in commands.
+     */
+    public static final String COMMAND_TARGET = "$";
+    /**
+     * Object id of the map.
+     */
+    public static final String MAP_TARGET = "map";
+
+    /**
+     * Installs {@code window.jlDispatch}. Safe to evaluate more than once.
+     */
+    //language=js
+    public static final String SCRIPT = """
+            window.jlDispatch = window.jlDispatch || (function () {
+                function decode(root, arg) {
+                    if (arg !== null && typeof arg === 'object' && !Array.isArray(arg)) {
+                        if ('$icon' in arg) {
+                            return L.icon(arg.$icon);
+                        }
+                        if ('$forwarder' in arg) {
+                            return forwarder(root, arg.$forwarder);
+                        }
+                        if ('$path' in arg) {
+                            return decodePath(arg.$path, arg.precision);
+                        }
+                        if ('$js' in arg) {
+                            return Function('return (' + arg.$js + ');')();
+                        }
+                    }
+                    return arg;
+                }
+            
+                function decodePath(encoded, precision) {
+                    if (Array.isArray(encoded)) {
+                        return encoded.map(ring => decodePath(ring, precision));
+                    }
+                    const factor = Math.pow(10, precision);
+                    const points = [];
+                    const point = [0, 0];
+                    let index = 0;
+                    while (index < encoded.length) {
+                        for (let k = 0; k < 2; k++) {
+                            // plain arithmetic, bitwise operators would truncate to 32 bits
+                            let result = 0;
+                            let scale = 1;
+                            let b;
+                            do {
+                                b = encoded.charCodeAt(index++) - 63;
+                                result += (b % 32) * scale;
+                                scale *= 32;
+                            } while (b >= 32);
+                            point[k] += result % 2 ? -(result + 1) / 2 : result / 2;
+                        }
+                        points.push([point[0] / factor, point[1] / factor]);
+                    }
+                    return points;
+                }
+            
+                function latLngOf(e) {
+                    const target = e.target;
+                    if (typeof target.getLatLng === 'function') {
+                        return {"lat": target.getLatLng().lat, "lng": target.getLatLng().lng};
+                    }
+                    return {"lat": e.latlng.lat, "lng": e.latlng.lng};
+                }
+            
+                function forwarder(root, jlType) {
+                    const cache = root.jlForwarders || (root.jlForwarders = {});
+                    return cache[jlType] || (cache[jlType] = function (e) {
+                        const target = e.target;
+                        const server = root.jlMapElement.$server;
+                        const bounds = JSON.stringify(root.map.getBounds());
+                        if (e.type === 'add' || e.type === 'remove') {
+                            const element = typeof e.sourceTarget.getElement === 'function' && e.sourceTarget.getElement();
+                            if (element) {
+                                element.setAttribute('id', target.uuid);
+                            }
+                            server.eventHandler(e.type, jlType, target.uuid, root.map.getZoom(),
+                                JSON.stringify((typeof target.getLatLng === 'function') ? target.getLatLng() :
+                                    (typeof target.getLatLngs === 'function') ? target.getLatLngs() : {"lat": 0, "lng": 0}),
+                                bounds);
+                        } else if (e.type === 'contextmenu') {
+                            server.eventHandler(e.type, jlType, target.uuid, root.map.getZoom(),
+                                JSON.stringify({"x": e.containerPoint.x, "y": e.containerPoint.y, "lat": e.latlng.lat, "lng": e.latlng.lng}),
+                                bounds);
+                            L.DomEvent.stopPropagation(e);
+                        } else {
+                            server.eventHandler(e.type, jlType, target.uuid, root.map.getZoom(), JSON.stringify(latLngOf(e)), bounds);
+                        }
+                    });
+                }
+            
+                function rateLimited(send, rates) {
+                    const pending = {};
+                    return function (functionType, jlType, uuid, ...rest) {
+                        const rate = rates[functionType];
+                        if (!rate) {
+                            return send(functionType, jlType, uuid, ...rest);
+                        }
+                        const key = functionType + '|' + jlType + '|' + uuid;
+                        const entry = pending[key] || (pending[key] = {"args": null, "timer": null});
+                        entry.args = [functionType, jlType, uuid, ...rest];
+                        const fire = function () {
+                            const args = entry.args;
+                            entry.args = null;
+                            if (rate.mode === 'throttle') {
+                                // later events of the interval only replace the arguments, the entry
+                                // is dropped once an interval passes without any
+                                entry.timer = setTimeout(function () {
+                                    if (entry.args) {
+                                        fire();
+                                    } else {
+                                        delete pending[key];
+                                    }
+                                }, rate.interval);
+                            } else {
+                                entry.timer = null;
+                                delete pending[key];
+                            }
+                            send(...args);
+                        };
+                        if (rate.mode === 'debounce') {
+                            clearTimeout(entry.timer);
+                            entry.timer = setTimeout(fire, rate.interval);
+                        } else if (entry.timer === null) {
+                            if (rate.mode === 'throttle') {
+                                fire();
+                            } else if (rate.interval > 0 || typeof requestAnimationFrame !== 'function') {
+                                entry.timer = setTimeout(fire, rate.interval);
+                            } else {
+                                entry.timer = requestAnimationFrame(fire);
+                            }
+                        }
+                    };
+                }
+            
+                function batched(sendBatch, interval) {
+                    let queue = [];
+                    let scheduled = false;
+                    const flush = function () {
+                        scheduled = false;
+                        const events = queue;
+                        queue = [];
+                        sendBatch(JSON.stringify(events));
+                    };
+                    return function (...event) {
+                        queue.push(event);
+                        if (scheduled) {
+                            return;
+                        }
+                        scheduled = true;
+                        if (interval > 0 || document.hidden || typeof requestAnimationFrame !== 'function') {
+                            setTimeout(flush, interval);
+                        } else {
+                            requestAnimationFrame(flush);
+                        }
+                    };
+                }
+            
+                const commands = {
+                    addAll: function (root, payload) {
+                        const ids = payload.ids;
+                        const geometries = payload.latLngs;
+                        const events = payload.events.join(' ');
+                        const handler = events ? forwarder(root, payload.jlType) : null;
+                        for (let i = 0; i < ids.length; i++) {
+                            geometries[i] = decode(root, geometries[i]);
+                            let layer;
+                            if (payload.kind === 'marker') {
+                                layer = L.marker(geometries[i], payload.options);
+                            } else if (payload.kind === 'circleMarker') {
+                                layer = L.circleMarker(geometries[i], payload.options);
+                            } else {
+                                layer = L.polyline(geometries[i], payload.options);
+                            }
+                            layer.uuid = ids[i];
+                            root[ids[i]] = layer;
+                            if (handler) {
+                                layer.on(events, handler);
+                            }
+                            layer.addTo(root.map);
+                        }
+                    },
+                    removeAll: function (root, ids) {
+                        for (let i = 0; i < ids.length; i++) {
+                            const layer = root[ids[i]];
+                            if (layer) {
+                                // detached first, the layer is only hidden and must not report a remove
+                                layer.off();
+                                root.map.removeLayer(layer);
+                                delete root[ids[i]];
+                            }
+                        }
+                    },
+                    reportView: function (root) {
+                        root.map.fire('moveend');
+                    },
+                    addClusters: function (root, payload) {
+                        const handler = forwarder(root, payload.jlType);
+                        for (let i = 0; i < payload.ids.length; i++) {
+                            const count = payload.counts[i];
+                            const level = count < 10 ? 'small' : count < 100 ? 'medium' : 'large';
+                            const size = count < 10 ? 30 : count < 100 ? 36 : count < 1000 ? 42 : 48;
+                            const label = count < 1000 ? String(count) : Math.round(count / 100) / 10 + 'k';
+                            const layer = L.marker(payload.latLngs[i], {
+                                icon: L.divIcon({
+                                    html: '<div style="width:' + size + 'px;height:' + size + 'px;line-height:' + size
+                                        + 'px;border-radius:50%;text-align:center;font:bold 12px sans-serif;color:#fff;'
+                                        + 'background:rgba(51,136,255,0.8);box-shadow:0 0 0 5px rgba(51,136,255,0.3)">'
+                                        + label + '</div>',
+                                    className: 'jl-cluster jl-cluster-' + level,
+                                    iconSize: [size, size]
+                                })
+                            });
+                            layer.uuid = payload.ids[i];
+                            root[payload.ids[i]] = layer;
+                            layer.on('click', handler);
+                            layer.addTo(root.map);
+                        }
+                    }
+                };
+            
+                // functions of layers that Leaflet doesn't provide, called with the layer after the root
+                const methods = {
+                    appendLatLngs: function (root, layer, ring, latLngs, trim) {
+                        const points = ring < 0 ? layer.getLatLngs() : layer.getLatLngs()[ring];
+                        if (trim > 0) {
+                            points.splice(0, trim);
+                            for (let i = 0; i < latLngs.length; i++) {
+                                points.push(L.latLng(latLngs[i]));
+                            }
+                            // recomputes the bounds, which only ever grow through addLatLng
+                            return layer.setLatLngs(layer.getLatLngs());
+                        }
+                        for (let i = 0; i < latLngs.length; i++) {
+                            layer.addLatLng(latLngs[i], points);
+                        }
+                        return layer;
+                    }
+                };
+            
+                const dispatch = function (root, ops) {
+                    if (typeof ops === 'string') {
+                        ops = JSON.parse(ops);
+                    }
+                    let result;
+                    for (let i = 0; i < ops.length; i++) {
+                        const op = ops[i];
+                        const args = op[2];
+                        for (let j = 0; j < args.length; j++) {
+                            args[j] = decode(root, args[j]);
+                        }
+                        if (op[0] === '$') {
+                            result = commands[op[1]].apply(null, [root].concat(args));
+                            continue;
+                        }
+                        const target = root[op[0]];
+                        if (!target) {
+                            // e.g. removed on the client meanwhile, only a returnable call needs its result
+                            if (op[3]) {
+                                throw new Error('jlDispatch: no object with id ' + op[0] + ' for ' + op[1]);
+                            }
+                            console.warn('jlDispatch: skipped ' + op[1] + ', no object with id ' + op[0]);
+                            continue;
+                        }
+                        result = typeof target[op[1]] === 'function' || !methods[op[1]]
+                            ? target[op[1]].apply(target, args)
+                            : methods[op[1]].apply(null, [root, target].concat(args));
+                    }
+                    return result;
+                };
+                dispatch.forwarder = forwarder;
+                dispatch.decodePath = decodePath;
+                dispatch.rateLimited = rateLimited;
+                dispatch.batched = batched;
+                return dispatch;
+            })();
+            """;
+
+    /**
+     * Encodes the event rates as the configuration expected by {@code jlDispatch.rateLimited(send, rates)},
+     * which wraps a server callback with the same signature as {@code eventHandler}.
+     * <p>
+     * Similarly, {@code jlDispatch.batched(sendBatch, interval)} returns a callback with that
+     * signature which collects the events and passes them to {@code sendBatch} as one JSON array
+     * of {@code [functionType, jlType, uuid, param1, param2, param3]} entries.
+     * </p>
+     *
+     * @param eventRates rates per action
+     * @return JSON object from event name to rate
+     */
+    @NonNull
+    public static String encodeEventRates(@NonNull Map<JLAction, JLEventRate> eventRates) {
+        Map<String, Object> rates = new TreeMap<>();
+        eventRates.forEach((action, rate) -> {
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("mode", rate.mode().name().toLowerCase(Locale.ROOT));
+            config.put("interval", rate.interval());
+            rates.put(action.getJsEventName(), config);
+        });
+        StringBuilder json = new StringBuilder(rates.size() * 48 + 2);
+        appendValue(json, rates);
+        return json.toString();
+    }
+
+    /**
+     * Argument that the client replaces with the shared event forwarder of the given type, e.g.
+     * to register it through {@code on(events, forwarder)}.
+     *
+     * @param jlType client-side type name of the forwarded objects
+     * @return encodable forwarder reference
+     */
+    @NonNull
+    public static Map<String, Object> forwarder(@NonNull String jlType) {
+        return Map.of("$forwarder", jlType);
+    }
+
+    /**
+     * Argument that the client replaces with the points of the coordinates as an array of
+     * {@code [lat, lng]} pairs, sent as configured by the encoding. Encoded polylines are sent as
+     * {@code {"$path": encoded, "precision": precision}} and decoded on the client.
+     *
+     * @param coordinates points of a single line, rings are ignored
+     * @param encoding    how the coordinates are sent
+     * @return encodable path
+     */
+    @NonNull
+    public static Object path(@NonNull JLCoordinates coordinates, @NonNull JLCoordinateEncoding encoding) {
+        if (encoding.mode() == JLCoordinateEncoding.Mode.POLYLINE) {
+            String encoded = JLCoordinateWriter.appendPolyline(new StringBuilder(coordinates.size() * 8),
+                    coordinates, 0, coordinates.size(), encoding.precision()).toString();
+            Map<String, Object> path = new LinkedHashMap<>();
+            path.put("$path", encoded);
+            path.put("precision", encoding.precision());
+            return path;
+        } else if (encoding.isFullPrecision()) {
+            return coordinates;
+        }
+        double[] latLngs = coordinates.toLatLngArray();
+        for (int i = 0; i < latLngs.length; i++) {
+            latLngs[i] = JLCoordinateWriter.round(latLngs[i], encoding.precision());
+        }
+        return JLCoordinates.wrap(latLngs);
+    }
+
+    /**
+     * Same as {@link #path(JLCoordinates, JLCoordinateEncoding)} for every ring, the client gets an
+     * array with the points of each ring, e.g. for {@code setLatLngs} of a polygon.
+     *
+     * @param coordinates rings of the path, groups are ignored
+     * @param encoding    how the coordinates are sent
+     * @return encodable rings
+     */
+    @NonNull
+    public static Object rings(@NonNull JLCoordinates coordinates, @NonNull JLCoordinateEncoding encoding) {
+        if (encoding.mode() == JLCoordinateEncoding.Mode.POLYLINE) {
+            List<String> encoded = new ArrayList<>(coordinates.ringCount());
+            for (int ring = 0; ring < coordinates.ringCount(); ring++) {
+                encoded.add(JLCoordinateWriter.appendPolyline(new StringBuilder(), coordinates,
+                        coordinates.ringStart(ring), coordinates.ringEnd(ring), encoding.precision()).toString());
+            }
+            Map<String, Object> rings = new LinkedHashMap<>();
+            rings.put("$path", encoded);
+            rings.put("precision", encoding.precision());
+            return rings;
+        }
+        double[] latLngs = coordinates.toLatLngArray();
+        List<Object> rings = new ArrayList<>(coordinates.ringCount());
+        for (int ring = 0; ring < coordinates.ringCount(); ring++) {
+            rings.add(path(JLCoordinates.wrap(Arrays.copyOfRange(latLngs,
+                    coordinates.ringStart(ring) * 2, coordinates.ringEnd(ring) * 2)), encoding));
+        }
+        return rings;
+    }
+
+    /**
+     * Encodes a call of a built-in dispatcher command. The client invokes it with the dispatch
+     * root (the object holding the map and all layers) followed by the given arguments.
+     *
+     * @param command name of the built-in command, e.g. {@code addAll}
+     * @param args    command arguments
+     * @return JSON array holding one operation
+     */
+    @NonNull
+    public static String encodeCommand(@NonNull String command, Object... args) {
+        return encodeCall(COMMAND_TARGET, command, args);
+    }
+
+    /**
+     * Encodes a call of a function of a client-side object that has no server-side counterpart,
+     * e.g. {@code setView} of the map.
+     *
+     * @param target   object id on the client, e.g. {@value #MAP_TARGET}
+     * @param function name of the function
+     * @param args     function arguments
+     * @return JSON array holding one operation
+     */
+    @NonNull
+    public static String encodeCall(@NonNull String target, @NonNull String function, Object... args) {
+        StringBuilder json = new StringBuilder(256).append("[[");
+        appendString(json, target);
+        json.append(',');
+        appendString(json, function);
+        json.append(',');
+        appendValue(json, args);
+        return json.append("]]").toString();
+    }
+
+    /**
+     * Encodes a single request as an operation list.
+     *
+     * @param request the request to encode
+     * @return JSON array holding one operation
+     */
+    @NonNull
+    public static String encode(@NonNull JLTransportRequest request) {
+        return encode(List.of(request));
+    }
+
+    /**
+     * Encodes the requests, in order, as one operation list.
+     *
+     * @param requests the requests to encode
+     * @return JSON array of operations
+     */
+    @NonNull
+    public static String encode(@NonNull Collection<JLTransportRequest> requests) {
+        StringBuilder json = new StringBuilder(requests.size() * 48 + 2).append('[');
+        boolean first = true;
+        for (JLTransportRequest request : requests) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append('[');
+            appendString(json, request.self().getJLId());
+            json.append(',');
+            appendString(json, request.function());
+            json.append(",[");
+            Object[] params = request.params();
+            for (int i = 0; i < params.length; i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                appendValue(json, params[i]);
+            }
+            json.append(request.clazz() == Void.class ? "]]" : "],1]");
+        }
+        return json.append(']').toString();
+    }
+
+    /**
+     * Appends a single argument in the dispatcher wire format.
+     *
+     * @param json  target buffer
+     * @param value argument value, may be {@code null}
+     */
+    public static void appendValue(@NonNull StringBuilder json, Object value) {
+        if (value == null) {
+            json.append("null");
+        } else if (value instanceof Double || value instanceof Float) {
+            appendNumber(json, ((Number) value).doubleValue());
+        } else if (value instanceof Number || value instanceof Boolean) {
+            json.append(value);
+        } else if (value instanceof CharSequence || value instanceof Character) {
+            appendString(json, value.toString());
+        } else if (value instanceof JLLatLng latLng) {
+            appendPair(json, latLng.getLat(), latLng.getLng());
+        } else if (value instanceof JLCoordinates coordinates) {
+            JLCoordinateWriter.appendPoints(json, coordinates, JLCoordinateWriter.Format.SHORTEST, ",");
+        } else if (value instanceof JLPoint point) {
+            appendPair(json, point.getX(), point.getY());
+        } else if (value instanceof JLColor color) {
+            appendString(json, color.toHexString());
+        } else if (value instanceof JLBounds bounds) {
+            json.append('[');
+            appendValue(json, bounds.getNorthEast());
+            json.append(',');
+            appendValue(json, bounds.getSouthWest());
+            json.append(']');
+        } else if (value instanceof JLOptions options) {
+            appendOptions(json, options);
+        } else if (value instanceof JLIcon icon) {
+            appendIcon(json, icon);
+        } else if (value instanceof Map<?, ?> map) {
+            appendMap(json, map);
+        } else if (value instanceof Iterable<?> iterable) {
+            json.append('[');
+            boolean first = true;
+            for (Object item : iterable) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                appendValue(json, item);
+            }
+            json.append(']');
+        } else if (value instanceof Object[] array) {
+            json.append('[');
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                appendValue(json, array[i]);
+            }
+            json.append(']');
+        } else if (value instanceof double[] array) {
+            json.append('[');
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                appendNumber(json, array[i]);
+            }
+            json.append(']');
+        } else {
+            json.append("{\"$js\":");
+            appendString(json, value.toString());
+            json.append('}');
+        }
+    }
+
+    private static void appendMap(StringBuilder json, Map<?, ?> map) {
+        json.append('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            appendString(json, String.valueOf(entry.getKey()));
+            json.append(':');
+            appendValue(json, entry.getValue());
+        }
+        json.append('}');
+    }
+
+    private static void appendOptions(StringBuilder json, JLOptions options) {
+        json.append('{');
+        if (options.getColor() != null) {
+            json.append("\"color\":");
+            appendString(json, options.getColor().toHexString());
+            json.append(',');
+        }
+        if (options.getFillColor() != null) {
+            json.append("\"fillColor\":");
+            appendString(json, options.getFillColor().toHexString());
+            json.append(',');
+        }
+        json.append("\"weight\":").append(options.getWeight())
+                .append(",\"stroke\":").append(options.isStroke())
+                .append(",\"fill\":").append(options.isFill())
+                .append(",\"opacity\":");
+        appendNumber(json, options.getOpacity());
+        json.append(",\"fillOpacity\":");
+        appendNumber(json, options.getFillOpacity());
+        json.append(",\"smoothFactor\":");
+        appendNumber(json, options.getSmoothFactor());
+        json.append(",\"closeButton\":").append(options.isCloseButton())
+                .append(",\"autoClose\":").append(options.isAutoClose())
+                .append(",\"draggable\":").append(options.isDraggable())
+                .append('}');
+    }
+
+    private static void appendIcon(StringBuilder json, JLIcon icon) {
+        json.append("{\"$icon\":{\"iconUrl\":");
+        appendString(json, icon.getIconUrl());
+        if (icon.getShadowUrl() != null) {
+            json.append(",\"shadowUrl\":");
+            appendString(json, icon.getShadowUrl());
+        }
+        json.append(",\"iconSize\":");
+        appendValue(json, icon.getIconSize());
+        json.append(",\"iconAnchor\":");
+        appendValue(json, icon.getIconAnchor());
+        json.append(",\"popupAnchor\":");
+        appendValue(json, icon.getPopupAnchor());
+        json.append(",\"shadowSize\":");
+        appendValue(json, icon.getShadowSize());
+        json.append(",\"shadowAnchor\":");
+        appendValue(json, icon.getShadowAnchor());
+        json.append("}}");
+    }
+
+    private static void appendPair(StringBuilder json, double first, double second) {
+        JLCoordinateWriter.appendPoint(json, first, second, JLCoordinateWriter.Format.SHORTEST, ",");
+    }
+
+    private static void appendNumber(StringBuilder json, double value) {
+        JLCoordinateWriter.appendNumber(json, value);
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -5,17 +5,20 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.makbn.jlmap.model.JLGeoJson;
 import io.github.makbn.jlmap.model.JLObject;
+import io.github.makbn.jlmap.model.JLObjectBase;
 import io.github.makbn.jlmap.model.JLOptions;
+import io.github.makbn.jlmap.model.JLStyleTable;
 import lombok.AccessLevel;
 import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -28,7 +31,11 @@ import java.util.function.Function;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public abstract class JLClientToServerTransporterBase<T> implements JLClientToServerTransporter {
 
+    /**
+     * Objects callable from the client, released when they are removed from the map.
+     */
     Map<String, JLObject<?>> registeredObjects = new ConcurrentHashMap<>();
+    Consumer<JLObject<?>> onRemoved = object -> registeredObjects.remove(object.getJLId(), object);
     ObjectMapper objectMapper = new ObjectMapper();
     Function<String, T> engineConsumer;
 
@@ -44,6 +51,9 @@ public abstract class JLClientToServerTransporterBase<T> implements JLClientToSe
     @Override
     public void registerObject(String objectId, JLObject<?> object) {
         registeredObjects.put(objectId, object);
+        if (object instanceof JLObjectBase<?> base) {
+            base.addRemovalListener(onRemoved);
+        }
         log.debug("Registered object {} of type {}", objectId, object.getClass().getSimpleName());
     }
 
@@ -53,6 +63,13 @@ public abstract class JLClientToServerTransporterBase<T> implements JLClientToSe
         log.debug("Unregistered object {}", objectId);
     }
 
+    /**
+     * @return number of objects currently callable from the client
+     */
+    public int getRegisteredObjectCount() {
+        return registeredObjects.size();
+    }
+
     @Override
     public String callObjectMethod(String objectId, String methodName, String... args) {
         try {
@@ -85,6 +102,11 @@ public abstract class JLClientToServerTransporterBase<T> implements JLClientToSe
                     return String.valueOf(result);
                 }
             }
+            case "evaluateFeatures" -> {
+                if (object instanceof JLGeoJson geoJson && args.length > 0) {
+                    return serializeEvaluation(geoJson.evaluateFeatures(parseFeatureProperties(args[0])));
+                }
+            }
             default -> log.warn("Unknown method: {} on object type: {}", methodName, object.getClass().getSimpleName());
         }
         return null;
@@ -110,23 +132,47 @@ public abstract class JLClientToServerTransporterBase<T> implements JLClientToSe
         }
     }
 
-    private String serializeJLOptions(JLOptions options) throws JsonProcessingException {
-        Map<String, Object> optionsMap = new HashMap<>();
+    /**
+     * @param jsonArguments the arguments of the call, the first one an array with the properties
+     *                      of each feature
+     */
+    private List<Map<String, Object>> parseFeatureProperties(String jsonArguments) throws JsonProcessingException {
+        List<List<Map<String, Object>>> arguments = objectMapper.readValue(jsonArguments, new TypeReference<>() {
+        });
+        return arguments.isEmpty() || arguments.get(0) == null ? List.of() : arguments.get(0);
+    }
 
-        if (options.getColor() != null) {
-            optionsMap.put("color", options.getColor().toHexString());
+    /**
+     * Writes the evaluation as {@code {"keep": "0110", "styles": [...], "style": [0, -1, ...]}}: a
+     * character per feature for the filter, and the distinct styles with the index of the style of
+     * each feature, {@code -1} to leave it unchanged. Features mostly share a few styles, so each
+     * style is only written once.
+     */
+    private String serializeEvaluation(JLGeoJson.FeatureEvaluation evaluation) throws JsonProcessingException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        boolean[] keep = evaluation.keep();
+        if (keep != null) {
+            char[] mask = new char[keep.length];
+            for (int i = 0; i < keep.length; i++) {
+                mask[i] = keep[i] ? '1' : '0';
+            }
+            result.put("keep", new String(mask));
         }
-        if (options.getFillColor() != null) {
-            optionsMap.put("fillColor", options.getFillColor().toHexString());
+        JLOptions[] styles = evaluation.styles();
+        if (styles != null) {
+            JLStyleTable table = new JLStyleTable();
+            int[] style = new int[styles.length];
+            for (int i = 0; i < styles.length; i++) {
+                style[i] = table.intern(styles[i]);
+            }
+            result.put("styles", table.getStyles());
+            result.put("style", style);
         }
-        optionsMap.put("weight", options.getWeight());
-        optionsMap.put("opacity", options.getOpacity());
-        optionsMap.put("fillOpacity", options.getFillOpacity());
-        optionsMap.put("stroke", options.isStroke());
-        optionsMap.put("fill", options.isFill());
-        optionsMap.put("smoothFactor", options.getSmoothFactor());
-
-        return objectMapper.writeValueAsString(optionsMap);
+        return objectMapper.writeValueAsString(result);
+    }
+
+    private String serializeJLOptions(JLOptions options) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(JLStyleTable.toStyle(options));
     }
 
     @Override
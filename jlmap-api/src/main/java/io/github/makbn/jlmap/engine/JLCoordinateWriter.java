@@ -0,0 +1,313 @@
+package io.github.makbn.jlmap.engine;
+
+import io.github.makbn.jlmap.model.JLCoordinateEncoding;
+import io.github.makbn.jlmap.model.JLCoordinates;
+import lombok.NonNull;
+
+import java.util.Locale;
+
+/**
+ * Appends numbers and coordinates to a {@link StringBuilder} without {@link String#format}.
+ * <p>
+ * Scripts and dispatcher payloads contain one or two numbers per vertex, so formatting them is the
+ * bulk of the work when large shapes are sent to the client. Numbers are written straight into
+ * the target buffer, either as the shortest representation that reads back to the same double
+ * ({@link Format#SHORTEST}) or with six fraction digits exactly like {@code %f}
+ * ({@link Format#FIXED}). The {@code to...} methods render into a per-thread buffer that is
+ * reused across calls.
+ * </p>
+ * <p>
+ * Paths can also be written as configured by a {@link JLCoordinateEncoding}, rounded to fewer
+ * digits or as encoded polyline strings that the client decodes with {@code jlDispatch.decodePath}.
+ * </p>
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+public final class JLCoordinateWriter {
+    private static final long FRACTION_SCALE = 1_000_000L;
+    /**
+     * Values below this are scaled exactly enough to round without the slow path.
+     */
+    private static final double FAST_FIXED_LIMIT = 1e6;
+    /**
+     * Buffers that grew beyond this are not kept for the next call.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9};
+    private static final String DECODE_FUNCTION = "window.jlDispatch.decodePath(";
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    private JLCoordinateWriter() {
+    }
+
+    /**
+     * Appends the value as a JSON number: integral values without fraction, others as the
+     * shortest decimal that reads back to the same double. {@code NaN} and infinities are
+     * written as {@code null}.
+     */
+    public static StringBuilder appendNumber(@NonNull StringBuilder out, double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return out.append("null");
+        } else if (value == (long) value && Math.abs(value) < 1e15) {
+            return out.append((long) value);
+        }
+        return out.append(value);
+    }
+
+    /**
+     * Appends the value with six fraction digits, the same text as {@code String.format("%f", value)}.
+     */
+    public static StringBuilder appendFixed(@NonNull StringBuilder out, double value) {
+        double magnitude = Math.abs(value);
+        if (!(magnitude < FAST_FIXED_LIMIT)) {
+            // NaN, infinities and large values
+            return out.append(String.format(Locale.ROOT, "%f", value));
+        }
+        double scaled = magnitude * FRACTION_SCALE;
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        if (Math.abs(fraction - 0.5) < 1e-3) {
+            // close to a tie, %f rounds the shortest decimal representation half up
+            return out.append(String.format(Locale.ROOT, "%f", value));
+        }
+        long units = (long) floor + (fraction > 0.5 ? 1 : 0);
+        if (Double.doubleToRawLongBits(value) < 0) {
+            out.append('-');
+        }
+        out.append(units / FRACTION_SCALE).append('.');
+        long fractionUnits = units % FRACTION_SCALE;
+        for (long digit = FRACTION_SCALE / 10; digit > fractionUnits && digit > 1; digit /= 10) {
+            out.append('0');
+        }
+        return out.append(fractionUnits);
+    }
+
+    /**
+     * Appends the value rounded to the number of decimal digits, written like {@link #appendNumber}.
+     */
+    public static StringBuilder appendRounded(@NonNull StringBuilder out, double value, int precision) {
+        return appendNumber(out, round(value, precision));
+    }
+
+    /**
+     * Rounds half up to the number of decimal digits. Values too large to be rounded are returned
+     * unchanged.
+     *
+     * @param precision number of decimal digits, at most {@link JLCoordinateEncoding#MAX_PRECISION}
+     * @return the double closest to the rounded decimal
+     */
+    public static double round(double value, int precision) {
+        double factor = POWERS_OF_TEN[precision];
+        double scaled = value * factor;
+        if (!(Math.abs(scaled) < 1e15)) {
+            return value;
+        }
+        return Math.round(scaled) / factor;
+    }
+
+    public static StringBuilder append(@NonNull StringBuilder out, double value, @NonNull Format format) {
+        return format == Format.FIXED ? appendFixed(out, value) : appendNumber(out, value);
+    }
+
+    /**
+     * Appends {@code [lat<separator>lng]}.
+     */
+    public static StringBuilder appendPoint(@NonNull StringBuilder out, double lat, double lng,
+                                            @NonNull Format format, @NonNull String separator) {
+        out.append('[');
+        append(out, lat, format).append(separator);
+        return append(out, lng, format).append(']');
+    }
+
+    /**
+     * Appends the points of one ring as an array of {@code [lat, lng]} pairs.
+     */
+    public static StringBuilder appendRing(@NonNull StringBuilder out, @NonNull JLCoordinates coordinates, int ring,
+                                           @NonNull Format format, @NonNull String separator) {
+        return appendPoints(out, coordinates, coordinates.ringStart(ring), coordinates.ringEnd(ring), format, separator);
+    }
+
+    /**
+     * Appends all points, regardless of rings, as an array of {@code [lat, lng]} pairs.
+     */
+    public static StringBuilder appendPoints(@NonNull StringBuilder out, @NonNull JLCoordinates coordinates,
+                                             @NonNull Format format, @NonNull String separator) {
+        return appendPoints(out, coordinates, 0, coordinates.size(), format, separator);
+    }
+
+    /**
+     * Appends an array with one array of {@code [lat, lng]} pairs per ring.
+     */
+    public static StringBuilder appendRings(@NonNull StringBuilder out, @NonNull JLCoordinates coordinates,
+                                            @NonNull Format format, @NonNull String separator) {
+        out.append('[');
+        for (int ring = 0; ring < coordinates.ringCount(); ring++) {
+            if (ring > 0) {
+                out.append(',');
+            }
+            appendRing(out, coordinates, ring, format, separator);
+        }
+        return out.append(']');
+    }
+
+    /**
+     * @return all points as an array of {@code [lat, lng]} pairs
+     */
+    public static String toPointsArray(@NonNull JLCoordinates coordinates, @NonNull Format format, @NonNull String separator) {
+        return release(appendPoints(buffer(), coordinates, format, separator));
+    }
+
+    /**
+     * @return an array with one array of {@code [lat, lng]} pairs per ring
+     */
+    public static String toRingsArray(@NonNull JLCoordinates coordinates, @NonNull Format format, @NonNull String separator) {
+        return release(appendRings(buffer(), coordinates, format, separator));
+    }
+
+    /**
+     * Appends the points of the range as an encoded polyline, see
+     * <a href="https://developers.google.com/maps/documentation/utilities/polylinealgorithm">the algorithm</a>.
+     * The text only contains the characters {@code ?} to {@code ~}.
+     *
+     * @param from      index of the first point
+     * @param to        index after the last point
+     * @param precision number of decimal digits, at most {@link JLCoordinateEncoding#MAX_PRECISION}
+     */
+    public static StringBuilder appendPolyline(@NonNull StringBuilder out, @NonNull JLCoordinates coordinates,
+                                               int from, int to, int precision) {
+        return appendPolyline(out, coordinates, from, to, precision, false);
+    }
+
+    /**
+     * @return all points as a JavaScript expression that evaluates to an array of {@code [lat, lng]}
+     * pairs, written as configured by the encoding. Decimal numbers with full precision use the format.
+     */
+    public static String toPointsScript(@NonNull JLCoordinates coordinates, @NonNull JLCoordinateEncoding encoding,
+                                        @NonNull Format format, @NonNull String separator) {
+        StringBuilder out = buffer();
+        if (encoding.mode() == JLCoordinateEncoding.Mode.POLYLINE) {
+            out.append(DECODE_FUNCTION).append('\'');
+            appendPolyline(out, coordinates, 0, coordinates.size(), encoding.precision(), true);
+            out.append("', ").append(encoding.precision()).append(')');
+        } else {
+            appendPoints(out, coordinates, 0, coordinates.size(), format, separator, encoding.precision());
+        }
+        return release(out);
+    }
+
+    /**
+     * @return a JavaScript expression that evaluates to an array with one array of {@code [lat, lng]}
+     * pairs per ring, written as configured by the encoding. Decimal numbers with full precision use
+     * the format.
+     */
+    public static String toRingsScript(@NonNull JLCoordinates coordinates, @NonNull JLCoordinateEncoding encoding,
+                                       @NonNull Format format, @NonNull String separator) {
+        StringBuilder out = buffer();
+        boolean polyline = encoding.mode() == JLCoordinateEncoding.Mode.POLYLINE;
+        if (polyline) {
+            out.append(DECODE_FUNCTION);
+        }
+        out.append('[');
+        for (int ring = 0; ring < coordinates.ringCount(); ring++) {
+            if (ring > 0) {
+                out.append(',');
+            }
+            if (polyline) {
+                out.append('\'');
+                appendPolyline(out, coordinates, coordinates.ringStart(ring), coordinates.ringEnd(ring),
+                        encoding.precision(), true);
+                out.append('\'');
+            } else {
+                appendPoints(out, coordinates, coordinates.ringStart(ring), coordinates.ringEnd(ring),
+                        format, separator, encoding.precision());
+            }
+        }
+        out.append(']');
+        if (polyline) {
+            out.append(", ").append(encoding.precision()).append(')');
+        }
+        return release(out);
+    }
+
+    private static StringBuilder appendPoints(StringBuilder out, JLCoordinates coordinates, int from, int to,
+                                              Format format, String separator) {
+        return appendPoints(out, coordinates, from, to, format, separator, JLCoordinateEncoding.FULL_PRECISION);
+    }
+
+    private static StringBuilder appendPoints(StringBuilder out, JLCoordinates coordinates, int from, int to,
+                                              Format format, String separator, int precision) {
+        out.append('[');
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                out.append(',');
+            }
+            if (precision == JLCoordinateEncoding.FULL_PRECISION) {
+                appendPoint(out, coordinates.getLat(i), coordinates.getLng(i), format, separator);
+            } else {
+                out.append('[');
+                appendRounded(out, coordinates.getLat(i), precision).append(separator);
+                appendRounded(out, coordinates.getLng(i), precision).append(']');
+            }
+        }
+        return out.append(']');
+    }
+
+    private static StringBuilder appendPolyline(StringBuilder out, JLCoordinates coordinates, int from, int to,
+                                                int precision, boolean escape) {
+        double factor = POWERS_OF_TEN[precision];
+        long lat = 0;
+        long lng = 0;
+        for (int i = from; i < to; i++) {
+            long nextLat = Math.round(coordinates.getLat(i) * factor);
+            long nextLng = Math.round(coordinates.getLng(i) * factor);
+            appendPolylineValue(out, nextLat - lat, escape);
+            appendPolylineValue(out, nextLng - lng, escape);
+            lat = nextLat;
+            lng = nextLng;
+        }
+        return out;
+    }
+
+    private static void appendPolylineValue(StringBuilder out, long value, boolean escape) {
+        // zig-zag encoding moves the sign to the lowest bit
+        long bits = value < 0 ? ~(value << 1) : value << 1;
+        while (bits >= 0x20) {
+            out.append((char) ((0x20 | (bits & 0x1f)) + 63));
+            bits >>>= 5;
+        }
+        char last = (char) (bits + 63);
+        if (escape && last == '\\') {
+            out.append('\\');
+        }
+        out.append(last);
+    }
+
+    private static StringBuilder buffer() {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        return buffer;
+    }
+
+    private static String release(StringBuilder buffer) {
+        String result = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+
+    /**
+     * Text format of numbers.
+     */
+    public enum Format {
+        /**
+         * Shortest decimal that reads back to the same double, integral values without fraction.
+         */
+        SHORTEST,
+        /**
+         * Six fraction digits, like {@code %f}.
+         */
+        FIXED
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.makbn.jlmap.engine;
 
 import io.github.makbn.jlmap.exception.JLException;
+import io.github.makbn.jlmap.model.JLObjectBase;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -121,6 +122,20 @@ public interface JLServerToClientTransporter<T> {
         }
     }
 
+    /**
+     * Returns the batch used to queue void operations of this transporter.
+     * <p>
+     * Transporters bound to a web engine return the engine's {@link JLTransportBatch} so that
+     * all objects of a map share a single queue. The default implementation returns {@code null},
+     * which means every request is executed immediately.
+     * </p>
+     *
+     * @return the shared batch or {@code null} if batching is not supported
+     */
+    default JLTransportBatch getTransportBatch() {
+        return null;
+    }
+
     /**
      * Executes a transport request and returns a CompletableFuture with the result.
      * <p>
@@ -132,6 +147,9 @@ public interface JLServerToClientTransporter<T> {
      * <ol>
      *   <li><strong>Void Operations</strong>: Execute JavaScript without expecting return value</li>
      *   <li><strong>Returnable Operations</strong>: Execute JavaScript and convert result to target type</li>
+     *   <li><strong>Batched Operations</strong>: Queue void operations in the {@link #getTransportBatch() batch} when enabled</li>
+     *   <li><strong>Culled Objects</strong>: Skip void operations of objects that are not
+     *   {@link JLObjectBase#isMaterialized() materialized} on the client</li>
      *   <li><strong>Error Handling</strong>: Wrap execution errors in {@link JLException}</li>
      * </ol>
      * <h4>Usage Examples:</h4>
@@ -157,14 +175,26 @@ public interface JLServerToClientTransporter<T> {
      * @return a CompletableFuture that will complete with the operation result
      * @throws JLException if the transport operation fails or no transporter is available
      */
+    @SuppressWarnings("unchecked")
     default <M> CompletableFuture<M> execute(JLTransportRequest transport) {
+        JLTransportBatch batch = getTransportBatch();
         if (transport.clazz() != Void.class) {
+            // Pending batched calls must reach the client before the value is read back
+            if (batch != null) {
+                batch.flush();
+            }
             // Returnable operation - execute and convert result
             T raw = serverToClientTransport().apply(transport);
             if (raw == null) {
                 throw new JLException("No client to server transport found");
             }
             return covertResult(raw, transport.getCastedClazz());
+        } else if (transport.self() instanceof JLObjectBase<?> object && !object.isMaterialized()) {
+            // Void operation - nothing to update on the client, the object is sent with its current state
+            return CompletableFuture.completedFuture(null);
+        } else if (batch != null && batch.isEnabled()) {
+            // Void operation - queue it and send it with the next flush
+            return (CompletableFuture<M>) batch.enqueue(transport);
         } else {
             // Void operation - execute without result conversion
             serverToClientTransport().apply(transport);
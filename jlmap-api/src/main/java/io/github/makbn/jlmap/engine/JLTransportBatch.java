@@ -0,0 +1,189 @@
+package io.github.makbn.jlmap.engine;
+
+import io.github.makbn.jlmap.exception.JLException;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Per-map queue of void {@link JLTransportRequest}s that are sent to the client as a single
+ * {@link JLClientDispatcher} operation list.
+ * <p>
+ * When batching is enabled, {@link JLServerToClientTransporter#execute(JLTransportRequest)} enqueues
+ * void operations here instead of executing them one by one. The queue is flushed either by the
+ * engine-specific scheduler (once per JavaFX pulse or once per Vaadin client response) or explicitly
+ * through {@link #flush()}. Returnable operations always flush the queue first so that the client
+ * observes calls in the order they were issued.
+ * </p>
+ * <p>
+ * Idempotent requests (by default every {@code set*} call) are coalesced before each flush: only the
+ * last request per object id and function is sent, so three {@code setLatLng} calls on the same marker
+ * within one frame produce a single client call. The future of a superseded request completes together
+ * with the request that replaced it.
+ * </p>
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * map.getJLEngine().getTransportBatch().setEnabled(true);
+ * vehicles.forEach(v -> v.marker().setLatLng(v.position()));
+ * map.flush(); // optional, the engine schedules a flush on its own
+ * }</pre>
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class JLTransportBatch {
+    /**
+     * Default coalescing rule: setters replace the previous value, so only the last call matters.
+     */
+    public static final Predicate<JLTransportRequest> SETTERS = request -> request.function().startsWith("set");
+
+    Object lock = new Object();
+    Map<Object, Pending> pending = new LinkedHashMap<>();
+    Consumer<String> dispatcher;
+    Consumer<Runnable> flushScheduler;
+    @NonFinal
+    volatile boolean enabled;
+    @NonFinal
+    volatile Predicate<JLTransportRequest> coalescable = SETTERS;
+    @NonFinal
+    boolean flushScheduled;
+    @NonFinal
+    long coalescedCount;
+
+    /**
+     * @param dispatcher     sends an encoded {@link JLClientDispatcher} operation list to the client
+     * @param flushScheduler schedules a deferred {@link #flush()}, e.g. on the next UI pulse
+     */
+    public JLTransportBatch(@NonNull Consumer<String> dispatcher, @NonNull Consumer<Runnable> flushScheduler) {
+        this.dispatcher = dispatcher;
+        this.flushScheduler = flushScheduler;
+    }
+
+    /**
+     * @return {@code true} if void transport requests are queued instead of executed immediately
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables batching. Disabling flushes whatever is still queued.
+     *
+     * @param enabled whether void transport requests should be queued
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            flush();
+        }
+    }
+
+    /**
+     * Sets the rule deciding which requests are idempotent and may be replaced by a later request
+     * with the same object id and function. Use {@code request -> false} to disable coalescing.
+     *
+     * @param coalescable predicate matching idempotent requests
+     */
+    public void setCoalescable(@NonNull Predicate<JLTransportRequest> coalescable) {
+        this.coalescable = coalescable;
+    }
+
+    /**
+     * Queues a void request and schedules a flush if this is the first pending request.
+     * A pending idempotent request for the same object and function is dropped in favour of this one.
+     *
+     * @param request the void request to queue
+     * @return a future completed once the request has been sent to the client
+     */
+    public CompletableFuture<Void> enqueue(@NonNull JLTransportRequest request) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Object key = coalescable.test(request) ? new CoalescingKey(request.self().getJLId(), request.function()) : future;
+        boolean schedule;
+        synchronized (lock) {
+            // remove first so the replacement keeps its place relative to later requests
+            Pending superseded = pending.remove(key);
+            if (superseded != null) {
+                coalescedCount++;
+                future.whenComplete((result, error) -> {
+                    if (error == null) {
+                        superseded.future().complete(null);
+                    } else {
+                        superseded.future().completeExceptionally(error);
+                    }
+                });
+            }
+            pending.put(key, new Pending(request, future));
+            schedule = !flushScheduled;
+            flushScheduled = true;
+        }
+        if (schedule) {
+            flushScheduler.accept(this::flush);
+        }
+        return future;
+    }
+
+    /**
+     * Sends all queued requests to the client as one operation list and completes their futures.
+     */
+    public void flush() {
+        List<Pending> drained;
+        synchronized (lock) {
+            flushScheduled = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+            drained = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+
+        List<JLTransportRequest> requests = new ArrayList<>(drained.size());
+        for (Pending entry : drained) {
+            requests.add(entry.request());
+        }
+
+        try {
+            dispatcher.accept(JLClientDispatcher.encode(requests));
+            drained.forEach(entry -> entry.future().complete(null));
+        } catch (Exception e) {
+            log.error("Error flushing {} batched transport requests", drained.size(), e);
+            JLException failure = new JLException("Error flushing batched transport requests", e);
+            drained.forEach(entry -> entry.future().completeExceptionally(failure));
+        }
+    }
+
+    /**
+     * @return number of requests waiting for the next flush
+     */
+    public int size() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * @return total number of requests dropped because a later request replaced them
+     */
+    public long getCoalescedCount() {
+        synchronized (lock) {
+            return coalescedCount;
+        }
+    }
+
+    private record CoalescingKey(String id, String function) {
+    }
+
+    private record Pending(JLTransportRequest request, CompletableFuture<Void> future) {
+    }
+}
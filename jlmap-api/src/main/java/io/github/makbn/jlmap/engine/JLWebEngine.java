@@ -1,9 +1,11 @@
 package io.github.makbn.jlmap.engine;
 
+import io.github.makbn.jlmap.model.JLCoordinateEncoding;
 import lombok.AccessLevel;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 
 /**
  * @author Matt Akbarian  (@makbn)
@@ -12,6 +14,10 @@ import lombok.experimental.FieldDefaults;
 @FieldDefaults(makeFinal = true, level = AccessLevel.PROTECTED)
 public abstract class JLWebEngine<C> {
     Class<C> defaultClass;
+    JLTransportBatch transportBatch = new JLTransportBatch(this::dispatch, this::scheduleFlush);
+    @NonFinal
+    volatile JLCoordinateEncoding coordinateEncoding = JLCoordinateEncoding.DEFAULT;
+
     public abstract <T> T executeScript(String script, Class<T> type);
 
     public abstract Status getStatus();
@@ -20,6 +26,52 @@ public abstract class JLWebEngine<C> {
         return this.executeScript(script, defaultClass);
     }
 
+    /**
+     * Executes an operation list produced by {@link JLClientDispatcher#encode} through the
+     * client-side {@code window.jlDispatch} function.
+     *
+     * @param operations JSON encoded operation list
+     * @return result of the last operation
+     */
+    public C dispatch(@NonNull String operations) {
+        return executeScript("window.jlDispatch(this, " + operations + ")");
+    }
+
+    /**
+     * @return the batch shared by all transporters of this engine, disabled by default
+     */
+    public JLTransportBatch getTransportBatch() {
+        return transportBatch;
+    }
+
+    /**
+     * @return how layers of this engine send the vertices of paths to the client
+     */
+    public JLCoordinateEncoding getCoordinateEncoding() {
+        return coordinateEncoding;
+    }
+
+    public void setCoordinateEncoding(@NonNull JLCoordinateEncoding coordinateEncoding) {
+        this.coordinateEncoding = coordinateEncoding;
+    }
+
+    /**
+     * Sends all batched transport requests to the client immediately.
+     */
+    public void flush() {
+        transportBatch.flush();
+    }
+
+    /**
+     * Schedules a deferred flush of the transport batch. Implementations run it once per UI
+     * frame or client round-trip; the default only flushes on explicit {@link #flush()} calls.
+     *
+     * @param flush the flush action to run
+     */
+    protected void scheduleFlush(@NonNull Runnable flush) {
+        // explicit flush only
+    }
+
     public enum Status {
         SUCCEEDED,
         FAILED
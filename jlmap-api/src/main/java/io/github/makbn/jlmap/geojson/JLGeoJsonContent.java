@@ -1,6 +1,5 @@
 package io.github.makbn.jlmap.geojson;
 
-import com.google.gson.JsonParseException;
 import io.github.makbn.jlmap.exception.JLGeoJsonParserException;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
@@ -17,11 +16,7 @@ public class JLGeoJsonContent extends JLGeoJsonSource<String> {
             throw JLGeoJsonParserException.builder()
                     .message("json is empty!")
                     .build();
-        try {
-            validateJson(content);
-            return content;
-        } catch (JsonParseException e) {
-            throw new JLGeoJsonParserException(e.getMessage());
-        }
+        validateJson(content);
+        return content;
     }
 }
@@ -1,6 +1,5 @@
 package io.github.makbn.jlmap.geojson;
 
-import com.google.gson.JsonParseException;
 import io.github.makbn.jlmap.exception.JLGeoJsonParserException;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
@@ -15,13 +14,16 @@ import java.nio.file.Files;
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 public class JLGeoJsonFile extends JLGeoJsonSource<File> {
 
+    /**
+     * Reads and validates the file in one pass, without the whole file or a tree of it in memory
+     * besides the returned content. Use {@link JLGeoJsonReader} to process the features of large
+     * files one at a time instead.
+     */
     @Override
     public String load(File file) throws JLGeoJsonParserException {
         try {
-            String fileContent = Files.readString(file.toPath());
-            validateJson(fileContent);
-            return fileContent;
-        } catch (IOException | JsonParseException e) {
+            return JLGeoJsonReader.readCompact(Files.newInputStream(file.toPath()));
+        } catch (IOException e) {
             throw new JLGeoJsonParserException(e.getMessage());
         }
     }
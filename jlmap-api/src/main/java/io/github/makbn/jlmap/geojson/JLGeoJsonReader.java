@@ -0,0 +1,293 @@
+package io.github.makbn.jlmap.geojson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.makbn.jlmap.exception.JLGeoJsonParserException;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * Streaming GeoJSON reader that validates the input while reading it and hands out the features
+ * one at a time, so only the current feature is kept in memory however large the input is.
+ * <p>
+ * The input can be a {@code FeatureCollection}, whose other members are available through
+ * {@link #getHeader()}, a plain array of features, or any other GeoJSON object, which is read as
+ * the only item.
+ * </p>
+ * <h4>Example:</h4>
+ * <pre>{@code
+ * try (JLGeoJsonReader reader = JLGeoJsonReader.of(Files.newInputStream(parcels))) {
+ *     reader.forEachFeature(feature -> index.add(feature.path("properties").path("id").asText()));
+ * }
+ * }</pre>
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class JLGeoJsonReader implements Closeable {
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String FEATURES = "features";
+
+    JsonParser parser;
+    /**
+     * The members of the root object other than the features
+     */
+    ObjectNode header = OBJECT_MAPPER.createObjectNode();
+    @NonFinal
+    Layout layout;
+    @NonFinal
+    boolean finished;
+
+    private JLGeoJsonReader(JsonParser parser) {
+        this.parser = parser;
+        this.layout = start();
+    }
+
+    private static JLGeoJsonReader open(JsonParser parser) throws IOException {
+        try {
+            return new JLGeoJsonReader(parser);
+        } catch (RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @param input GeoJSON in UTF-8, UTF-16 or UTF-32, closed with the reader
+     * @return a reader positioned before the first feature
+     * @throws JLGeoJsonParserException if the input doesn't start with a JSON object or array
+     */
+    public static JLGeoJsonReader of(@NonNull InputStream input) {
+        try {
+            return open(OBJECT_MAPPER.createParser(input));
+        } catch (IOException e) {
+            throw new JLGeoJsonParserException(e.getMessage());
+        }
+    }
+
+    /**
+     * @param input GeoJSON, closed with the reader
+     * @see #of(InputStream)
+     */
+    public static JLGeoJsonReader of(@NonNull Reader input) {
+        try {
+            return open(OBJECT_MAPPER.createParser(input));
+        } catch (IOException e) {
+            throw new JLGeoJsonParserException(e.getMessage());
+        }
+    }
+
+    /**
+     * @param input GeoJSON
+     * @see #of(InputStream)
+     */
+    public static JLGeoJsonReader of(@NonNull String input) {
+        try {
+            return open(OBJECT_MAPPER.createParser(input));
+        } catch (IOException e) {
+            throw new JLGeoJsonParserException(e.getMessage());
+        }
+    }
+
+    /**
+     * Validates the JSON and copies it without insignificant whitespace, token by token, without
+     * building a tree of it. The returned string is the only copy of the content in memory.
+     *
+     * @param input JSON in UTF-8, UTF-16 or UTF-32, closed when done
+     * @return the compact JSON
+     * @throws JLGeoJsonParserException if the input isn't a single valid JSON value
+     */
+    public static String readCompact(@NonNull InputStream input) {
+        try (JsonParser parser = OBJECT_MAPPER.createParser(input)) {
+            return copy(parser);
+        } catch (IOException e) {
+            throw new JLGeoJsonParserException(e.getMessage());
+        }
+    }
+
+    /**
+     * @param input JSON, closed when done
+     * @see #readCompact(InputStream)
+     */
+    public static String readCompact(@NonNull Reader input) {
+        try (JsonParser parser = OBJECT_MAPPER.createParser(input)) {
+            return copy(parser);
+        } catch (IOException e) {
+            throw new JLGeoJsonParserException(e.getMessage());
+        }
+    }
+
+    /**
+     * Checks that the content is a single valid JSON value without building a tree of it.
+     *
+     * @throws JLGeoJsonParserException if it isn't
+     */
+    public static void validate(@NonNull String content) {
+        try (JsonParser parser = OBJECT_MAPPER.createParser(content)) {
+            if (parser.nextToken() == null) {
+                throw new JLGeoJsonParserException("json is empty!");
+            }
+            parser.skipChildren();
+            checkEnd(parser);
+        } catch (IOException e) {
+            throw new JLGeoJsonParserException(e.getMessage());
+        }
+    }
+
+    /**
+     * @return the next feature, {@code null} after the last one
+     * @throws JLGeoJsonParserException if the input isn't valid or a feature isn't a JSON object
+     */
+    @Nullable
+    public ObjectNode nextFeature() {
+        if (finished) {
+            return null;
+        }
+        try {
+            if (layout == Layout.SINGLE) {
+                finish();
+                return header;
+            }
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                return parser.readValueAsTree();
+            } else if (token != JsonToken.END_ARRAY) {
+                throw new JLGeoJsonParserException("feature is not an object: " + token + " at " + parser.currentLocation());
+            }
+            if (layout == Layout.COLLECTION) {
+                readMembers();
+            }
+            finish();
+            return null;
+        } catch (IOException e) {
+            throw new JLGeoJsonParserException(e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the remaining features.
+     *
+     * @param action called with each feature in order
+     * @return number of features
+     */
+    public int forEachFeature(@NonNull Consumer<? super ObjectNode> action) {
+        int count = 0;
+        for (ObjectNode feature = nextFeature(); feature != null; feature = nextFeature()) {
+            action.accept(feature);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return the members of the root {@code FeatureCollection} other than its features, complete
+     * once all features are read. The root object itself if it isn't a collection.
+     */
+    public ObjectNode getHeader() {
+        return header;
+    }
+
+    /**
+     * @return {@code true} if the features are in the {@code features} member of a root object,
+     * {@code false} for a root array or a single object
+     */
+    public boolean isCollection() {
+        return layout == Layout.COLLECTION;
+    }
+
+    /**
+     * @return {@code true} if the input is a single object that is read as the only feature
+     */
+    public boolean isSingle() {
+        return layout == Layout.SINGLE;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private Layout start() {
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                return Layout.ARRAY;
+            } else if (token != JsonToken.START_OBJECT) {
+                throw new JLGeoJsonParserException(token == null ? "json is empty!" : "GeoJSON is not an object: " + token);
+            }
+            return readMembers() ? Layout.COLLECTION : Layout.SINGLE;
+        } catch (IOException e) {
+            throw new JLGeoJsonParserException(e.getMessage());
+        }
+    }
+
+    /**
+     * Reads members of the root object into the header, up to the features.
+     *
+     * @return {@code true} if the parser stopped at the start of the features
+     */
+    private boolean readMembers() throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY && FEATURES.equals(name) && !header.has(FEATURES)) {
+                return true;
+            }
+            header.set(name, parser.readValueAsTree());
+        }
+        return false;
+    }
+
+    private void finish() throws IOException {
+        finished = true;
+        checkEnd(parser);
+    }
+
+    private static void checkEnd(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token != null) {
+            throw new JLGeoJsonParserException("unexpected " + token + " after the end of the GeoJSON at " + parser.currentLocation());
+        }
+    }
+
+    private static String copy(JsonParser parser) throws IOException {
+        SegmentedStringWriter writer = new SegmentedStringWriter(new BufferRecycler());
+        try (JsonGenerator generator = OBJECT_MAPPER.createGenerator(writer)) {
+            if (parser.nextToken() == null) {
+                throw new JLGeoJsonParserException("json is empty!");
+            }
+            generator.copyCurrentStructure(parser);
+            checkEnd(parser);
+        }
+        return writer.getAndClear();
+    }
+
+    private enum Layout {
+        /**
+         * Features in a root array
+         */
+        ARRAY,
+        /**
+         * Features in the {@code features} member of a root object
+         */
+        COLLECTION,
+        /**
+         * A single root object without features
+         */
+        SINGLE
+    }
+}
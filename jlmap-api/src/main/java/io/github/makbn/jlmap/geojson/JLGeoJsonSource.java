@@ -1,7 +1,6 @@
 package io.github.makbn.jlmap.geojson;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
 import io.github.makbn.jlmap.exception.JLGeoJsonParserException;
 import io.github.makbn.jlmap.model.JLGeoJson;
 import lombok.AccessLevel;
@@ -43,8 +42,13 @@ public abstract class JLGeoJsonSource<S> {
      */
     public abstract String load(S source) throws JLGeoJsonParserException;
 
-    protected void validateJson(String jsonInString) throws JsonSyntaxException {
-        gson.fromJson(jsonInString, Object.class);
+    /**
+     * Checks the syntax of the JSON without building a tree of it.
+     *
+     * @throws JLGeoJsonParserException if the JSON isn't valid
+     */
+    protected void validateJson(String jsonInString) throws JLGeoJsonParserException {
+        JLGeoJsonReader.validate(jsonInString);
     }
 
 }
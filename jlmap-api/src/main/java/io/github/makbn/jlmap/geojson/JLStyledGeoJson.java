@@ -0,0 +1,165 @@
+package io.github.makbn.jlmap.geojson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.makbn.jlmap.exception.JLGeoJsonParserException;
+import io.github.makbn.jlmap.model.JLGeoJsonOptions;
+import io.github.makbn.jlmap.model.JLOptions;
+import io.github.makbn.jlmap.model.JLStyleTable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * GeoJSON content with the {@link JLGeoJsonOptions#getFilter() filter} and the
+ * {@link JLGeoJsonOptions#getStyleFunction() style function} evaluated on the server when it is
+ * loaded. Filtered features are left out of the content, every other feature is tagged with the
+ * index of its style in a {@link JLStyleTable} through the foreign member
+ * {@value #STYLE_MEMBER}, so the client styles features without calling back into Java and only
+ * receives each distinct style once.
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@Slf4j
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class JLStyledGeoJson {
+    /**
+     * Member of each feature holding the index of its style.
+     */
+    public static final String STYLE_MEMBER = "jlStyle";
+    private static final ObjectMapper OBJECT_MAPPER = JLGeoJsonReader.OBJECT_MAPPER;
+    private static final TypeReference<Map<String, Object>> PROPERTIES = new TypeReference<>() {
+    };
+
+    /**
+     * The GeoJSON without the filtered features
+     */
+    String content;
+    /**
+     * The distinct styles of the features
+     */
+    JLStyleTable styles;
+    /**
+     * The distinct styles as a JSON array, in order of their index
+     */
+    String stylesJson;
+    /**
+     * Number of features before filtering
+     */
+    int featureCount;
+    /**
+     * Number of features in {@link #getContent() content}
+     */
+    int keptCount;
+
+    /**
+     * Evaluates the options for every feature of a {@code FeatureCollection}, a single
+     * {@code Feature} or an array of features. Like in Leaflet, the functions receive the
+     * properties of each feature.
+     *
+     * @param geoJson the GeoJSON
+     * @param options the filter and style function
+     * @return the evaluated content, {@code null} if the content isn't JSON with features, e.g. a
+     * bare geometry, to let the client evaluate it instead
+     */
+    @Nullable
+    public static JLStyledGeoJson evaluate(@NonNull String geoJson, @NonNull JLGeoJsonOptions options) {
+        SegmentedStringWriter content = new SegmentedStringWriter(new BufferRecycler());
+        JLStyleTable styles = new JLStyleTable();
+        int featureCount = 0;
+        int kept = 0;
+        // features are read, evaluated and written one at a time
+        try (JLGeoJsonReader reader = JLGeoJsonReader.of(geoJson);
+             JsonGenerator generator = OBJECT_MAPPER.createGenerator(content)) {
+            ObjectNode header = reader.getHeader();
+            int leadingMembers = header.size();
+            if (reader.isSingle()) {
+                if (!"Feature".equals(header.path("type").asText())) {
+                    return null;
+                }
+                // a single feature is wrapped so that it can be filtered out like the others
+                generator.writeStartObject();
+                generator.writeStringField("type", "FeatureCollection");
+                generator.writeArrayFieldStart("features");
+            } else if (reader.isCollection()) {
+                generator.writeStartObject();
+                writeMembers(generator, header, 0, leadingMembers);
+                generator.writeArrayFieldStart("features");
+            } else {
+                generator.writeStartArray();
+            }
+
+            Predicate<List<Map<String, Object>>> filter = options.getFilter();
+            Function<List<Map<String, Object>>, JLOptions> styleFunction = options.getStyleFunction();
+            for (ObjectNode feature = reader.nextFeature(); feature != null; feature = reader.nextFeature()) {
+                featureCount++;
+                List<Map<String, Object>> properties = Collections.singletonList(properties(feature));
+                if (filter != null && !filter.test(properties)) {
+                    continue;
+                }
+                if (styleFunction != null) {
+                    int style = styles.intern(styleFunction.apply(properties));
+                    if (style >= 0) {
+                        feature.put(STYLE_MEMBER, style);
+                    }
+                }
+                generator.writeTree(feature);
+                kept++;
+            }
+
+            generator.writeEndArray();
+            if (reader.isCollection()) {
+                // members after the features are only known now
+                writeMembers(generator, header, leadingMembers, header.size());
+            }
+            if (reader.isCollection() || reader.isSingle()) {
+                generator.writeEndObject();
+            }
+            generator.close();
+            return new JLStyledGeoJson(content.getAndClear(), styles,
+                    OBJECT_MAPPER.valueToTree(styles.getStyles()).toString(), featureCount, kept);
+        } catch (IOException | JLGeoJsonParserException e) {
+            log.debug("GeoJSON can't be evaluated on the server: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static void writeMembers(JsonGenerator generator, ObjectNode members, int from, int to) throws IOException {
+        Iterator<Map.Entry<String, JsonNode>> fields = members.fields();
+        for (int i = 0; i < to && fields.hasNext(); i++) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (i >= from) {
+                generator.writeFieldName(field.getKey());
+                generator.writeTree(field.getValue());
+            }
+        }
+    }
+
+    private static Map<String, Object> properties(JsonNode feature) {
+        JsonNode properties = feature.get("properties");
+        if (properties == null || !properties.isObject()) {
+            return Collections.emptyMap();
+        }
+        return OBJECT_MAPPER.convertValue(properties, PROPERTIES);
+    }
+}
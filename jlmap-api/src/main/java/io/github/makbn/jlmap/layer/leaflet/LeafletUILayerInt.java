@@ -1,7 +1,12 @@
 package io.github.makbn.jlmap.layer.leaflet;
 
+import io.github.makbn.jlmap.JLClusterLayer;
+import io.github.makbn.jlmap.JLViewportLayer;
 import io.github.makbn.jlmap.model.*;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * The {@code LeafletUILayerInt} interface defines methods for adding and
  * managing user interface elements like markers and popups in a Leaflet map.
@@ -26,6 +31,46 @@ public interface LeafletUILayerInt extends LeafletLayer {
      */
     JLMarker addMarker(JLLatLng latLng, String text, boolean draggable);
 
+    /**
+     * Adds a set of markers to the Leaflet map in one go. All markers are sent
+     * to the client as a single payload and registered for events together,
+     * which is considerably faster than calling
+     * {@link #addMarker(JLLatLng, String, boolean)} for each of them.
+     *
+     * @param latLngs   The geographical coordinates of the markers.
+     * @param draggable {@code true} if the markers should be draggable,
+     *                  {@code false} otherwise.
+     * @return The {@link JLMarker}s representing the added markers, in the
+     * iteration order of {@code latLngs}.
+     */
+    List<JLMarker> addMarkers(Collection<JLLatLng> latLngs, boolean draggable);
+
+    /**
+     * Adds a set of markers that only exist on the client while they are
+     * near the visible area of the map. Use it for datasets too large to be
+     * shown at once; more markers can be added to the returned layer later.
+     *
+     * @param latLngs   The geographical coordinates of the markers.
+     * @param draggable {@code true} if the markers should be draggable,
+     *                  {@code false} otherwise.
+     * @return The {@link JLViewportLayer} holding the markers.
+     */
+    JLViewportLayer<JLMarker> addViewportMarkers(Collection<JLLatLng> latLngs, boolean draggable);
+
+    /**
+     * Adds a set of markers that are grouped into clusters wherever they are
+     * too close to each other at the current zoom level. The clusters are
+     * computed on the server and follow the zoom and the visible area of the
+     * map; clicking a cluster zooms into it. More markers can be added to the
+     * returned layer later.
+     *
+     * @param latLngs   The geographical coordinates of the markers.
+     * @param draggable {@code true} if the markers should be draggable,
+     *                  {@code false} otherwise.
+     * @return The {@link JLClusterLayer} holding the markers.
+     */
+    JLClusterLayer addClusteredMarkers(Collection<JLLatLng> latLngs, boolean draggable);
+
     /**
      * Removes a marker from the Leaflet map based on its identifier.
      *
@@ -2,6 +2,9 @@ package io.github.makbn.jlmap.layer.leaflet;
 
 import io.github.makbn.jlmap.model.*;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * The {@code LeafletVectorLayerInt} interface defines methods for adding and managing
  * vector-based elements such as polylines, polygons, circles, and circle markers in a
@@ -31,6 +34,31 @@ public interface LeafletVectorLayerInt extends LeafletLayer{
      */
     JLPolyline addPolyline(JLLatLng[] vertices, JLOptions options);
 
+    /**
+     * Adds a polyline that is simplified for the zoom level of the map. Only the points needed
+     * at the current zoom level are sent to the client, and the matching level of detail is sent
+     * whenever the map finished zooming.
+     *
+     * @param vertices          An array of geographical coordinates (latitude and longitude) that define
+     *                          the vertices of the polyline.
+     * @param options           Custom options for configuring the appearance and behavior of the polyline.
+     * @param simplifyTolerance Maximum deviation of the shown polyline in pixels, {@code 0} to show all points.
+     * @return The {@link JLPolyline} representing the added polyline on the map.
+     * @see JLPathLevels
+     */
+    JLPolyline addPolyline(JLLatLng[] vertices, JLOptions options, double simplifyTolerance);
+
+    /**
+     * Adds a set of polylines sharing the same options to the Leaflet map in one go.
+     * All polylines are sent to the client as a single payload and registered for events together.
+     *
+     * @param polylines The vertices of each polyline.
+     * @param options   Custom options for configuring the appearance of the polylines.
+     * @return The {@link JLPolyline}s representing the added polylines, in the iteration order
+     *         of {@code polylines}.
+     */
+    List<JLPolyline> addPolylines(Collection<JLLatLng[]> polylines, JLOptions options);
+
     /**
      * Removes a polyline from the Leaflet map based on its identifier.
      *
@@ -79,6 +107,19 @@ public interface LeafletVectorLayerInt extends LeafletLayer{
      */
     JLPolygon addPolygon(JLLatLng[][][] vertices, JLOptions options);
 
+    /**
+     * Adds a polygon that is simplified for the zoom level of the map, like
+     * {@link #addPolyline(JLLatLng[], JLOptions, double)}. Rings keep at least three vertices.
+     *
+     * @param vertices          An array of arrays of geographical coordinates (latitude and longitude) that
+     *                          define the vertices of the polygon.
+     * @param options           Custom options for configuring the appearance and behavior of the polygon.
+     * @param simplifyTolerance Maximum deviation of the shown polygon in pixels, {@code 0} to show all points.
+     * @return The {@link JLPolygon} representing the added polygon on the map.
+     * @see JLPathLevels
+     */
+    JLPolygon addPolygon(JLLatLng[][][] vertices, JLOptions options, double simplifyTolerance);
+
     /**
      * Adds a polygon to the Leaflet map with the provided array of arrays of vertices.
      *
@@ -142,6 +183,18 @@ public interface LeafletVectorLayerInt extends LeafletLayer{
      */
     JLCircleMarker addCircleMarker(JLLatLng center);
 
+    /**
+     * Adds a set of circle markers sharing the same radius and options to the Leaflet map in one go.
+     * All circle markers are sent to the client as a single payload and registered for events together.
+     *
+     * @param centers The geographical coordinates of the circle markers.
+     * @param radius  The radius of the circle markers in pixels.
+     * @param options Custom options for configuring the appearance and behavior of the circle markers.
+     * @return The {@link JLCircleMarker}s representing the added circle markers, in the iteration order
+     *         of {@code centers}.
+     */
+    List<JLCircleMarker> addCircleMarkers(Collection<JLLatLng> centers, int radius, JLOptions options);
+
     /**
      * Removes a circle marker from the Leaflet map based on its identifier.
      *
@@ -1,11 +1,8 @@
 package io.github.makbn.jlmap.listener.event;
 
-import com.google.gson.Gson;
 import io.github.makbn.jlmap.JLMap;
 import io.github.makbn.jlmap.listener.JLAction;
 import io.github.makbn.jlmap.listener.OnJLActionListener;
-import io.github.makbn.jlmap.model.JLBounds;
-import io.github.makbn.jlmap.model.JLLatLng;
 import io.github.makbn.jlmap.model.JLObject;
 import lombok.AccessLevel;
 import lombok.NonNull;
@@ -50,46 +47,42 @@ public class JLDragEventHandler implements JLEventHandler<JLObject<?>> {
 
     public static final Set<String> FUNCTIONS = Set.of(FUNCTION_MOVE, FUNCTION_MOVE_START, FUNCTION_MOVE_END, FUNCTION_DRAG, FUNCTION_DRAG_START, FUNCTION_DRAG_END);
 
-    Gson gson = new Gson();
-
     @Override
     public void handle(@NonNull JLMap<?> map, @NonNull JLObject<?> source, @NonNull String functionName,
-                       OnJLActionListener<JLObject<?>> listener, Object param1, Object param2,
-                       Object param3, Object param4, Object param5) {
+                       OnJLActionListener<JLObject<?>> listener, @NonNull JLEventPayload payload) {
         switch (functionName) {
             case FUNCTION_MOVE -> listener
-                    .onAction(source, getMoveEvent(JLAction.MOVE, param4, param5, param3));
+                    .onAction(source, getMoveEvent(JLAction.MOVE, payload));
             case FUNCTION_MOVE_START -> listener
-                    .onAction(source, getMoveEvent(JLAction.MOVE_START, param4, param5, param3));
+                    .onAction(source, getMoveEvent(JLAction.MOVE_START, payload));
             case FUNCTION_MOVE_END -> listener
-                    .onAction(source, getMoveEvent(JLAction.MOVE_END, param4, param5, param3));
+                    .onAction(source, getMoveEvent(JLAction.MOVE_END, payload));
             case FUNCTION_DRAG -> listener
-                    .onAction(source, getDragEvent(JLAction.DRAG, param4, param5, param3));
+                    .onAction(source, getDragEvent(JLAction.DRAG, payload));
             case FUNCTION_DRAG_START -> listener
-                    .onAction(source, getDragEvent(JLAction.DRAG_START, param4, param5, param3));
+                    .onAction(source, getDragEvent(JLAction.DRAG_START, payload));
             case FUNCTION_DRAG_END -> listener
-                    .onAction(source, getDragEvent(JLAction.DRAG_END, param4, param5, param3));
+                    .onAction(source, getDragEvent(JLAction.DRAG_END, payload));
 
             default -> log.error("{} not implemented!", functionName);
         }
     }
 
-    private @NotNull MoveEvent getMoveEvent(JLAction action, Object param4, Object param5, Object param3) {
-        return new MoveEvent(action,
-                gson.fromJson(String.valueOf(param4), JLLatLng.class),
-                gson.fromJson(String.valueOf(param5), JLBounds.class),
-                Integer.parseInt(String.valueOf(param3)));
+    private @NotNull MoveEvent getMoveEvent(JLAction action, JLEventPayload payload) {
+        return new MoveEvent(action, payload.getLatLng(), payload.getBounds(), payload.getZoom());
     }
 
-    private @NotNull DragEvent getDragEvent(JLAction action, Object param4, Object param5, Object param3) {
-        return new DragEvent(action,
-                gson.fromJson(String.valueOf(param4), JLLatLng.class),
-                gson.fromJson(String.valueOf(param5), JLBounds.class),
-                Integer.parseInt(String.valueOf(param3)));
+    private @NotNull DragEvent getDragEvent(JLAction action, JLEventPayload payload) {
+        return new DragEvent(action, payload.getLatLng(), payload.getBounds(), payload.getZoom());
     }
 
     @Override
     public boolean canHandle(@NonNull String functionName) {
         return FUNCTIONS.contains(functionName);
     }
+
+    @Override
+    public @NonNull Set<String> getFunctions() {
+        return FUNCTIONS;
+    }
 }
@@ -4,13 +4,29 @@ import io.github.makbn.jlmap.JLMap;
 import io.github.makbn.jlmap.listener.OnJLActionListener;
 import lombok.NonNull;
 
+import java.util.Set;
+
 /**
  * @author Matt Akbarian  (@makbn)
  */
 public interface JLEventHandler<T> {
 
-    void handle(@NonNull JLMap<?> map, @NonNull T source, @NonNull String functionName, OnJLActionListener<T> listener, Object param1, Object param2,
-                Object param3, Object param4, Object param5);
+    /**
+     * @param map          the map the event happened on
+     * @param source       the map or the object that fired the event
+     * @param functionName name of the Leaflet event
+     * @param listener     listener of the source
+     * @param payload      zoom, position and bounds sent with the event, decoded once per event
+     */
+    void handle(@NonNull JLMap<?> map, @NonNull T source, @NonNull String functionName, OnJLActionListener<T> listener,
+                @NonNull JLEventPayload payload);
 
     boolean canHandle(@NonNull String functionName);
+
+    /**
+     * @return names of all Leaflet events this handler handles, used to route events without
+     * asking every handler
+     */
+    @NonNull
+    Set<String> getFunctions();
 }
@@ -0,0 +1,155 @@
+package io.github.makbn.jlmap.listener.event;
+
+import io.github.makbn.jlmap.model.JLBounds;
+import io.github.makbn.jlmap.model.JLLatLng;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Decoded payload of a client event.
+ * <p>
+ * The client sends the zoom level, a position and the map bounds of every event as JSON strings.
+ * They are decoded once, in a single pass and without building an intermediate JSON tree, when
+ * the event reaches a listener. Handlers read the numeric values directly and only create model
+ * objects, e.g. {@link #getLatLng()}, for the events they emit.
+ * </p>
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public final class JLEventPayload {
+    int zoom;
+    /**
+     * Latitude of the event position, {@code NaN} if the event has no position.
+     */
+    double lat = Double.NaN;
+    /**
+     * Longitude of the event position, {@code NaN} if the event has no position.
+     */
+    double lng = Double.NaN;
+    /**
+     * Container point of a context menu event.
+     */
+    double x;
+    double y;
+    double north = Double.NaN;
+    double east = Double.NaN;
+    double south = Double.NaN;
+    double west = Double.NaN;
+    int oldWidth;
+    int oldHeight;
+    int newWidth;
+    int newHeight;
+    /**
+     * Coordinates of a path, if the position of the event is an array.
+     */
+    @Getter(AccessLevel.NONE)
+    List<List<JLLatLng>> path;
+
+    JLEventPayload() {
+    }
+
+    /**
+     * Decodes the raw event parameters sent by the client.
+     *
+     * @param zoom     zoom level of the map
+     * @param position JSON object of the event position or dimensions, or JSON array of a path
+     * @param bounds   JSON object of the map bounds
+     * @return the decoded payload, values that are missing or malformed are left unset
+     */
+    public static JLEventPayload parse(@Nullable Object zoom, @Nullable Object position, @Nullable Object bounds) {
+        JLEventPayload payload = new JLEventPayload();
+        if (zoom != null) {
+            double zoomLevel = JLEventPayloadParser.parseNumber(zoom.toString());
+            payload.zoom = Double.isNaN(zoomLevel) ? 0 : (int) zoomLevel;
+        }
+        if (position != null) {
+            JLEventPayloadParser.parse(position.toString(), payload);
+        }
+        if (bounds != null) {
+            JLEventPayloadParser.parse(bounds.toString(), payload);
+        }
+        return payload;
+    }
+
+    public boolean hasLatLng() {
+        return !Double.isNaN(lat) && !Double.isNaN(lng);
+    }
+
+    public boolean hasBounds() {
+        return !Double.isNaN(north) && !Double.isNaN(east) && !Double.isNaN(south) && !Double.isNaN(west);
+    }
+
+    /**
+     * @return position of the event, {@code null} if the event has no position
+     */
+    @Nullable
+    public JLLatLng getLatLng() {
+        return hasLatLng() ? new JLLatLng(lat, lng) : null;
+    }
+
+    /**
+     * @return bounds of the map when the event happened, {@code null} if not sent
+     */
+    @Nullable
+    public JLBounds getBounds() {
+        if (!hasBounds()) {
+            return null;
+        }
+        return JLBounds.builder()
+                .northEast(new JLLatLng(north, east))
+                .southWest(new JLLatLng(south, west))
+                .build();
+    }
+
+    /**
+     * @return coordinates of the event source, one list per ring or line. A single position
+     * is returned as a path of one point.
+     */
+    public List<List<JLLatLng>> getLatLngs() {
+        if (path != null) {
+            return path;
+        }
+        return hasLatLng() ? List.of(List.of(new JLLatLng(lat, lng))) : List.of();
+    }
+
+    void setPosition(double lat, double lng) {
+        this.lat = lat;
+        this.lng = lng;
+    }
+
+    void setPoint(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    void setNorthEast(double north, double east) {
+        this.north = north;
+        this.east = east;
+    }
+
+    void setSouthWest(double south, double west) {
+        this.south = south;
+        this.west = west;
+    }
+
+    void setOldSize(int oldWidth, int oldHeight) {
+        this.oldWidth = oldWidth;
+        this.oldHeight = oldHeight;
+    }
+
+    void setNewSize(int newWidth, int newHeight) {
+        this.newWidth = newWidth;
+        this.newHeight = newHeight;
+    }
+
+    void setPath(List<List<JLLatLng>> path) {
+        this.path = path;
+    }
+}
@@ -0,0 +1,413 @@
+package io.github.makbn.jlmap.listener.event;
+
+import io.github.makbn.jlmap.model.JLLatLng;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single pass reader for the JSON parameters of client events.
+ * <p>
+ * Only the few keys the events carry are recognized ({@code lat}, {@code lng}, {@code x}, {@code y},
+ * the old and new dimensions of a resize and the corners of bounds, with or without Leaflet's
+ * underscore prefix), everything else is skipped. Keys are matched in place and numbers are decoded
+ * without creating substrings, so an event is decoded without intermediate objects.
+ * </p>
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE)
+final class JLEventPayloadParser {
+    /**
+     * Marks values nested in objects that aren't part of an event, their keys are ignored.
+     */
+    private static final int KEY_IGNORED = -1;
+    private static final int KEY_UNKNOWN = 0;
+    private static final int KEY_LAT = 1;
+    private static final int KEY_LNG = 2;
+    private static final int KEY_X = 3;
+    private static final int KEY_Y = 4;
+    private static final int KEY_NORTH_EAST = 5;
+    private static final int KEY_SOUTH_WEST = 6;
+    private static final int KEY_OLD_WIDTH = 7;
+    private static final int KEY_OLD_HEIGHT = 8;
+    private static final int KEY_NEW_WIDTH = 9;
+    private static final int KEY_NEW_HEIGHT = 10;
+    /**
+     * Largest mantissa that is exactly representable as a double.
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    final String json;
+    final int length;
+    int pos;
+
+    // values at the top level, or of the current path element
+    double lat = Double.NaN;
+    double lng = Double.NaN;
+    double x = Double.NaN;
+    double y = Double.NaN;
+    int oldWidth = -1;
+    int oldHeight = -1;
+    int newWidth = -1;
+    int newHeight = -1;
+    // values nested in the bounds corners
+    double north = Double.NaN;
+    double east = Double.NaN;
+    double south = Double.NaN;
+    double west = Double.NaN;
+
+    private JLEventPayloadParser(String json) {
+        this.json = json;
+        this.length = json.length();
+    }
+
+    /**
+     * Reads the recognized values of the given JSON object or array into the payload.
+     */
+    static void parse(@NonNull String json, @NonNull JLEventPayload payload) {
+        JLEventPayloadParser parser = new JLEventPayloadParser(json);
+        try {
+            parser.skipWhitespace();
+            if (parser.pos < parser.length && parser.json.charAt(parser.pos) == '[') {
+                List<List<JLLatLng>> path = new ArrayList<>();
+                parser.path(path);
+                payload.setPath(path);
+            } else {
+                parser.value(KEY_UNKNOWN);
+                parser.applyTo(payload);
+            }
+        } catch (RuntimeException e) {
+            log.error("invalid event parameter: {}", json, e);
+        }
+    }
+
+    /**
+     * @return the number in the given string, {@code NaN} if it is not a number
+     */
+    static double parseNumber(@NonNull String value) {
+        JLEventPayloadParser parser = new JLEventPayloadParser(value);
+        parser.skipWhitespace();
+        if (parser.pos >= parser.length || !isNumberStart(value.charAt(parser.pos))) {
+            return Double.NaN;
+        }
+        try {
+            return parser.number();
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private void applyTo(JLEventPayload payload) {
+        if (!Double.isNaN(lat) && !Double.isNaN(lng)) {
+            payload.setPosition(lat, lng);
+        }
+        if (!Double.isNaN(x) && !Double.isNaN(y)) {
+            payload.setPoint(x, y);
+        }
+        if (!Double.isNaN(north) && !Double.isNaN(east)) {
+            payload.setNorthEast(north, east);
+        }
+        if (!Double.isNaN(south) && !Double.isNaN(west)) {
+            payload.setSouthWest(south, west);
+        }
+        if (oldWidth >= 0 && oldHeight >= 0) {
+            payload.setOldSize(oldWidth, oldHeight);
+        }
+        if (newWidth >= 0 && newHeight >= 0) {
+            payload.setNewSize(newWidth, newHeight);
+        }
+    }
+
+    /**
+     * Reads a path, i.e. nested arrays of {@code {lat, lng}} objects. Every innermost array
+     * becomes one list of the result.
+     */
+    private void path(List<List<JLLatLng>> paths) {
+        expect('[');
+        skipWhitespace();
+        if (peek() == '[') {
+            while (true) {
+                path(paths);
+                if (!nextElement(']')) {
+                    return;
+                }
+            }
+        }
+        List<JLLatLng> points = new ArrayList<>();
+        paths.add(points);
+        if (peek() == ']') {
+            pos++;
+            return;
+        }
+        while (true) {
+            lat = Double.NaN;
+            lng = Double.NaN;
+            value(KEY_UNKNOWN);
+            if (!Double.isNaN(lat) && !Double.isNaN(lng)) {
+                points.add(new JLLatLng(lat, lng));
+            }
+            if (!nextElement(']')) {
+                return;
+            }
+        }
+    }
+
+    private void value(int parentKey) {
+        skipWhitespace();
+        char c = peek();
+        if (c == '{') {
+            object(parentKey);
+        } else if (c == '[') {
+            skipArray();
+        } else if (c == '"') {
+            skipString();
+        } else if (isNumberStart(c)) {
+            number();
+        } else {
+            skipLiteral();
+        }
+    }
+
+    private void object(int objectKey) {
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return;
+        }
+        while (true) {
+            skipWhitespace();
+            int key = key();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            char c = peek();
+            if (isNumberStart(c)) {
+                onNumber(objectKey, key, number());
+            } else if (c == '{' && (key == KEY_NORTH_EAST || key == KEY_SOUTH_WEST)) {
+                object(key);
+            } else {
+                value(KEY_IGNORED);
+            }
+            if (!nextElement('}')) {
+                return;
+            }
+        }
+    }
+
+    private void onNumber(int objectKey, int key, double value) {
+        if (objectKey == KEY_IGNORED) {
+            return;
+        }
+        if (objectKey == KEY_NORTH_EAST) {
+            if (key == KEY_LAT) {
+                north = value;
+            } else if (key == KEY_LNG) {
+                east = value;
+            }
+        } else if (objectKey == KEY_SOUTH_WEST) {
+            if (key == KEY_LAT) {
+                south = value;
+            } else if (key == KEY_LNG) {
+                west = value;
+            }
+        } else {
+            switch (key) {
+                case KEY_LAT -> lat = value;
+                case KEY_LNG -> lng = value;
+                case KEY_X -> x = value;
+                case KEY_Y -> y = value;
+                case KEY_OLD_WIDTH -> oldWidth = (int) value;
+                case KEY_OLD_HEIGHT -> oldHeight = (int) value;
+                case KEY_NEW_WIDTH -> newWidth = (int) value;
+                case KEY_NEW_HEIGHT -> newHeight = (int) value;
+                default -> {
+                    // not part of any event
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a key and matches it against the known keys without creating a string.
+     */
+    private int key() {
+        expect('"');
+        int start = pos;
+        while (pos < length && json.charAt(pos) != '"') {
+            if (json.charAt(pos) == '\\') {
+                // keys of interest are never escaped
+                skipString(start - 1);
+                return KEY_UNKNOWN;
+            }
+            pos++;
+        }
+        int end = pos;
+        expect('"');
+        if (end - start > 1 && json.charAt(start) == '_') {
+            start++;
+        }
+        return switch (end - start) {
+            case 1 -> switch (json.charAt(start)) {
+                case 'x' -> KEY_X;
+                case 'y' -> KEY_Y;
+                default -> KEY_UNKNOWN;
+            };
+            case 3 -> matches(start, "lat") ? KEY_LAT : matches(start, "lng") ? KEY_LNG : KEY_UNKNOWN;
+            case 8 -> matches(start, "oldWidth") ? KEY_OLD_WIDTH : matches(start, "newWidth") ? KEY_NEW_WIDTH : KEY_UNKNOWN;
+            case 9 -> {
+                if (matches(start, "northEast")) {
+                    yield KEY_NORTH_EAST;
+                } else if (matches(start, "southWest")) {
+                    yield KEY_SOUTH_WEST;
+                } else if (matches(start, "oldHeight")) {
+                    yield KEY_OLD_HEIGHT;
+                } else {
+                    yield matches(start, "newHeight") ? KEY_NEW_HEIGHT : KEY_UNKNOWN;
+                }
+            }
+            default -> KEY_UNKNOWN;
+        };
+    }
+
+    private boolean matches(int start, String key) {
+        return json.regionMatches(start, key, 0, key.length());
+    }
+
+    /**
+     * Decodes a JSON number. Numbers with up to 15 significant digits and no exponent, which
+     * covers coordinates and pixel values, are computed exactly from their digits; anything
+     * else falls back to {@link Double#parseDouble(String)}.
+     */
+    private double number() {
+        int start = pos;
+        boolean negative = false;
+        if (json.charAt(pos) == '-') {
+            negative = true;
+            pos++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean fraction = false;
+        boolean exact = true;
+        while (pos < length) {
+            char c = json.charAt(pos);
+            if (c >= '0' && c <= '9') {
+                if (digits < 15) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (mantissa != 0) {
+                        digits++;
+                    }
+                    if (fraction) {
+                        fractionDigits++;
+                    }
+                } else {
+                    exact = false;
+                }
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else if (c == 'e' || c == 'E' || c == '+' || (c == '-' && pos > start)) {
+                exact = false;
+            } else {
+                break;
+            }
+            pos++;
+        }
+        if (pos == start || (negative && pos == start + 1)) {
+            throw new NumberFormatException("number expected at " + start);
+        }
+        if (!exact || mantissa >= MAX_EXACT_MANTISSA || fractionDigits >= POWERS_OF_TEN.length) {
+            return Double.parseDouble(json.substring(start, pos));
+        }
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    private static boolean isNumberStart(char c) {
+        return c == '-' || (c >= '0' && c <= '9');
+    }
+
+    private boolean nextElement(char close) {
+        skipWhitespace();
+        char c = peek();
+        pos++;
+        if (c == ',') {
+            return true;
+        }
+        if (c != close) {
+            throw new IllegalStateException("'" + close + "' expected at " + (pos - 1));
+        }
+        return false;
+    }
+
+    private void skipArray() {
+        expect('[');
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return;
+        }
+        do {
+            value(KEY_IGNORED);
+        } while (nextElement(']'));
+    }
+
+    private void skipString() {
+        skipString(pos);
+    }
+
+    private void skipString(int quote) {
+        pos = quote + 1;
+        while (pos < length) {
+            char c = json.charAt(pos++);
+            if (c == '\\') {
+                pos++;
+            } else if (c == '"') {
+                return;
+            }
+        }
+        throw new IllegalStateException("unterminated string at " + quote);
+    }
+
+    private void skipLiteral() {
+        int start = pos;
+        while (pos < length && Character.isLetter(json.charAt(pos))) {
+            pos++;
+        }
+        if (pos == start) {
+            throw new IllegalStateException("value expected at " + start);
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < length && json.charAt(pos) <= ' ') {
+            pos++;
+        }
+    }
+
+    private char peek() {
+        if (pos >= length) {
+            throw new IllegalStateException("unexpected end of input");
+        }
+        return json.charAt(pos);
+    }
+
+    private void expect(char c) {
+        if (peek() != c) {
+            throw new IllegalStateException("'" + c + "' expected at " + pos);
+        }
+        pos++;
+    }
+}
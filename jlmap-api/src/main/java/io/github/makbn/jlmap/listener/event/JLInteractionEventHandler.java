@@ -1,14 +1,9 @@
 package io.github.makbn.jlmap.listener.event;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import io.github.makbn.jlmap.JLMap;
 import io.github.makbn.jlmap.element.menu.JLContextMenuMediator;
 import io.github.makbn.jlmap.listener.JLAction;
 import io.github.makbn.jlmap.listener.OnJLActionListener;
-import io.github.makbn.jlmap.model.JLBounds;
-import io.github.makbn.jlmap.model.JLLatLng;
 import io.github.makbn.jlmap.model.JLObject;
 import lombok.AccessLevel;
 import lombok.NonNull;
@@ -36,48 +31,41 @@ public class JLInteractionEventHandler implements JLEventHandler<JLObject<?>> {
 
     public static final Set<String> FUNCTIONS = Set.of(FUNCTION_CLICK, FUNCTION_DOUBLE_CLICK, FUNCTION_CONTEXT_MENU);
 
-    Gson gson;
     JLContextMenuMediator contextMenuMediator;
 
     public JLInteractionEventHandler() {
-        this.gson = new Gson();
         this.contextMenuMediator = ServiceLoader.load(JLContextMenuMediator.class).findFirst().orElseThrow();
     }
 
     @Override
-    public void handle(@NonNull JLMap<?> map, @NonNull JLObject<?> source, @NonNull String functionName, OnJLActionListener<JLObject<?>> listener, Object param1, Object param2, Object param3, Object param4, Object param5) {
+    public void handle(@NonNull JLMap<?> map, @NonNull JLObject<?> source, @NonNull String functionName, OnJLActionListener<JLObject<?>> listener, @NonNull JLEventPayload payload) {
         switch (functionName) {
             case FUNCTION_CLICK -> listener
-                    .onAction(source, new ClickEvent(JLAction.CLICK, gson.fromJson(String.valueOf(param4), JLLatLng.class)));
+                    .onAction(source, new ClickEvent(JLAction.CLICK, payload.getLatLng()));
             case FUNCTION_DOUBLE_CLICK -> listener
-                    .onAction(source, new ClickEvent(JLAction.DOUBLE_CLICK, gson.fromJson(String.valueOf(param4), JLLatLng.class)));
-            case FUNCTION_CONTEXT_MENU -> handleContextMenuEvent(map, source, listener, param4, param5);
+                    .onAction(source, new ClickEvent(JLAction.DOUBLE_CLICK, payload.getLatLng()));
+            case FUNCTION_CONTEXT_MENU -> handleContextMenuEvent(map, source, listener, payload);
             default -> log.error("{} not implemented!", functionName);
         }
     }
 
-    private void handleContextMenuEvent(@NonNull JLMap<?> map, @NonNull JLObject<?> source, OnJLActionListener<JLObject<?>> listener, Object param4, Object param5) {
-        ContextMenuEvent event = new ContextMenuEvent(JLAction.CONTEXT_MENU, gson.fromJson(String.valueOf(param4), JLLatLng.class),
-                gson.fromJson(String.valueOf(param5), JLBounds.class), getPosition(String.valueOf(param4)));
+    private void handleContextMenuEvent(@NonNull JLMap<?> map, @NonNull JLObject<?> source, OnJLActionListener<JLObject<?>> listener, JLEventPayload payload) {
+        ContextMenuEvent event = new ContextMenuEvent(JLAction.CONTEXT_MENU, payload.getLatLng(),
+                payload.getBounds(), payload.getX(), payload.getY());
 
         contextMenuMediator.showContextMenu(map, source, event.x(), event.y());
         listener.onAction(source, event);
     }
 
 
-    private double[] getPosition(String positionJson) {
-        try {
-            JsonObject jsonObject = JsonParser.parseString(positionJson).getAsJsonObject();
-            return new double[]{jsonObject.get("x").getAsDouble(), jsonObject.get("y").getAsDouble()};
-        } catch (Exception e) {
-            log.error("Error parsing position from {}", positionJson, e);
-            return new double[]{0, 0};
-        }
-    }
-
 
     @Override
     public boolean canHandle(@NonNull String functionName) {
         return FUNCTIONS.contains(functionName);
     }
+
+    @Override
+    public @NonNull Set<String> getFunctions() {
+        return FUNCTIONS;
+    }
 }
@@ -1,12 +1,8 @@
 package io.github.makbn.jlmap.listener.event;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
 import io.github.makbn.jlmap.JLMap;
 import io.github.makbn.jlmap.listener.JLAction;
 import io.github.makbn.jlmap.listener.OnJLActionListener;
-import io.github.makbn.jlmap.model.JLBounds;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,44 +26,33 @@ public class JLStatusChangeEventHandler implements JLEventHandler<Object> {
     public static final Set<String> FUNCTIONS = Set.of(FUNCTION_ZOOM, FUNCTION_ZOOM_START, FUNCTION_ZOOM_END,
             FUNCTION_RESIZE);
 
-    Gson gson = new Gson();
-
     @Override
-    public void handle(@NonNull JLMap<?> map, @NonNull Object source, @NonNull String functionName, OnJLActionListener<Object> listener, Object param1, Object param2, Object param3, Object param4, Object param5) {
+    public void handle(@NonNull JLMap<?> map, @NonNull Object source, @NonNull String functionName, OnJLActionListener<Object> listener, @NonNull JLEventPayload payload) {
         switch (functionName) {
             case FUNCTION_ZOOM -> listener
-                    .onAction(source, new ZoomEvent(JLAction.ZOOM, gson.fromJson(String.valueOf(param3), Integer.class), gson.fromJson(String.valueOf(param5), JLBounds.class)));
+                    .onAction(source, new ZoomEvent(JLAction.ZOOM, payload.getZoom(), payload.getBounds()));
             case FUNCTION_ZOOM_START -> listener
-                    .onAction(source, new ZoomEvent(JLAction.ZOOM_START, gson.fromJson(String.valueOf(param3), Integer.class), gson.fromJson(String.valueOf(param5), JLBounds.class)));
+                    .onAction(source, new ZoomEvent(JLAction.ZOOM_START, payload.getZoom(), payload.getBounds()));
             case FUNCTION_ZOOM_END -> listener
-                    .onAction(source, new ZoomEvent(JLAction.ZOOM_END, gson.fromJson(String.valueOf(param3), Integer.class), gson.fromJson(String.valueOf(param5), JLBounds.class)));
+                    .onAction(source, new ZoomEvent(JLAction.ZOOM_END, payload.getZoom(), payload.getBounds()));
             case FUNCTION_RESIZE -> listener
                     .onAction(source, new ResizeEvent(JLAction.RESIZE,
-                            getDimension(param4, false, "Width"),
-                            getDimension(param4, false, "Height"),
-                            getDimension(param4, true, "Width"),
-                            getDimension(param4, true, "Height"),
-                            gson.fromJson(String.valueOf(param3), Integer.class)));
+                            payload.getNewWidth(),
+                            payload.getNewHeight(),
+                            payload.getOldWidth(),
+                            payload.getOldHeight(),
+                            payload.getZoom()));
             default -> log.error("{} not implemented!", functionName);
         }
     }
 
-    /**
-     * Extracts the dimension value from the JSON object for new or old width/height.
-     *
-     * @param json      the JSON object as string
-     * @param forOld    true for old dimension, false for new
-     * @param dimension "Width" or "Height"
-     * @return the dimension value as int
-     */
-    private int getDimension(Object json, boolean forOld, String dimension) {
-        String field = (forOld ? "old" : "new") + dimension;
-        JsonElement dimensionElement = JsonParser.parseString(String.valueOf(json));
-        return dimensionElement.getAsJsonObject().get(field).getAsInt();
-    }
-
     @Override
     public boolean canHandle(@NonNull String functionName) {
         return FUNCTIONS.contains(functionName);
     }
+
+    @Override
+    public @NonNull Set<String> getFunctions() {
+        return FUNCTIONS;
+    }
 }
@@ -3,29 +3,28 @@ package io.github.makbn.jlmap.model;
 import com.google.gson.annotations.SerializedName;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.Setter;
 
 import java.util.Objects;
 
 /**
- * Represents a rectangular geographical area on a map.
+ * Represents a rectangular geographical area on a map. Bounds are immutable, like their
+ * {@link JLLatLng corners}.
  *
  * @author Matt Akbarian  (@makbn)
  */
 @Getter
-@Setter
 @Builder
-public class JLBounds {
+public final class JLBounds {
     /**
      * the north-east point of the bounds.
      */
     @SerializedName(value = "_northEast", alternate = "northEast")
-    private JLLatLng northEast;
+    private final JLLatLng northEast;
     /**
      * the south-west point of the bounds.
      */
     @SerializedName(value = "_southWest", alternate = "southWest")
-    private JLLatLng southWest;
+    private final JLLatLng southWest;
 
     /**
      * @return the west longitude of the bounds
@@ -134,11 +133,12 @@ public class JLBounds {
         double lngBuffer =
                 Math.abs(southWest.getLng() - northEast.getLng()) * bufferRatio;
 
-        return new JLBounds(
-                new JLLatLng(southWest.getLat() - latBuffer,
-                        southWest.getLng() - lngBuffer),
-                new JLLatLng(northEast.getLat() + latBuffer,
-                        northEast.getLng() + lngBuffer));
+        return JLBounds.builder()
+                .southWest(new JLLatLng(southWest.getLat() - latBuffer,
+                        southWest.getLng() - lngBuffer))
+                .northEast(new JLLatLng(northEast.getLat() + latBuffer,
+                        northEast.getLng() + lngBuffer))
+                .build();
     }
 
     /**
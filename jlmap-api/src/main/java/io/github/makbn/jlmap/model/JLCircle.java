@@ -53,7 +53,7 @@ import java.util.concurrent.CompletableFuture;
 @Getter
 @ToString
 @FieldDefaults(level = AccessLevel.PRIVATE)
-public final class JLCircle extends JLObjectBase<JLCircle> {
+public final class JLCircle extends JLObjectBase<JLCircle> implements JLHasLatLng {
 
     /**
      * Geographic radius of the circle in meters.
@@ -161,8 +161,9 @@ public final class JLCircle extends JLObjectBase<JLCircle> {
      */
     @NonNull
     public JLCircle setLatLng(@NonNull JLLatLng latLng) {
-        transport.execute(JLTransportRequest.voidCall(this, "setLatLng", latLng.toString()));
         this.latLng = latLng;
+        moved();
+        transport.execute(JLTransportRequest.voidCall(this, "setLatLng", latLng));
         return this;
     }
 
@@ -15,7 +15,7 @@ import java.util.concurrent.CompletableFuture;
 @Getter
 @ToString
 @FieldDefaults(level = AccessLevel.PRIVATE)
-public final class JLCircleMarker extends JLObjectBase<JLCircleMarker> {
+public final class JLCircleMarker extends JLObjectBase<JLCircleMarker> implements JLHasLatLng {
     /**
      * Radius of the circle marker, in pixels
      */
@@ -82,8 +82,9 @@ public final class JLCircleMarker extends JLObjectBase<JLCircleMarker> {
      */
     @NonNull
     public JLCircleMarker setLatLng(@NonNull JLLatLng latLng) {
-        transport.execute(JLTransportRequest.voidCall(this, "setLatLng", latLng.toString()));
         this.latLng = latLng;
+        moved();
+        transport.execute(JLTransportRequest.voidCall(this, "setLatLng", latLng));
         return this;
     }
 
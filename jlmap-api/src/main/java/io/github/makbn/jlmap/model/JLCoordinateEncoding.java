@@ -0,0 +1,73 @@
+package io.github.makbn.jlmap.model;
+
+import lombok.NonNull;
+
+/**
+ * How the coordinates of paths, i.e. polylines, multi polylines and polygons, are sent to the
+ * client.
+ * <p>
+ * Configured per map through {@link JLMapOption#getCoordinateEncoding()}. The default sends
+ * decimal numbers with full precision. {@link #polyline(int)} sends each line as a single
+ * <a href="https://developers.google.com/maps/documentation/utilities/polylinealgorithm">encoded polyline</a>
+ * string: coordinates are rounded to the precision and only the difference to the previous point
+ * is written, usually one to three characters per number instead of ten or more. The client
+ * decodes it with {@code jlDispatch.decodePath}.
+ * </p>
+ *
+ * @param mode      how coordinates are written
+ * @param precision number of decimal digits coordinates are rounded to, {@link #FULL_PRECISION} to
+ *                  send them unchanged
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+public record JLCoordinateEncoding(@NonNull Mode mode, int precision) {
+    /**
+     * Precision of coordinates that are sent without rounding.
+     */
+    public static final int FULL_PRECISION = -1;
+    /**
+     * Highest supported precision, {@code 1e-9} degrees are less than a millimeter.
+     */
+    public static final int MAX_PRECISION = 9;
+    /**
+     * Decimal numbers with full precision.
+     */
+    public static final JLCoordinateEncoding DEFAULT = new JLCoordinateEncoding(Mode.DECIMAL, FULL_PRECISION);
+
+    public JLCoordinateEncoding {
+        if (precision > MAX_PRECISION || precision < FULL_PRECISION
+                || (mode == Mode.POLYLINE && precision == FULL_PRECISION)) {
+            throw new IllegalArgumentException("unsupported precision: " + precision);
+        }
+    }
+
+    /**
+     * Decimal numbers rounded to the precision, e.g. {@code 5} for about a meter.
+     *
+     * @param precision number of decimal digits
+     * @return the encoding
+     */
+    public static JLCoordinateEncoding decimal(int precision) {
+        return new JLCoordinateEncoding(Mode.DECIMAL, precision);
+    }
+
+    /**
+     * Encoded polyline strings with coordinates rounded to the precision. {@code 5} is the
+     * precision of the original algorithm, {@code 6} that of OSRM and Valhalla.
+     *
+     * @param precision number of decimal digits
+     * @return the encoding
+     */
+    public static JLCoordinateEncoding polyline(int precision) {
+        return new JLCoordinateEncoding(Mode.POLYLINE, precision);
+    }
+
+    public boolean isFullPrecision() {
+        return precision == FULL_PRECISION;
+    }
+
+    public enum Mode {
+        DECIMAL,
+        POLYLINE
+    }
+}
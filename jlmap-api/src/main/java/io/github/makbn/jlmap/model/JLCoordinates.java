@@ -0,0 +1,325 @@
+package io.github.makbn.jlmap.model;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Arrays;
+
+/**
+ * Packed, immutable coordinates of a path shape.
+ * <p>
+ * Latitudes and longitudes are stored interleaved in a single {@code double[]}, i.e.
+ * {@code [lat0, lng0, lat1, lng1, ...]}, so a vertex costs 16 bytes instead of a {@link JLLatLng}
+ * object and a reference. Points are split into rings (the lines of a multi polyline, the rings
+ * of a polygon) and rings into groups (the polygons of a multi polygon) by offset tables.
+ * {@link JLLatLng} instances are only created on demand, e.g. by {@link #get(int)} or
+ * {@link #toArray()}.
+ * </p>
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class JLCoordinates {
+    public static final JLCoordinates EMPTY = new JLCoordinates(new double[0], new int[]{0}, new int[]{0});
+
+    /**
+     * Interleaved latitude and longitude of every point.
+     */
+    double[] values;
+    /**
+     * Index of the first point of each ring, followed by the number of points.
+     */
+    int[] rings;
+    /**
+     * Index of the first ring of each group, followed by the number of rings.
+     */
+    int[] groups;
+
+    private JLCoordinates(double[] values, int[] rings, int[] groups) {
+        this.values = values;
+        this.rings = rings;
+        this.groups = groups;
+    }
+
+    /**
+     * @return coordinates of a single line
+     */
+    public static JLCoordinates of(@NonNull JLLatLng... points) {
+        Builder builder = builder(points.length);
+        for (JLLatLng point : points) {
+            builder.add(point.getLat(), point.getLng());
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return coordinates with one ring per line, e.g. of a multi polyline
+     */
+    public static JLCoordinates ofRings(@NonNull JLLatLng[][] lines) {
+        Builder builder = builder();
+        for (JLLatLng[] line : lines) {
+            builder.newRing();
+            for (JLLatLng point : line) {
+                builder.add(point.getLat(), point.getLng());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return coordinates with one group per polygon and one ring per polygon ring
+     */
+    public static JLCoordinates ofGroups(@NonNull JLLatLng[][][] polygons) {
+        Builder builder = builder();
+        for (JLLatLng[][] polygon : polygons) {
+            builder.newGroup();
+            for (JLLatLng[] ring : polygon) {
+                builder.newRing();
+                for (JLLatLng point : ring) {
+                    builder.add(point.getLat(), point.getLng());
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Wraps already interleaved coordinates of a single line without copying them.
+     *
+     * @param latLngs {@code [lat0, lng0, lat1, lng1, ...]}, must not be changed afterwards
+     * @return coordinates of a single line
+     */
+    public static JLCoordinates wrap(@NonNull double[] latLngs) {
+        if (latLngs.length % 2 != 0) {
+            throw new IllegalArgumentException("latitudes and longitudes must come in pairs");
+        }
+        if (latLngs.length == 0) {
+            return EMPTY;
+        }
+        return new JLCoordinates(latLngs, new int[]{0, latLngs.length / 2}, new int[]{0, 1});
+    }
+
+    public static Builder builder() {
+        return new Builder(16);
+    }
+
+    /**
+     * @param expectedSize expected number of points
+     */
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    /**
+     * @return number of points
+     */
+    public int size() {
+        return values.length / 2;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public int ringCount() {
+        return rings.length - 1;
+    }
+
+    public int groupCount() {
+        return groups.length - 1;
+    }
+
+    public double getLat(int index) {
+        return values[index * 2];
+    }
+
+    public double getLng(int index) {
+        return values[index * 2 + 1];
+    }
+
+    /**
+     * @return a new {@link JLLatLng} of the point at the index
+     */
+    public JLLatLng get(int index) {
+        return new JLLatLng(getLat(index), getLng(index));
+    }
+
+    /**
+     * @return index of the first point of the ring
+     */
+    public int ringStart(int ring) {
+        return rings[ring];
+    }
+
+    /**
+     * @return index after the last point of the ring
+     */
+    public int ringEnd(int ring) {
+        return rings[ring + 1];
+    }
+
+    /**
+     * @return index of the first ring of the group
+     */
+    public int groupStart(int group) {
+        return groups[group];
+    }
+
+    /**
+     * @return index after the last ring of the group
+     */
+    public int groupEnd(int group) {
+        return groups[group + 1];
+    }
+
+    /**
+     * @return the interleaved latitudes and longitudes of all points, shared with this instance
+     * and not to be modified
+     */
+    double[] values() {
+        return values;
+    }
+
+    /**
+     * @return copy of the interleaved latitudes and longitudes of all points
+     */
+    public double[] toLatLngArray() {
+        return values.clone();
+    }
+
+    /**
+     * @return all points, regardless of rings and groups
+     */
+    public JLLatLng[] toArray() {
+        return toArray(0, size());
+    }
+
+    /**
+     * @return points of each ring
+     */
+    public JLLatLng[][] toRings() {
+        JLLatLng[][] result = new JLLatLng[ringCount()][];
+        for (int ring = 0; ring < result.length; ring++) {
+            result[ring] = toArray(ringStart(ring), ringEnd(ring));
+        }
+        return result;
+    }
+
+    /**
+     * @return rings of each group
+     */
+    public JLLatLng[][][] toGroups() {
+        JLLatLng[][][] result = new JLLatLng[groupCount()][][];
+        for (int group = 0; group < result.length; group++) {
+            int firstRing = groupStart(group);
+            result[group] = new JLLatLng[groupEnd(group) - firstRing][];
+            for (int ring = 0; ring < result[group].length; ring++) {
+                result[group][ring] = toArray(ringStart(firstRing + ring), ringEnd(firstRing + ring));
+            }
+        }
+        return result;
+    }
+
+    private JLLatLng[] toArray(int from, int to) {
+        JLLatLng[] result = new JLLatLng[to - from];
+        for (int i = from; i < to; i++) {
+            result[i - from] = get(i);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof JLCoordinates that && Arrays.equals(values, that.values)
+                && Arrays.equals(rings, that.rings) && Arrays.equals(groups, that.groups);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(values) + Arrays.hashCode(rings)) + Arrays.hashCode(groups);
+    }
+
+    @Override
+    public String toString() {
+        return "JLCoordinates(size=" + size() + ", rings=" + ringCount() + ", groups=" + groupCount() + ")";
+    }
+
+    /**
+     * Collects points into growing primitive arrays. Points are added to the current ring, which
+     * is started implicitly by the first point.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static final class Builder {
+        double[] values;
+        int size;
+        int[] rings = new int[4];
+        int ringCount;
+        int[] groups = new int[2];
+        int groupCount;
+
+        private Builder(int expectedSize) {
+            this.values = new double[Math.max(expectedSize, 1) * 2];
+        }
+
+        public Builder add(double lat, double lng) {
+            if (ringCount == 0) {
+                newRing();
+            }
+            if (size * 2 == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size * 2] = lat;
+            values[size * 2 + 1] = lng;
+            size++;
+            return this;
+        }
+
+        /**
+         * Starts a new ring in the current group. Rings may be empty.
+         */
+        public Builder newRing() {
+            if (groupCount == 0) {
+                newGroup();
+            }
+            if (ringCount + 1 >= rings.length) {
+                rings = Arrays.copyOf(rings, rings.length * 2);
+            }
+            rings[ringCount++] = size;
+            return this;
+        }
+
+        /**
+         * Starts a new group, its first ring is started by {@link #newRing()} or the next point.
+         */
+        public Builder newGroup() {
+            if (groupCount + 1 >= groups.length) {
+                groups = Arrays.copyOf(groups, groups.length * 2);
+            }
+            groups[groupCount++] = ringCount;
+            return this;
+        }
+
+        /**
+         * @return number of points added so far
+         */
+        public int size() {
+            return size;
+        }
+
+        public JLCoordinates build() {
+            if (ringCount == 0) {
+                return EMPTY;
+            }
+            int[] ringOffsets = Arrays.copyOf(rings, ringCount + 1);
+            ringOffsets[ringCount] = size;
+            int[] groupOffsets = Arrays.copyOf(groups, groupCount + 1);
+            groupOffsets[groupCount] = ringCount;
+            return new JLCoordinates(Arrays.copyOf(values, size * 2), ringOffsets, groupOffsets);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.makbn.jlmap.model;
+
+import lombok.NonNull;
+
+/**
+ * Limits how often the client sends an event of one kind to the server. Limits apply per event
+ * source, e.g. a throttled {@code move} of the map doesn't affect the {@code move} of a marker.
+ * <p>
+ * Configured per action through {@link JLMapOption#getEventRates()}. Events of actions without a
+ * rate are sent as they happen.
+ * </p>
+ *
+ * @param mode     how events within the interval are reduced
+ * @param interval interval in milliseconds
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+public record JLEventRate(@NonNull Mode mode, long interval) {
+
+    public JLEventRate {
+        if (interval < 0) {
+            throw new IllegalArgumentException("interval must not be negative: " + interval);
+        }
+    }
+
+    /**
+     * Sends the first event right away and then at most one event per interval. The last event
+     * of a burst is always sent.
+     *
+     * @param interval minimum time between two events in milliseconds
+     * @return the rate
+     */
+    public static JLEventRate throttle(long interval) {
+        return new JLEventRate(Mode.THROTTLE, interval);
+    }
+
+    /**
+     * Sends the last event of a burst once no further event happened for the interval.
+     *
+     * @param interval quiet time in milliseconds
+     * @return the rate
+     */
+    public static JLEventRate debounce(long interval) {
+        return new JLEventRate(Mode.DEBOUNCE, interval);
+    }
+
+    /**
+     * Collects events for the interval and only sends the last one. An interval of {@code 0}
+     * coalesces the events of one animation frame.
+     *
+     * @param interval collection time in milliseconds
+     * @return the rate
+     */
+    public static JLEventRate coalesce(long interval) {
+        return new JLEventRate(Mode.COALESCE, interval);
+    }
+
+    public enum Mode {
+        THROTTLE,
+        DEBOUNCE,
+        COALESCE
+    }
+}
@@ -5,7 +5,9 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -64,4 +66,38 @@ public final class JLGeoJson extends JLObjectBase<JLGeoJson> {
         }
         return true;
     }
+
+    /**
+     * Evaluates the filter and the style function for all features of the layer at once. This is
+     * called by the JavaScript callback once per layer instead of twice per feature.
+     *
+     * @param featureProperties the properties of each feature, in the order of the layers
+     * @return which features to keep and how to style them
+     */
+    public FeatureEvaluation evaluateFeatures(List<Map<String, Object>> featureProperties) {
+        int size = featureProperties.size();
+        boolean[] keep = geoJsonOptions.getFilter() != null ? new boolean[size] : null;
+        JLOptions[] styles = geoJsonOptions.getStyleFunction() != null ? new JLOptions[size] : null;
+        for (int i = 0; i < size; i++) {
+            // the functions expect the properties of the feature as the first element
+            List<Map<String, Object>> feature = Collections.singletonList(featureProperties.get(i));
+            if (keep != null && !(keep[i] = callFilterFunction(feature))) {
+                continue;
+            }
+            if (styles != null) {
+                styles[i] = callStyleFunction(feature);
+            }
+        }
+        return new FeatureEvaluation(keep, styles);
+    }
+
+    /**
+     * Result of {@link #evaluateFeatures(List)}, indexed like the features.
+     *
+     * @param keep   whether each feature passed the filter, {@code null} without a filter
+     * @param styles the style of each kept feature, {@code null} without a style function or
+     *               for filtered features
+     */
+    public record FeatureEvaluation(@Nullable boolean[] keep, @Nullable JLOptions[] styles) {
+    }
 }
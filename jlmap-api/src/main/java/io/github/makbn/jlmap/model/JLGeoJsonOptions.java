@@ -56,8 +56,9 @@ public final class JLGeoJsonOptions {
     /**
      * Function to dynamically style GeoJSON features based on their properties.
      * <p>
-     * This function is called by Leaflet for each feature during rendering. The call is
-     * automatically proxied back to this Java function, enabling type-safe styling logic.
+     * This function is called for each feature on the server when the layer is added. Equal
+     * styles are sent to the client once and referenced by index, so the client never calls back
+     * into Java to style a feature (see {@link io.github.makbn.jlmap.geojson.JLStyledGeoJson}).
      * </p>
      * <p>
      * <strong>Parameters:</strong> Receives a {@code List<Map<String, Object>>} where
@@ -85,8 +86,8 @@ public final class JLGeoJsonOptions {
     /**
      * Predicate to conditionally include or exclude GeoJSON features from display.
      * <p>
-     * This function is called by Leaflet for each feature to determine visibility.
-     * Features returning {@code false} will not be rendered on the map.
+     * This function is called for each feature on the server when the layer is added, together
+     * with the style function. Features returning {@code false} are not sent to the client.
      * </p>
      * <p>
      * <strong>Parameters:</strong> Receives a {@code List<Map<String, Object>>} where
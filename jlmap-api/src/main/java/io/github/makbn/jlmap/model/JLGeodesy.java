@@ -0,0 +1,301 @@
+package io.github.makbn.jlmap.model;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Great-circle math on a spherical earth for single points and for whole sets of points.
+ * <p>
+ * The bulk operations work on interleaved {@code [lat0, lng0, lat1, lng1, ...]} arrays, the layout
+ * of {@link JLCoordinates}, without creating a {@link JLLatLng} per point. Their loops are plain
+ * counted loops over primitive arrays with the per-call constants hoisted out, the trigonometry
+ * in one pass and the remaining arithmetic in another, so the JIT can unroll them and vectorize
+ * the arithmetic passes. Checks against a radius compare the haversine term instead of the
+ * distance and skip the inverse sine per point.
+ * </p>
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JLGeodesy {
+    /**
+     * Mean radius of the earth in meters.
+     */
+    public static final double EARTH_RADIUS = 6_371_008.8;
+    private static final double RADIANS = Math.PI / 180;
+
+    /**
+     * @return great-circle distance between the points in meters
+     */
+    public static double distance(double lat1, double lng1, double lat2, double lng2) {
+        double sinLat = Math.sin((lat2 - lat1) * RADIANS * 0.5);
+        double sinLng = Math.sin((lng2 - lng1) * RADIANS * 0.5);
+        double a = sinLat * sinLat + Math.cos(lat1 * RADIANS) * Math.cos(lat2 * RADIANS) * sinLng * sinLng;
+        return 2 * EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * @return initial bearing from the first to the second point in degrees clockwise from north,
+     * from {@code 0} to {@code 360}
+     */
+    public static double bearing(double lat1, double lng1, double lat2, double lng2) {
+        double phi1 = lat1 * RADIANS;
+        double phi2 = lat2 * RADIANS;
+        double deltaLng = (lng2 - lng1) * RADIANS;
+        double y = Math.sin(deltaLng) * Math.cos(phi2);
+        double x = Math.cos(phi1) * Math.sin(phi2) - Math.sin(phi1) * Math.cos(phi2) * Math.cos(deltaLng);
+        return (Math.toDegrees(Math.atan2(y, x)) + 360) % 360;
+    }
+
+    /**
+     * @return distances in meters from the point to every point of the coordinates, in order
+     */
+    public static double[] distances(@NonNull JLLatLng from, @NonNull JLCoordinates to) {
+        return distances(from.getLat(), from.getLng(), to.values(), new double[to.size()]);
+    }
+
+    /**
+     * @param latLngs interleaved latitudes and longitudes
+     * @param result  receives the distance in meters to each point, at least half as long as
+     *                {@code latLngs}
+     * @return {@code result}
+     */
+    public static double[] distances(double lat, double lng, @NonNull double[] latLngs, @NonNull double[] result) {
+        int size = checkedSize(latLngs, result.length);
+        haversines(lat, lng, latLngs, size, result);
+        double diameter = 2 * EARTH_RADIUS;
+        for (int i = 0; i < size; i++) {
+            result[i] = diameter * Math.asin(Math.min(1, Math.sqrt(result[i])));
+        }
+        return result;
+    }
+
+    /**
+     * @return initial bearings in degrees from the point to every point of the coordinates
+     * @see #bearing(double, double, double, double)
+     */
+    public static double[] bearings(@NonNull JLLatLng from, @NonNull JLCoordinates to) {
+        return bearings(from.getLat(), from.getLng(), to.values(), new double[to.size()]);
+    }
+
+    /**
+     * @param latLngs interleaved latitudes and longitudes
+     * @param result  receives the bearing to each point, at least half as long as {@code latLngs}
+     * @return {@code result}
+     */
+    public static double[] bearings(double lat, double lng, @NonNull double[] latLngs, @NonNull double[] result) {
+        int size = checkedSize(latLngs, result.length);
+        double sinPhi = Math.sin(lat * RADIANS);
+        double cosPhi = Math.cos(lat * RADIANS);
+        for (int i = 0; i < size; i++) {
+            double phi = latLngs[i * 2] * RADIANS;
+            double deltaLng = (latLngs[i * 2 + 1] - lng) * RADIANS;
+            double cosPhi2 = Math.cos(phi);
+            result[i] = Math.atan2(Math.sin(deltaLng) * cosPhi2,
+                    cosPhi * Math.sin(phi) - sinPhi * cosPhi2 * Math.cos(deltaLng));
+        }
+        for (int i = 0; i < size; i++) {
+            result[i] = (result[i] / RADIANS + 360) % 360;
+        }
+        return result;
+    }
+
+    /**
+     * @return indexes of the points of the coordinates within the radius around the point,
+     * in ascending order
+     */
+    public static int[] withinRadius(@NonNull JLLatLng center, @NonNull JLCoordinates points, double radius) {
+        int size = points.size();
+        if (radius >= Math.PI * EARTH_RADIUS) {
+            int[] all = new int[size];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        double[] terms = haversines(center.getLat(), center.getLng(), points.values(), size, new double[size]);
+        // haversine term of the radius, compared instead of the distance of every point
+        double sin = Math.sin(radius / (2 * EARTH_RADIUS));
+        double limit = sin * sin;
+        int[] result = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            result[count] = i;
+            count += terms[i] <= limit ? 1 : 0;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * @return length in meters of all rings of the path, rings are not connected to each other
+     */
+    public static double length(@NonNull JLCoordinates path) {
+        double length = 0;
+        for (int ring = 0; ring < path.ringCount(); ring++) {
+            length += length(path.values(), path.ringStart(ring), path.ringEnd(ring));
+        }
+        return length;
+    }
+
+    /**
+     * @param latLngs interleaved latitudes and longitudes
+     * @param from    index of the first point of the line
+     * @param to      index after the last point of the line
+     * @return length in meters of the line through the points
+     */
+    public static double length(@NonNull double[] latLngs, int from, int to) {
+        if (from < 0 || to > latLngs.length / 2 || from > to) {
+            throw new IndexOutOfBoundsException("points " + from + " to " + to + " of " + latLngs.length / 2);
+        }
+        if (to - from < 2) {
+            return 0;
+        }
+        double sum = 0;
+        double previousCos = Math.cos(latLngs[from * 2] * RADIANS);
+        for (int i = from + 1; i < to; i++) {
+            // the cosine of each latitude is computed once and used for both adjacent segments
+            double cos = Math.cos(latLngs[i * 2] * RADIANS);
+            double sinLat = Math.sin((latLngs[i * 2] - latLngs[i * 2 - 2]) * RADIANS * 0.5);
+            double sinLng = Math.sin((latLngs[i * 2 + 1] - latLngs[i * 2 - 1]) * RADIANS * 0.5);
+            double a = sinLat * sinLat + previousCos * cos * sinLng * sinLng;
+            sum += Math.asin(Math.min(1, Math.sqrt(a)));
+            previousCos = cos;
+        }
+        return 2 * EARTH_RADIUS * sum;
+    }
+
+    /**
+     * @return the smallest bounds containing all points, {@code null} if there are none
+     */
+    @Nullable
+    public static JLBounds bounds(@NonNull JLCoordinates coordinates) {
+        return bounds(coordinates.values(), 0, coordinates.size());
+    }
+
+    /**
+     * @param latLngs interleaved latitudes and longitudes
+     * @param from    index of the first point
+     * @param to      index after the last point
+     * @return the smallest bounds containing the points, {@code null} if there are none
+     */
+    @Nullable
+    public static JLBounds bounds(@NonNull double[] latLngs, int from, int to) {
+        if (from < 0 || to > latLngs.length / 2 || from > to) {
+            throw new IndexOutOfBoundsException("points " + from + " to " + to + " of " + latLngs.length / 2);
+        }
+        if (from == to) {
+            return null;
+        }
+        double south = Double.POSITIVE_INFINITY;
+        double west = Double.POSITIVE_INFINITY;
+        double north = Double.NEGATIVE_INFINITY;
+        double east = Double.NEGATIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            double lat = latLngs[i * 2];
+            double lng = latLngs[i * 2 + 1];
+            south = Math.min(south, lat);
+            north = Math.max(north, lat);
+            west = Math.min(west, lng);
+            east = Math.max(east, lng);
+        }
+        return JLBounds.builder()
+                .southWest(new JLLatLng(south, west))
+                .northEast(new JLLatLng(north, east))
+                .build();
+    }
+
+    /**
+     * Tests the point against the rings of the polygon with the even-odd rule, holes are
+     * excluded. Edges are straight lines in latitude and longitude, like Leaflet draws them.
+     *
+     * @param polygon rings of one or more polygons
+     * @return {@code true} if the point is inside
+     */
+    public static boolean contains(@NonNull JLCoordinates polygon, double lat, double lng) {
+        boolean inside = false;
+        double[] values = polygon.values();
+        for (int ring = 0; ring < polygon.ringCount(); ring++) {
+            inside ^= crossesOdd(values, polygon.ringStart(ring), polygon.ringEnd(ring), lat, lng);
+        }
+        return inside;
+    }
+
+    /**
+     * Tests every point against the polygon, points outside the bounds of the polygon are
+     * rejected without looking at its edges.
+     *
+     * @param polygon rings of one or more polygons
+     * @param latLngs interleaved latitudes and longitudes of the points
+     * @param result  receives whether each point is inside, at least half as long as
+     *                {@code latLngs}
+     * @return number of points inside
+     * @see #contains(JLCoordinates, double, double)
+     */
+    public static int contains(@NonNull JLCoordinates polygon, @NonNull double[] latLngs, @NonNull boolean[] result) {
+        int size = checkedSize(latLngs, result.length);
+        JLBounds bounds = bounds(polygon);
+        if (bounds == null) {
+            Arrays.fill(result, 0, size, false);
+            return 0;
+        }
+        double south = bounds.getSouth();
+        double north = bounds.getNorth();
+        double west = bounds.getWest();
+        double east = bounds.getEast();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            double lat = latLngs[i * 2];
+            double lng = latLngs[i * 2 + 1];
+            boolean inside = lat >= south && lat <= north && lng >= west && lng <= east
+                    && contains(polygon, lat, lng);
+            result[i] = inside;
+            count += inside ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Haversine term of the distance from the point to each point, see
+     * {@link #distance(double, double, double, double)}.
+     */
+    private static double[] haversines(double lat, double lng, double[] latLngs, int size, double[] result) {
+        double cosPhi = Math.cos(lat * RADIANS);
+        for (int i = 0; i < size; i++) {
+            double sinLat = Math.sin((latLngs[i * 2] - lat) * RADIANS * 0.5);
+            double sinLng = Math.sin((latLngs[i * 2 + 1] - lng) * RADIANS * 0.5);
+            result[i] = sinLat * sinLat + cosPhi * Math.cos(latLngs[i * 2] * RADIANS) * sinLng * sinLng;
+        }
+        return result;
+    }
+
+    /**
+     * @return {@code true} if a ray from the point crosses the edges of the ring an odd number of
+     * times. The ring is closed implicitly.
+     */
+    private static boolean crossesOdd(double[] values, int from, int to, double lat, double lng) {
+        boolean odd = false;
+        for (int i = from, j = to - 1; i < to; j = i++) {
+            double latI = values[i * 2];
+            double latJ = values[j * 2];
+            if ((latI > lat) != (latJ > lat)) {
+                double lngI = values[i * 2 + 1];
+                double lngJ = values[j * 2 + 1];
+                if (lng < (lngJ - lngI) * (lat - latI) / (latJ - latI) + lngI) {
+                    odd = !odd;
+                }
+            }
+        }
+        return odd;
+    }
+
+    private static int checkedSize(double[] latLngs, int resultLength) {
+        int size = latLngs.length / 2;
+        if (resultLength < size) {
+            throw new IllegalArgumentException("result holds " + resultLength + " values, " + size + " needed");
+        }
+        return size;
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.makbn.jlmap.model;
+
+/**
+ * Objects with a single position on the map, e.g. markers and circles. Their position is kept
+ * in the {@link io.github.makbn.jlmap.JLSpatialIndex spatial index} of the map.
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+public interface JLHasLatLng {
+
+    /**
+     * @return the current position, the center of circles
+     */
+    JLLatLng getLatLng();
+}
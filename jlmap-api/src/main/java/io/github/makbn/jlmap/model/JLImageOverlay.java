@@ -43,14 +43,14 @@ public final class JLImageOverlay extends JLObjectBase<JLImageOverlay> {
 
     @NonNull
     public JLImageOverlay setBounds(@NonNull JLBounds bounds) {
-        transport.execute(JLTransportRequest.voidCall(this, "setBounds", bounds.toString()));
+        transport.execute(JLTransportRequest.voidCall(this, "setBounds", bounds));
         this.bounds = bounds;
         return this;
     }
 
     @NonNull
     public JLImageOverlay setUrl(@NonNull String imageUrl) {
-        transport.execute(JLTransportRequest.voidCall(this, "setUrl", "'%s'" .formatted(imageUrl)));
+        transport.execute(JLTransportRequest.voidCall(this, "setUrl", imageUrl));
         this.imageUrl = imageUrl;
         return this;
     }
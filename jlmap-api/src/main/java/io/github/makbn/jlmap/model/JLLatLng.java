@@ -1,21 +1,31 @@
 package io.github.makbn.jlmap.model;
 
-import io.github.makbn.jlmap.JLProperties;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 
-import java.util.Objects;
+import java.util.Locale;
 
 /**
  * Represents a geographical point with a certain latitude and longitude.
+ * <p>
+ * Points are immutable and can be shared freely, e.g. between objects, threads and sessions, or
+ * kept in caches. Use {@link #withLat(double)} and {@link #withLng(double)} to derive a changed
+ * point.
+ * </p>
  *
  * @author Matt Akbarian  (@makbn)
  */
-@Setter
 @Getter
-@NoArgsConstructor(force = true)
-@FieldDefaults(level = AccessLevel.PRIVATE)
-public class JLLatLng {
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class JLLatLng {
+    /**
+     * The point at latitude and longitude {@code 0}.
+     *
+     * @since 2.0.0
+     */
+    public static final JLLatLng ZERO = new JLLatLng(0, 0);
+
     /**
      * geographical given latitude in degrees
      */
@@ -32,26 +42,40 @@ public class JLLatLng {
     }
 
     /**
-     * Calculate distance between two points in latitude and longitude taking
-     * into account height difference.Uses Haversine method as its base.
+     * @return the point, the shared {@link #ZERO} for the origin
+     * @since 2.0.0
+     */
+    public static JLLatLng of(double lat, double lng) {
+        return Double.doubleToRawLongBits(lat) == 0 && Double.doubleToRawLongBits(lng) == 0 ? ZERO : new JLLatLng(lat, lng);
+    }
+
+    /**
+     * @return a point with the given latitude and the longitude of this point
+     * @since 2.0.0
+     */
+    public JLLatLng withLat(double lat) {
+        return Double.compare(this.lat, lat) == 0 ? this : new JLLatLng(lat, lng);
+    }
+
+    /**
+     * @return a point with the latitude of this point and the given longitude
+     * @since 2.0.0
+     */
+    public JLLatLng withLng(double lng) {
+        return Double.compare(this.lng, lng) == 0 ? this : new JLLatLng(lat, lng);
+    }
+
+    /**
+     * Calculate the great-circle distance between two points with the haversine formula, on a
+     * sphere with the {@link JLGeodesy#EARTH_RADIUS mean radius} of the earth.
      *
      * @param dest Destination coordinate {{@link JLLatLng}}
      * @return Distance in Meters
      * @author David George
+     * @see JLGeodesy
      */
     public double distanceTo(JLLatLng dest) {
-        double latDistance = Math.toRadians(dest.getLat() - lat);
-        double lonDistance = Math.toRadians(dest.getLng() - lng);
-        double a = Math.sin(latDistance / 2)
-                * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat))
-                * Math.cos(Math.toRadians(dest.getLat()))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        double distance = JLProperties.EARTH_RADIUS * c * 1000;
-
-        distance = Math.pow(distance, 2);
-        return Math.sqrt(distance);
+        return JLGeodesy.distance(lat, lng, dest.getLat(), dest.getLng());
     }
 
     /**
@@ -86,11 +110,12 @@ public class JLLatLng {
 
     @Override
     public int hashCode() {
-        return Objects.hash(lat, lng);
+        // same value as Objects.hash(lat, lng), without boxing
+        return 31 * (31 + Double.hashCode(lat)) + Double.hashCode(lng);
     }
 
     @Override
     public String toString() {
-        return String.format("[%f, %f]", lat, lng);
+        return String.format(Locale.ROOT, "[%f, %f]", lat, lng);
     }
 }
@@ -1,6 +1,8 @@
 package io.github.makbn.jlmap.model;
 
+import io.github.makbn.jlmap.JLObjectRegistry;
 import io.github.makbn.jlmap.JLProperties;
+import io.github.makbn.jlmap.listener.JLAction;
 import io.github.makbn.jlmap.map.JLMapProvider;
 import lombok.Builder;
 import lombok.NonNull;
@@ -8,6 +10,7 @@ import lombok.Value;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -48,6 +51,41 @@ public class JLMapOption {
     @Builder.Default
     Set<Parameter> additionalParameter = new HashSet<>();
 
+    /**
+     * Client-side rate limits of the events sent to the server, e.g. to throttle the
+     * {@code move} and {@code zoom} streams while the user pans the map.
+     * Default is no limit for any action.
+     */
+    @Builder.Default
+    @NonNull
+    Map<JLAction, JLEventRate> eventRates = Map.of();
+
+    /**
+     * Interval in milliseconds in which the client collects events and sends them to the server
+     * as one call. {@code 0} sends one batch per animation frame, a negative value (default)
+     * sends every event on its own.
+     */
+    @Builder.Default
+    long eventBatchInterval = -1;
+
+    /**
+     * How the map holds the objects it dispatches events to. Removed objects are always released,
+     * {@link JLObjectRegistry.Retention#WEAK} also releases objects the application no longer
+     * references. Default is {@link JLObjectRegistry.Retention#STRONG}.
+     */
+    @Builder.Default
+    @NonNull
+    JLObjectRegistry.Retention objectRetention = JLObjectRegistry.Retention.STRONG;
+
+    /**
+     * How the vertices of polylines, multi polylines and polygons are sent to the client, e.g.
+     * {@link JLCoordinateEncoding#polyline(int)} to cut the size of dense tracks.
+     * Default is {@link JLCoordinateEncoding#DEFAULT}, decimal numbers with full precision.
+     */
+    @Builder.Default
+    @NonNull
+    JLCoordinateEncoding coordinateEncoding = JLCoordinateEncoding.DEFAULT;
+
     /**
      * Gets the map-specific parameters based on the selected map type.
      *
@@ -63,6 +101,10 @@ public class JLMapOption {
                         param.value().equals("true"));
     }
 
+    public boolean isEventBatchingEnabled() {
+        return eventBatchInterval >= 0;
+    }
+
     public int getInitialZoom() {
         return getAdditionalParameter().stream()
                 .filter(param -> param.key().equals("initialZoom"))
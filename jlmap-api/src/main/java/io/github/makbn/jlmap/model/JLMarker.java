@@ -18,7 +18,7 @@ import lombok.experimental.NonFinal;
 @Getter
 @EqualsAndHashCode(callSuper = true)
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-public final class JLMarker extends JLObjectBase<JLMarker> {
+public final class JLMarker extends JLObjectBase<JLMarker> implements JLHasLatLng {
     /**
      * optional text for showing on created JLMarker tooltip.
      */
@@ -51,8 +51,9 @@ public final class JLMarker extends JLObjectBase<JLMarker> {
      * @return the current instance of JLMarker.
      */
     public JLMarker setLatLng(JLLatLng latLng) {
-        getTransport().execute(JLTransportRequest.voidCall(this, "setLatLng", latLng.toString()));
         this.latLng = latLng;
+        moved();
+        getTransport().execute(JLTransportRequest.voidCall(this, "setLatLng", latLng));
         return this;
     }
 
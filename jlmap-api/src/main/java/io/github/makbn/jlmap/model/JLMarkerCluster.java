@@ -0,0 +1,54 @@
+package io.github.makbn.jlmap.model;
+
+import io.github.makbn.jlmap.engine.JLServerToClientTransporter;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * A marker standing for several markers of a {@link io.github.makbn.jlmap.JLClusterLayer} that
+ * are too close to each other at the current zoom level, labeled with their number. Clicking it
+ * zooms the map in until the markers split.
+ * <p>
+ * Clusters only exist for a single zoom level and area, they are replaced whenever the map moves
+ * and are not part of the {@link io.github.makbn.jlmap.JLSpatialIndex spatial index} of the map.
+ * </p>
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@Getter
+@ToString
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class JLMarkerCluster extends JLObjectBase<JLMarkerCluster> {
+    /**
+     * Weighted center of the clustered markers
+     */
+    JLLatLng latLng;
+    /**
+     * Number of clustered markers
+     */
+    int count;
+    /**
+     * Zoom level the cluster was built for
+     */
+    int zoom;
+    /**
+     * Zoom level at which the cluster splits
+     */
+    int expansionZoom;
+
+    @Builder
+    public JLMarkerCluster(String id, JLLatLng latLng, int count, int zoom, int expansionZoom,
+                           JLServerToClientTransporter<?> transport) {
+        super(id, transport);
+        this.latLng = latLng;
+        this.count = count;
+        this.zoom = zoom;
+        this.expansionZoom = expansionZoom;
+    }
+
+    @Override
+    public JLMarkerCluster self() {
+        return this;
+    }
+}
@@ -1,11 +1,12 @@
 package io.github.makbn.jlmap.model;
 
+import io.github.makbn.jlmap.engine.JLClientDispatcher;
 import io.github.makbn.jlmap.engine.JLServerToClientTransporter;
-import lombok.AccessLevel;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.ToString;
+import io.github.makbn.jlmap.engine.JLTransportRequest;
+import lombok.*;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A class for drawing polyline overlays on a map
@@ -21,16 +22,147 @@ public final class JLMultiPolyline extends JLObjectBase<JLMultiPolyline> {
      */
     JLOptions options;
     /**
-     * The array of {@link io.github.makbn.jlmap.model.JLLatLng} points
-     * of JLMultiPolyline
+     * The points of JLMultiPolyline, packed with one ring per line. {@code null} after appending
+     * or trimming until requested again, guarded by this polyline.
      */
-    JLLatLng[][] vertices;
+    @NonFinal
+    @Getter(AccessLevel.NONE)
+    JLCoordinates coordinates;
+    /**
+     * The points of each line, once any line was appended or trimmed. Guarded by this polyline.
+     */
+    @NonFinal
+    @Nullable
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    JLVertexBuffer[] lines;
+    /**
+     * Maximum number of points per line, the oldest ones are dropped when more are appended.
+     * {@code 0} for no limit.
+     */
+    @NonFinal
+    volatile int maxVertices;
+    /**
+     * How appended points are sent to the client
+     */
+    JLCoordinateEncoding coordinateEncoding;
 
     @Builder
-    public JLMultiPolyline(String id, JLOptions options, JLLatLng[][] vertices, JLServerToClientTransporter<?> transport) {
+    public JLMultiPolyline(String id, JLOptions options, JLCoordinates coordinates,
+                           JLCoordinateEncoding coordinateEncoding, JLServerToClientTransporter<?> transport) {
         super(id, transport);
         this.options = options;
-        this.vertices = vertices;
+        this.coordinates = coordinates == null ? JLCoordinates.EMPTY : coordinates;
+        this.coordinateEncoding = coordinateEncoding == null ? JLCoordinateEncoding.DEFAULT : coordinateEncoding;
+    }
+
+    /**
+     * @return the points of JLMultiPolyline, packed with one ring per line
+     */
+    public synchronized JLCoordinates getCoordinates() {
+        if (coordinates == null) {
+            JLCoordinates.Builder builder = JLCoordinates.builder();
+            for (JLVertexBuffer line : lines) {
+                line.appendTo(builder);
+            }
+            coordinates = builder.build();
+        }
+        return coordinates;
+    }
+
+    /**
+     * @return new arrays of the {@link JLLatLng} points of each line
+     */
+    public JLLatLng[][] getVertices() {
+        return getCoordinates().toRings();
+    }
+
+    /**
+     * Adds the points to the end of one line. Only the new points are sent to the client; if the
+     * line gets longer than {@link #getMaxVertices() maxVertices}, its oldest points are dropped
+     * on both sides in the same call.
+     *
+     * @param line    index of the line
+     * @param latLngs the new points
+     * @return this polyline instance for method chaining
+     * @see JLPolyline#appendLatLngs(JLLatLng...)
+     */
+    public JLMultiPolyline appendLatLngs(int line, @NonNull JLLatLng... latLngs) {
+        return appendLatLngs(line, JLCoordinates.of(latLngs));
+    }
+
+    /**
+     * @param line    index of the line
+     * @param latLngs the new points, rings are ignored
+     * @return this polyline instance for method chaining
+     * @see #appendLatLngs(int, JLLatLng...)
+     */
+    public synchronized JLMultiPolyline appendLatLngs(int line, @NonNull JLCoordinates latLngs) {
+        JLVertexBuffer buffer = line(line);
+        if (latLngs.isEmpty()) {
+            return this;
+        }
+        JLCoordinates added = JLVertexBuffer.tail(latLngs, maxVertices);
+        int trimmed = buffer.append(added.values(), maxVertices);
+        coordinates = null;
+        sendAppend(line, added, trimmed);
+        return this;
+    }
+
+    /**
+     * Removes the oldest points from the start of one line.
+     *
+     * @param line  index of the line
+     * @param count number of points to remove, at most all of them are removed
+     * @return this polyline instance for method chaining
+     */
+    public synchronized JLMultiPolyline trimHead(int line, int count) {
+        int trimmed = line(line).trimHead(count);
+        if (trimmed > 0) {
+            coordinates = null;
+            sendAppend(line, JLCoordinates.EMPTY, trimmed);
+        }
+        return this;
+    }
+
+    /**
+     * Limits the number of points of each line. Drops the oldest points right away if there are
+     * more.
+     *
+     * @param maxVertices maximum number of points per line, {@code 0} for no limit
+     * @return this polyline instance for method chaining
+     */
+    public synchronized JLMultiPolyline setMaxVertices(int maxVertices) {
+        if (maxVertices < 0) {
+            throw new IllegalArgumentException("maximum number of vertices must not be negative: " + maxVertices);
+        }
+        this.maxVertices = maxVertices;
+        JLCoordinates current = getCoordinates();
+        for (int line = 0; maxVertices > 0 && line < current.ringCount(); line++) {
+            int size = current.ringEnd(line) - current.ringStart(line);
+            if (size > maxVertices) {
+                trimHead(line, size - maxVertices);
+            }
+        }
+        return this;
+    }
+
+    private JLVertexBuffer line(int line) {
+        if (lines == null) {
+            lines = new JLVertexBuffer[coordinates.ringCount()];
+            for (int i = 0; i < lines.length; i++) {
+                lines[i] = new JLVertexBuffer(coordinates, coordinates.ringStart(i), coordinates.ringEnd(i));
+            }
+        }
+        if (line < 0 || line >= lines.length) {
+            throw new IndexOutOfBoundsException("line " + line + " of " + lines.length);
+        }
+        return lines[line];
+    }
+
+    private void sendAppend(int line, JLCoordinates added, int trimmed) {
+        getTransport().execute(JLTransportRequest.voidCall(this, "appendLatLngs", line,
+                JLClientDispatcher.path(added, coordinateEncoding), trimmed));
     }
 
     @Override
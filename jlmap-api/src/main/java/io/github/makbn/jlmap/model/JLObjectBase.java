@@ -2,15 +2,20 @@ package io.github.makbn.jlmap.model;
 
 import io.github.makbn.jlmap.element.menu.JLContextMenu;
 import io.github.makbn.jlmap.element.menu.JLHasContextMenu;
+import io.github.makbn.jlmap.engine.JLClientDispatcher;
 import io.github.makbn.jlmap.engine.JLServerToClientTransporter;
 import io.github.makbn.jlmap.engine.JLTransportRequest;
+import io.github.makbn.jlmap.listener.JLAction;
 import io.github.makbn.jlmap.listener.OnJLActionListener;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import lombok.experimental.NonFinal;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
@@ -30,6 +35,46 @@ public abstract class JLObjectBase<T extends JLObject<T>> implements JLObject<T>
     @NonFinal
     OnJLActionListener<T> listener;
 
+    /**
+     * Client-side type name used by the event forwarder, {@code null} if the callbacks of this
+     * object are registered when it is created.
+     */
+    @NonFinal
+    String listenerType;
+
+    /**
+     * Actions that can be forwarded to the server once a listener is set.
+     */
+    @NonFinal
+    Set<JLAction> listenerActions = Set.of();
+
+    /**
+     * Actions currently forwarded by the client.
+     */
+    @NonFinal
+    Set<JLAction> attachedActions = Set.of();
+
+    /**
+     * Notified once when the object is removed, e.g. registries that hold the object.
+     */
+    @NonFinal
+    List<Consumer<? super JLObject<?>>> removalListeners = List.of();
+
+    /**
+     * Notified whenever the position of the object changes, e.g. spatial indexes that hold it.
+     */
+    @NonFinal
+    List<Consumer<? super JLObject<?>>> moveListeners = List.of();
+
+    /**
+     * Whether the object currently exists on the client, calls on objects that don't, e.g. culled
+     * or clustered objects of a layer, are not sent.
+     */
+    @Getter
+    @Setter
+    @NonFinal
+    volatile boolean materialized = true;
+
     @Getter
     @Setter
     @NonFinal
@@ -65,9 +110,87 @@ public abstract class JLObjectBase<T extends JLObject<T>> implements JLObject<T>
         return listener;
     }
 
+    /**
+     * Sets the listener of this object. For objects with lazily registered callbacks, the
+     * client starts forwarding events when the first listener is set and stops when it is
+     * removed again.
+     */
     @Override
     public void setOnActionListener(OnJLActionListener<T> listener) {
+        setOnActionListener(listener, listenerActions);
+    }
+
+    /**
+     * Sets the listener of this object and only forwards the given actions to it. Other events
+     * of the object are not sent to the server at all.
+     *
+     * @param listener the listener, {@code null} to stop forwarding
+     * @param actions  actions the listener is interested in
+     */
+    public void setOnActionListener(OnJLActionListener<T> listener, @NonNull JLAction... actions) {
+        setOnActionListener(listener, Arrays.asList(actions));
+    }
+
+    private synchronized void setOnActionListener(OnJLActionListener<T> listener, Collection<JLAction> actions) {
         this.listener = listener;
+        if (listenerType == null || getTransport() == null) {
+            return;
+        }
+        Set<JLAction> wanted = EnumSet.noneOf(JLAction.class);
+        if (listener != null) {
+            actions.stream().filter(listenerActions::contains).forEach(wanted::add);
+        }
+        Set<JLAction> detached = EnumSet.noneOf(JLAction.class);
+        attachedActions.stream().filter(action -> !wanted.contains(action)).forEach(detached::add);
+        Set<JLAction> attached = EnumSet.noneOf(JLAction.class);
+        wanted.stream().filter(action -> !attachedActions.contains(action)).forEach(attached::add);
+
+        if (!detached.isEmpty()) {
+            getTransport().execute(JLTransportRequest.voidCall(this, "off", toEventNames(detached),
+                    JLClientDispatcher.forwarder(listenerType)));
+        }
+        if (!attached.isEmpty()) {
+            getTransport().execute(JLTransportRequest.voidCall(this, "on", toEventNames(attached),
+                    JLClientDispatcher.forwarder(listenerType)));
+        }
+        this.attachedActions = wanted;
+    }
+
+    /**
+     * Defers the client-side registration of the given actions until a listener is set.
+     * Called by the builders when the object is created; the client does not forward any event
+     * of the object before that.
+     *
+     * @param type    client-side type name of the object, as used by the event forwarder
+     * @param actions actions supported by the object, not copied as builders share one
+     *                  unmodifiable set between all objects they create
+     */
+    public synchronized void setListenerActions(@NonNull String type, @NonNull Set<JLAction> actions) {
+        this.listenerType = type;
+        this.listenerActions = actions;
+    }
+
+    /**
+     * @return actions the client currently forwards to the server for this object
+     */
+    public Set<JLAction> getAttachedActions() {
+        return attachedActions;
+    }
+
+    /**
+     * Registers the {@link #getAttachedActions() attached actions} on the client again, e.g.
+     * after the client-side layer of this object was created anew.
+     */
+    public synchronized void reattach() {
+        if (listenerType == null || attachedActions.isEmpty() || getTransport() == null) {
+            return;
+        }
+        getTransport().execute(JLTransportRequest.voidCall(this, "on", toEventNames(attachedActions),
+                JLClientDispatcher.forwarder(listenerType)));
+    }
+
+    private static String toEventNames(Set<JLAction> actions) {
+        return actions.stream().map(JLAction::getJsEventName).collect(Collectors.joining(" "));
     }
 
     /**
@@ -97,10 +220,66 @@ public abstract class JLObjectBase<T extends JLObject<T>> implements JLObject<T>
      * @see <a href="https://leafletjs.com/reference.html#circle-remove">Leaflet docs</a>
      */
     public T remove() {
+        // release the object before the client call, which is skipped if it isn't materialized
+        release();
         getTransport().execute(JLTransportRequest.voidCall(self(), "remove"));
         return self();
     }
 
+    /**
+     * Notifies the {@link #addRemovalListener(Consumer) removal listeners} without a client call,
+     * e.g. once the client reported that the object is gone.
+     */
+    public void release() {
+        List<Consumer<? super JLObject<?>>> listeners;
+        synchronized (this) {
+            listeners = removalListeners;
+            removalListeners = List.of();
+            moveListeners = List.of();
+        }
+        listeners.forEach(removalListener -> removalListener.accept(this));
+    }
+
+    /**
+     * Adds a callback that is notified once when this object is {@link #remove() removed}. Used by
+     * registries to release the object.
+     *
+     * @param removalListener callback receiving this object
+     */
+    public synchronized void addRemovalListener(@NonNull Consumer<? super JLObject<?>> removalListener) {
+        if (removalListeners.contains(removalListener)) {
+            return;
+        }
+        List<Consumer<? super JLObject<?>>> listeners = new ArrayList<>(removalListeners.size() + 1);
+        listeners.addAll(removalListeners);
+        listeners.add(removalListener);
+        removalListeners = List.copyOf(listeners);
+    }
+
+    /**
+     * Adds a callback that is notified after the position of this object changed through the
+     * server, e.g. {@code setLatLng}. Used by spatial indexes to keep the object at its position.
+     *
+     * @param moveListener callback receiving this object
+     */
+    public synchronized void addMoveListener(@NonNull Consumer<? super JLObject<?>> moveListener) {
+        if (moveListeners.contains(moveListener)) {
+            return;
+        }
+        List<Consumer<? super JLObject<?>>> listeners = new ArrayList<>(moveListeners.size() + 1);
+        listeners.addAll(moveListeners);
+        listeners.add(moveListener);
+        moveListeners = List.copyOf(listeners);
+    }
+
+    /**
+     * Notifies the {@link #addMoveListener(Consumer) move listeners}, called by subclasses once
+     * their new position is set.
+     */
+    protected void moved() {
+        moveListeners.forEach(moveListener -> moveListener.accept(this));
+    }
+
     /**
      * Redraws the layer. Sometimes useful after you changed the coordinates that the path uses.
      *
@@ -120,7 +299,7 @@ public abstract class JLObjectBase<T extends JLObject<T>> implements JLObject<T>
      * @see <a href="https://leafletjs.com/reference.html#path-setstyle">Leaflet docs</a>
      */
     public T setStyle(@NonNull JLOptions style) {
-        getTransport().execute(JLTransportRequest.voidCall(this, "setStyle", style.toString()));
+        getTransport().execute(JLTransportRequest.voidCall(this, "setStyle", style));
         return self();
     }
 
@@ -0,0 +1,217 @@
+package io.github.makbn.jlmap.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Simplified versions of a path for each zoom level, computed with the Douglas-Peucker algorithm.
+ * <p>
+ * Distances are measured in screen pixels of the Web Mercator projection, so a point dropped at
+ * one zoom level deviates at most {@link #getTolerance() tolerance} pixels from the drawn line.
+ * The algorithm runs once: every point gets the largest tolerance it survives, and the level of a
+ * zoom contains the points whose significance exceeds the tolerance at that zoom. Levels are
+ * therefore nested, a point shown at one zoom level is shown at all higher ones, and are built
+ * on first use. Levels with the same points share one instance.
+ * </p>
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class JLPathLevels {
+    /**
+     * Highest zoom level with an own level of detail, higher zoom levels use it as well.
+     */
+    public static final int MAX_ZOOM = 24;
+    private static final double TILE_SIZE = 256;
+    private static final double MAX_LATITUDE = 85.0511287798;
+
+    /**
+     * The original, not simplified coordinates.
+     */
+    @Getter
+    JLCoordinates coordinates;
+    /**
+     * Maximum deviation in pixels.
+     */
+    @Getter
+    double tolerance;
+    /**
+     * Per point, the largest tolerance in pixels at zoom level 0 for which it is kept.
+     */
+    double[] significance;
+    AtomicReferenceArray<JLCoordinates> levels = new AtomicReferenceArray<>(MAX_ZOOM + 1);
+
+    private JLPathLevels(JLCoordinates coordinates, double tolerance, double[] significance) {
+        this.coordinates = coordinates;
+        this.tolerance = tolerance;
+        this.significance = significance;
+    }
+
+    /**
+     * Simplifies each ring of the coordinates on its own. Rings of polygons keep at least three
+     * points, lines at least their first and last point.
+     *
+     * @param coordinates the path
+     * @param tolerance   maximum deviation in pixels, e.g. {@code 1} for no visible difference
+     * @param closed      whether the rings are closed, i.e. of a polygon
+     * @return the levels of detail
+     */
+    public static JLPathLevels of(@NonNull JLCoordinates coordinates, double tolerance, boolean closed) {
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("tolerance must be positive: " + tolerance);
+        }
+        int size = coordinates.size();
+        double[] x = new double[size];
+        double[] y = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = projectX(coordinates.getLng(i));
+            y[i] = projectY(coordinates.getLat(i));
+        }
+        double[] significance = new double[size];
+        for (int ring = 0; ring < coordinates.ringCount(); ring++) {
+            rank(x, y, coordinates.ringStart(ring), coordinates.ringEnd(ring) - 1, closed, significance);
+        }
+        return new JLPathLevels(coordinates, tolerance, significance);
+    }
+
+    /**
+     * @param zoom zoom level of the map
+     * @return the simplified coordinates to show at the zoom level, with the same rings and groups
+     */
+    public JLCoordinates forZoom(int zoom) {
+        int level = Math.max(0, Math.min(zoom, MAX_ZOOM));
+        JLCoordinates result = levels.get(level);
+        if (result == null) {
+            result = build(tolerance / (1L << level));
+            for (int i = 0; i <= MAX_ZOOM; i++) {
+                JLCoordinates other = levels.get(i);
+                if (other != null && other.size() == result.size()) {
+                    // nested levels with the same number of points are equal
+                    result = other;
+                    break;
+                }
+            }
+            levels.compareAndSet(level, null, result);
+            result = levels.get(level);
+        }
+        return result;
+    }
+
+    /**
+     * Builds the levels of the zoom levels up front instead of on first use.
+     *
+     * @return this instance
+     */
+    public JLPathLevels precompute(int minZoom, int maxZoom) {
+        for (int zoom = minZoom; zoom <= maxZoom; zoom++) {
+            forZoom(zoom);
+        }
+        return this;
+    }
+
+    private JLCoordinates build(double threshold) {
+        int kept = 0;
+        for (double value : significance) {
+            if (value > threshold) {
+                kept++;
+            }
+        }
+        if (kept == coordinates.size()) {
+            return coordinates;
+        }
+        JLCoordinates.Builder builder = JLCoordinates.builder(kept);
+        for (int group = 0; group < coordinates.groupCount(); group++) {
+            builder.newGroup();
+            for (int ring = coordinates.groupStart(group); ring < coordinates.groupEnd(group); ring++) {
+                builder.newRing();
+                for (int i = coordinates.ringStart(ring); i < coordinates.ringEnd(ring); i++) {
+                    if (significance[i] > threshold) {
+                        builder.add(coordinates.getLat(i), coordinates.getLng(i));
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Douglas-Peucker over the points from first to last, without recursion. A point's
+     * significance is capped by the one of the point that split its range, which keeps the
+     * levels nested.
+     */
+    private static void rank(double[] x, double[] y, int first, int last, boolean closed, double[] significance) {
+        if (last < first) {
+            return;
+        }
+        significance[first] = Double.POSITIVE_INFINITY;
+        significance[last] = Double.POSITIVE_INFINITY;
+        ArrayDeque<int[]> ranges = new ArrayDeque<>();
+        if (closed && last - first >= 2) {
+            // the point farthest from the first keeps the ring from collapsing into a line
+            int farthest = first + 1;
+            double max = -1;
+            for (int i = first + 1; i < last; i++) {
+                double distance = Math.hypot(x[i] - x[first], y[i] - y[first]);
+                if (distance > max) {
+                    max = distance;
+                    farthest = i;
+                }
+            }
+            significance[farthest] = Double.POSITIVE_INFINITY;
+            ranges.push(new int[]{first, farthest});
+            ranges.push(new int[]{farthest, last});
+        } else {
+            ranges.push(new int[]{first, last});
+        }
+        while (!ranges.isEmpty()) {
+            int[] range = ranges.pop();
+            int from = range[0];
+            int to = range[1];
+            if (to - from < 2) {
+                continue;
+            }
+            int split = -1;
+            double max = -1;
+            for (int i = from + 1; i < to; i++) {
+                double distance = segmentDistance(x[i], y[i], x[from], y[from], x[to], y[to]);
+                if (distance > max) {
+                    max = distance;
+                    split = i;
+                }
+            }
+            double cap = Math.min(significance[from], significance[to]);
+            significance[split] = Math.min(max, cap);
+            ranges.push(new int[]{from, split});
+            ranges.push(new int[]{split, to});
+        }
+    }
+
+    private static double segmentDistance(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared == 0 ? 0 : ((px - ax) * dx + (py - ay) * dy) / lengthSquared;
+        t = Math.max(0, Math.min(1, t));
+        return Math.hypot(px - (ax + t * dx), py - (ay + t * dy));
+    }
+
+    private static double projectX(double lng) {
+        return (lng + 180) / 360 * TILE_SIZE;
+    }
+
+    private static double projectY(double lat) {
+        double sin = Math.sin(Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, lat))));
+        return (0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI)) * TILE_SIZE;
+    }
+
+    @Override
+    public String toString() {
+        return "JLPathLevels(size=" + coordinates.size() + ", tolerance=" + tolerance + ")";
+    }
+}
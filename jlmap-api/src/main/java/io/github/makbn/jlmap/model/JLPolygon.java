@@ -1,9 +1,12 @@
 package io.github.makbn.jlmap.model;
 
+import io.github.makbn.jlmap.engine.JLClientDispatcher;
 import io.github.makbn.jlmap.engine.JLServerToClientTransporter;
 import io.github.makbn.jlmap.engine.JLTransportRequest;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -17,7 +20,7 @@ import java.util.concurrent.CompletableFuture;
 @Getter
 @ToString
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-public final class JLPolygon extends JLObjectBase<JLPolygon> {
+public final class JLPolygon extends JLObjectBase<JLPolygon> implements JLZoomDependent {
 
     /**
      * theming options for JLMultiPolyline. all options are not available!
@@ -25,18 +28,46 @@ public final class JLPolygon extends JLObjectBase<JLPolygon> {
     JLOptions options;
 
     /**
-     * The arrays of lat-lng, with the first array representing the outer
-     * shape and the other arrays representing holes in the outer shape.
-     * Additionally, you can pass a multidimensional array to represent
-     * a MultiPolygon shape.
+     * The packed lat-lng of the polygon, one group per polygon. The first ring
+     * of a group represents the outer shape and the other rings represent
+     * holes in the outer shape.
      */
-    JLLatLng[][][] vertices;
+    JLCoordinates coordinates;
+
+    /**
+     * Simplified versions of the coordinates per zoom level, {@code null} to always show all points
+     */
+    @Nullable
+    JLPathLevels levels;
+    /**
+     * How changed levels of detail are sent to the client
+     */
+    JLCoordinateEncoding coordinateEncoding;
+    /**
+     * The level of detail currently shown on the client
+     */
+    @NonFinal
+    @ToString.Exclude
+    volatile JLCoordinates shownCoordinates;
 
     @Builder
-    public JLPolygon(String id, JLOptions options, JLLatLng[][][] vertices, JLServerToClientTransporter<?> transport) {
+    public JLPolygon(String id, JLOptions options, JLCoordinates coordinates, @Nullable JLPathLevels levels,
+                     int zoom, JLCoordinateEncoding coordinateEncoding, JLServerToClientTransporter<?> transport) {
         super(id, transport);
         this.options = options;
-        this.vertices = vertices;
+        this.levels = levels;
+        this.coordinates = levels != null ? levels.getCoordinates()
+                : coordinates == null ? JLCoordinates.EMPTY : coordinates;
+        this.coordinateEncoding = coordinateEncoding == null ? JLCoordinateEncoding.DEFAULT : coordinateEncoding;
+        this.shownCoordinates = levels != null ? levels.forZoom(zoom) : this.coordinates;
+    }
+
+    /**
+     * @return new arrays of lat-lng, with the first array of each polygon representing
+     * the outer shape and the other arrays representing holes in the outer shape
+     */
+    public JLLatLng[][][] getVertices() {
+        return coordinates.toGroups();
     }
 
     @Override
@@ -44,6 +75,26 @@ public final class JLPolygon extends JLObjectBase<JLPolygon> {
         return this;
     }
 
+    /**
+     * Replaces the points on the client with the level of detail of the zoom level. Does nothing
+     * without {@link #getLevels() levels} or if the level is already shown.
+     *
+     * @param zoom the new zoom level of the map
+     */
+    @Override
+    public synchronized void applyZoom(int zoom) {
+        if (levels == null) {
+            return;
+        }
+        JLCoordinates level = levels.forZoom(zoom);
+        if (level == shownCoordinates) {
+            return;
+        }
+        shownCoordinates = level;
+        getTransport().execute(JLTransportRequest.voidCall(this, "setLatLngs",
+                JLClientDispatcher.rings(level, coordinateEncoding)));
+    }
+
     /**
      * Converts the polygon to GeoJSON format asynchronously.
      * <p>
@@ -1,9 +1,12 @@
 package io.github.makbn.jlmap.model;
 
+import io.github.makbn.jlmap.engine.JLClientDispatcher;
 import io.github.makbn.jlmap.engine.JLServerToClientTransporter;
 import io.github.makbn.jlmap.engine.JLTransportRequest;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -15,22 +18,167 @@ import java.util.concurrent.CompletableFuture;
 @Getter
 @ToString
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-public final class JLPolyline extends JLObjectBase<JLPolyline> {
+public final class JLPolyline extends JLObjectBase<JLPolyline> implements JLZoomDependent {
     /**
      * theming options for JLPolyline. all options are not available!
      */
     JLOptions options;
     /**
-     * The array of {@link io.github.makbn.jlmap.model.JLLatLng} points of
-     * JLPolyline
+     * The points of JLPolyline, packed as a single line. {@code null} after appending or trimming
+     * until requested again, guarded by this polyline.
      */
-    JLLatLng[] vertices;
+    @NonFinal
+    @Getter(AccessLevel.NONE)
+    JLCoordinates coordinates;
+    /**
+     * The points, once they were appended or trimmed. Guarded by this polyline.
+     */
+    @NonFinal
+    @Nullable
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    JLVertexBuffer vertices;
+    /**
+     * Maximum number of points, the oldest ones are dropped when more are appended. {@code 0}
+     * for no limit.
+     */
+    @NonFinal
+    volatile int maxVertices;
+
+    /**
+     * Simplified versions of the coordinates per zoom level, {@code null} to always show all points
+     */
+    @Nullable
+    JLPathLevels levels;
+    /**
+     * How changed levels of detail are sent to the client
+     */
+    JLCoordinateEncoding coordinateEncoding;
+    /**
+     * The level of detail currently shown on the client
+     */
+    @NonFinal
+    @ToString.Exclude
+    volatile JLCoordinates shownCoordinates;
 
     @Builder
-    public JLPolyline(String id, JLOptions options, JLLatLng[] vertices, JLServerToClientTransporter<?> transport) {
+    public JLPolyline(String id, JLOptions options, JLCoordinates coordinates, @Nullable JLPathLevels levels,
+                      int zoom, JLCoordinateEncoding coordinateEncoding, JLServerToClientTransporter<?> transport) {
         super(id, transport);
         this.options = options;
-        this.vertices = vertices;
+        this.levels = levels;
+        this.coordinates = levels != null ? levels.getCoordinates()
+                : coordinates == null ? JLCoordinates.EMPTY : coordinates;
+        this.coordinateEncoding = coordinateEncoding == null ? JLCoordinateEncoding.DEFAULT : coordinateEncoding;
+        this.shownCoordinates = levels != null ? levels.forZoom(zoom) : this.coordinates;
+    }
+
+    /**
+     * @return the points of JLPolyline, packed as a single line
+     */
+    public synchronized JLCoordinates getCoordinates() {
+        if (coordinates == null) {
+            JLCoordinates.Builder builder = JLCoordinates.builder(vertices.size());
+            vertices.appendTo(builder);
+            coordinates = builder.build();
+        }
+        return coordinates;
+    }
+
+    /**
+     * @return a new array of the {@link JLLatLng} points of JLPolyline
+     */
+    public JLLatLng[] getVertices() {
+        return getCoordinates().toArray();
+    }
+
+    /**
+     * Adds the points to the end of the line. Only the new points are sent to the client; if the
+     * line gets longer than {@link #getMaxVertices() maxVertices}, the oldest points are dropped
+     * on both sides in the same call.
+     * <h4>Example:</h4>
+     * <pre>{@code
+     * trail.setMaxVertices(3600);
+     * gps.onFix(fix -> trail.appendLatLngs(new JLLatLng(fix.lat(), fix.lng())));
+     * }</pre>
+     *
+     * @param latLngs the new points
+     * @return this polyline instance for method chaining
+     * @throws IllegalStateException if the polyline has {@link #getLevels() levels of detail}
+     */
+    public JLPolyline appendLatLngs(@NonNull JLLatLng... latLngs) {
+        return appendLatLngs(JLCoordinates.of(latLngs));
+    }
+
+    /**
+     * @param latLngs the new points, rings are ignored
+     * @return this polyline instance for method chaining
+     * @see #appendLatLngs(JLLatLng...)
+     */
+    public synchronized JLPolyline appendLatLngs(@NonNull JLCoordinates latLngs) {
+        checkEditable();
+        if (latLngs.isEmpty()) {
+            return this;
+        }
+        JLCoordinates added = JLVertexBuffer.tail(latLngs, maxVertices);
+        int trimmed = vertices().append(added.values(), maxVertices);
+        coordinates = null;
+        sendAppend(added, trimmed);
+        return this;
+    }
+
+    /**
+     * Removes the oldest points from the start of the line.
+     *
+     * @param count number of points to remove, at most all of them are removed
+     * @return this polyline instance for method chaining
+     * @throws IllegalStateException if the polyline has {@link #getLevels() levels of detail}
+     */
+    public synchronized JLPolyline trimHead(int count) {
+        checkEditable();
+        int trimmed = vertices().trimHead(count);
+        if (trimmed > 0) {
+            coordinates = null;
+            sendAppend(JLCoordinates.EMPTY, trimmed);
+        }
+        return this;
+    }
+
+    /**
+     * Limits the number of points, e.g. of a live trail. Drops the oldest points right away if
+     * there are more.
+     *
+     * @param maxVertices maximum number of points, {@code 0} for no limit
+     * @return this polyline instance for method chaining
+     */
+    public synchronized JLPolyline setMaxVertices(int maxVertices) {
+        if (maxVertices < 0) {
+            throw new IllegalArgumentException("maximum number of vertices must not be negative: " + maxVertices);
+        }
+        this.maxVertices = maxVertices;
+        int size = getCoordinates().size();
+        if (maxVertices > 0 && size > maxVertices) {
+            trimHead(size - maxVertices);
+        }
+        return this;
+    }
+
+    private JLVertexBuffer vertices() {
+        if (vertices == null) {
+            vertices = new JLVertexBuffer(coordinates, 0, coordinates.size());
+        }
+        return vertices;
+    }
+
+    private void checkEditable() {
+        if (levels != null) {
+            throw new IllegalStateException("points of a polyline with levels of detail can't be changed");
+        }
+    }
+
+    private void sendAppend(JLCoordinates added, int trimmed) {
+        getTransport().execute(JLTransportRequest.voidCall(this, "appendLatLngs", -1,
+                JLClientDispatcher.path(added, coordinateEncoding), trimmed));
     }
 
     @Override
@@ -38,6 +186,26 @@ public final class JLPolyline extends JLObjectBase<JLPolyline> {
         return this;
     }
 
+    /**
+     * Replaces the points on the client with the level of detail of the zoom level. Does nothing
+     * without {@link #getLevels() levels} or if the level is already shown.
+     *
+     * @param zoom the new zoom level of the map
+     */
+    @Override
+    public synchronized void applyZoom(int zoom) {
+        if (levels == null) {
+            return;
+        }
+        JLCoordinates level = levels.forZoom(zoom);
+        if (level == shownCoordinates) {
+            return;
+        }
+        shownCoordinates = level;
+        getTransport().execute(JLTransportRequest.voidCall(this, "setLatLngs",
+                JLClientDispatcher.path(level, coordinateEncoding)));
+    }
+
     /**
      * Converts the polyline to GeoJSON format asynchronously.
      * <p>
@@ -0,0 +1,93 @@
+package io.github.makbn.jlmap.model;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Distinct styles of a set of features, e.g. the buckets of a choropleth map. Each
+ * {@link JLOptions} is interned once as the Leaflet path style it stands for, features refer to
+ * it by index, so the styles only have to be sent once however many features use them.
+ * Not thread-safe.
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class JLStyleTable {
+    /**
+     * Maximum number of options instances remembered, the least recently used one is dropped
+     * first, so style functions building new options for each feature don't keep every instance
+     * alive.
+     */
+    private static final int MAX_CACHED_OPTIONS = 64;
+
+    /**
+     * Index per options instance, style functions usually return a few constant instances.
+     * Options don't override {@code equals}, so instances are compared by identity.
+     */
+    Map<JLOptions, Integer> indexByOptions = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<JLOptions, Integer> eldest) {
+            return size() > MAX_CACHED_OPTIONS;
+        }
+    };
+    /**
+     * Index per distinct style, for equal options built anew for each feature.
+     */
+    Map<Map<String, Object>, Integer> indexByStyle = new LinkedHashMap<>();
+
+    /**
+     * @param options the style of a feature, {@code null} to leave it unchanged
+     * @return index of the style in {@link #getStyles()}, {@code -1} for {@code null}
+     */
+    public int intern(@Nullable JLOptions options) {
+        if (options == null) {
+            return -1;
+        }
+        Integer cached = indexByOptions.get(options);
+        if (cached != null) {
+            return cached;
+        }
+        int index = indexByStyle.computeIfAbsent(toStyle(options), style -> indexByStyle.size());
+        indexByOptions.put(options, index);
+        return index;
+    }
+
+    /**
+     * @return number of distinct styles
+     */
+    public int size() {
+        return indexByStyle.size();
+    }
+
+    /**
+     * @return the distinct styles in order of their index
+     */
+    public List<Map<String, Object>> getStyles() {
+        return List.copyOf(indexByStyle.keySet());
+    }
+
+    /**
+     * @return the Leaflet path style of the options
+     */
+    public static Map<String, Object> toStyle(@NonNull JLOptions options) {
+        Map<String, Object> style = new HashMap<>();
+        if (options.getColor() != null) {
+            style.put("color", options.getColor().toHexString());
+        }
+        if (options.getFillColor() != null) {
+            style.put("fillColor", options.getFillColor().toHexString());
+        }
+        style.put("weight", options.getWeight());
+        style.put("opacity", options.getOpacity());
+        style.put("fillOpacity", options.getFillOpacity());
+        style.put("stroke", options.isStroke());
+        style.put("fill", options.isFill());
+        style.put("smoothFactor", options.getSmoothFactor());
+        return style;
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.makbn.jlmap.model;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Arrays;
+
+/**
+ * Growing line of points that is appended at the end and trimmed at the start, e.g. a live
+ * trail. Points are kept interleaved in a window of one array: appending is amortized constant
+ * time, trimming only moves the start of the window, and the window is moved back to the start
+ * of the array once the unused head is as large as the points, so a line of at most {@code n}
+ * points only needs memory for a small multiple of {@code n} points. Not thread-safe.
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+final class JLVertexBuffer {
+    double[] values;
+    /**
+     * Index of the latitude of the first point.
+     */
+    int start;
+    /**
+     * Index after the longitude of the last point.
+     */
+    int end;
+
+    /**
+     * @param coordinates initial points
+     * @param from        index of the first initial point
+     * @param to          index after the last initial point
+     */
+    JLVertexBuffer(JLCoordinates coordinates, int from, int to) {
+        this.values = Arrays.copyOfRange(coordinates.values(), from * 2, Math.max(to * 2, from * 2 + 2));
+        this.end = (to - from) * 2;
+    }
+
+    int size() {
+        return (end - start) / 2;
+    }
+
+    /**
+     * @param points  the points to append
+     * @param maxSize maximum number of points, {@code 0} for no limit
+     * @return the points that remain of {@code points} after appending them to a line of at most
+     * {@code maxSize} points, i.e. the last {@code maxSize} ones
+     */
+    static JLCoordinates tail(JLCoordinates points, int maxSize) {
+        if (maxSize <= 0 || points.size() <= maxSize) {
+            return points;
+        }
+        return JLCoordinates.wrap(Arrays.copyOfRange(points.values(), (points.size() - maxSize) * 2, points.size() * 2));
+    }
+
+    /**
+     * Appends the points and drops the oldest ones beyond the maximum size.
+     *
+     * @param latLngs interleaved latitudes and longitudes of the new points
+     * @param maxSize maximum number of points, {@code 0} for no limit
+     * @return number of dropped points
+     */
+    int append(double[] latLngs, int maxSize) {
+        append(latLngs);
+        return maxSize > 0 && size() > maxSize ? trimHead(size() - maxSize) : 0;
+    }
+
+    private void append(double[] latLngs) {
+        if (end + latLngs.length > values.length) {
+            if (start >= end - start && end - start + latLngs.length <= values.length) {
+                compact();
+            } else {
+                double[] grown = new double[Math.max(values.length * 2, (end - start + latLngs.length) * 2)];
+                System.arraycopy(values, start, grown, 0, end - start);
+                values = grown;
+                end -= start;
+                start = 0;
+            }
+        }
+        System.arraycopy(latLngs, 0, values, end, latLngs.length);
+        end += latLngs.length;
+    }
+
+    /**
+     * @return number of removed points, at most {@link #size()}
+     */
+    int trimHead(int count) {
+        int removed = Math.min(Math.max(count, 0), size());
+        start += removed * 2;
+        if (start == end) {
+            start = 0;
+            end = 0;
+        } else if (start >= end - start && start > 64) {
+            compact();
+        }
+        return removed;
+    }
+
+    /**
+     * Adds the points as a new ring of the builder.
+     */
+    void appendTo(JLCoordinates.Builder builder) {
+        builder.newRing();
+        for (int i = start; i < end; i += 2) {
+            builder.add(values[i], values[i + 1]);
+        }
+    }
+
+    private void compact() {
+        System.arraycopy(values, start, values, 0, end - start);
+        end -= start;
+        start = 0;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.makbn.jlmap.model;
+
+/**
+ * Server-side content whose presence on the client depends on the visible area of the map, e.g. a
+ * {@link io.github.makbn.jlmap.JLViewportLayer}. Registered with the event handler of the map,
+ * which calls {@link #applyViewport(JLBounds)} after every move and zoom.
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+public interface JLViewportDependent {
+
+    /**
+     * Updates the client for the visible area, if needed.
+     *
+     * @param bounds the new bounds of the map
+     */
+    void applyViewport(JLBounds bounds);
+}
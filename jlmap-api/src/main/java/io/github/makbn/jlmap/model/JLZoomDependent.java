@@ -0,0 +1,18 @@
+package io.github.makbn.jlmap.model;
+
+/**
+ * An object whose geometry on the client depends on the zoom level of the map, e.g. a path with
+ * {@link JLPathLevels levels of detail}. The map calls {@link #applyZoom(int)} after every zoom.
+ *
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+public interface JLZoomDependent {
+
+    /**
+     * Updates the object on the client for the zoom level, if needed.
+     *
+     * @param zoom the new zoom level of the map
+     */
+    void applyZoom(int zoom);
+}
@@ -0,0 +1,224 @@
+package io.github.makbn.jlmap.model.builder;
+
+import io.github.makbn.jlmap.engine.JLClientDispatcher;
+import io.github.makbn.jlmap.engine.JLServerToClientTransporter;
+import io.github.makbn.jlmap.listener.JLAction;
+import io.github.makbn.jlmap.model.*;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Builds a whole set of layers of the same kind as one {@link JLClientDispatcher} command.
+ * <p>
+ * Instead of rendering one script per object, the builder collects ids and coordinates and
+ * ships them as a single compact payload that the client instantiates in a loop. Options are
+ * resolved once for the whole set and all objects share a single event forwarder on the client.
+ * </p>
+ *
+ * @param <M> type of the created map objects
+ * @author Matt Akbarian  (@makbn)
+ * @since 2.0.0
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class JLBulkBuilder<M extends JLObject<?>> {
+    String kind;
+    String elementType;
+    ObjectFactory<M> factory;
+    List<String> ids = new ArrayList<>();
+    List<Object> geometries = new ArrayList<>();
+    /**
+     * Forwarded events, {@code remove} always so that removed objects are released on the server.
+     */
+    List<String> events = new ArrayList<>(List.of(JLAction.REMOVE.getJsEventName()));
+    Set<JLAction> lazyActions = EnumSet.noneOf(JLAction.class);
+    Map<String, Object> options = new LinkedHashMap<>();
+    @NonFinal
+    JLOptions jlOptions = JLOptions.DEFAULT;
+    @NonFinal
+    double radius = 10;
+    @NonFinal
+    JLCoordinateEncoding coordinateEncoding = JLCoordinateEncoding.DEFAULT;
+    @NonFinal
+    @Nullable
+    JLServerToClientTransporter<?> transporter;
+
+    private JLBulkBuilder(String kind, Class<M> type, ObjectFactory<M> factory) {
+        this.kind = kind;
+        this.elementType = type.getSimpleName().toLowerCase();
+        this.factory = factory;
+    }
+
+    /**
+     * @return builder for a set of {@link JLMarker}s
+     */
+    public static JLBulkBuilder<JLMarker> markers() {
+        return new JLBulkBuilder<>("marker", JLMarker.class, (builder, id, geometry) -> JLMarker.builder()
+                .id(id)
+                .latLng((JLLatLng) geometry)
+                .transport(builder.transporter)
+                .build());
+    }
+
+    /**
+     * @return builder for a set of {@link JLCircleMarker}s
+     */
+    public static JLBulkBuilder<JLCircleMarker> circleMarkers() {
+        return new JLBulkBuilder<>("circleMarker", JLCircleMarker.class, (builder, id, geometry) -> JLCircleMarker.builder()
+                .id(id)
+                .latLng((JLLatLng) geometry)
+                .radius(builder.radius)
+                .options(builder.jlOptions)
+                .transport(builder.transporter)
+                .build());
+    }
+
+    /**
+     * @return builder for a set of {@link JLPolyline}s
+     */
+    public static JLBulkBuilder<JLPolyline> polylines() {
+        return new JLBulkBuilder<>("polyline", JLPolyline.class, (builder, id, geometry) -> JLPolyline.builder()
+                .id(id)
+                .coordinates(JLCoordinates.of((JLLatLng[]) geometry))
+                .options(builder.jlOptions)
+                .transport(builder.transporter)
+                .build());
+    }
+
+    public JLBulkBuilder<M> setTransporter(@Nullable JLServerToClientTransporter<?> transporter) {
+        this.transporter = transporter;
+        return this;
+    }
+
+    public JLBulkBuilder<M> setRadius(double radius) {
+        this.radius = radius;
+        return this;
+    }
+
+    /**
+     * @param coordinateEncoding how the vertices of paths are sent to the client, default is
+     *                           {@link JLCoordinateEncoding#DEFAULT}, also used for {@code null}
+     */
+    public JLBulkBuilder<M> withCoordinateEncoding(@Nullable JLCoordinateEncoding coordinateEncoding) {
+        this.coordinateEncoding = coordinateEncoding == null ? JLCoordinateEncoding.DEFAULT : coordinateEncoding;
+        return this;
+    }
+
+    public JLBulkBuilder<M> withOptions(@NonNull JLOptions jlOptions) {
+        this.jlOptions = jlOptions;
+        options.clear();
+        options.putAll(new JLOptionsBuilder().setOption(jlOptions).build());
+        return this;
+    }
+
+    /**
+     * Registers client-side event forwarding for the given actions on every object of the set.
+     *
+     * @param actions actions to forward to the server
+     * @return this builder
+     */
+    public JLBulkBuilder<M> on(@NonNull JLAction... actions) {
+        for (JLAction action : actions) {
+            if (!events.contains(action.getJsEventName())) {
+                events.add(action.getJsEventName());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Same as {@link #on(JLAction...)} but the actions are only registered on the client for the
+     * objects that get a listener.
+     *
+     * @param actions actions to forward to the server once a listener is set
+     * @return this builder
+     * @see JLObjectBase#setOnActionListener(io.github.makbn.jlmap.listener.OnJLActionListener)
+     */
+    public JLBulkBuilder<M> withLazyCallbacks(@NonNull JLAction... actions) {
+        lazyActions.addAll(Arrays.asList(actions));
+        // forwarded from the start, see events
+        lazyActions.remove(JLAction.REMOVE);
+        return this;
+    }
+
+    /**
+     * Adds a point object, i.e. a marker or a circle marker.
+     */
+    public JLBulkBuilder<M> add(@NonNull String uuid, @NonNull JLLatLng latLng) {
+        ids.add(uuid);
+        geometries.add(latLng);
+        return this;
+    }
+
+    /**
+     * Adds a path object, i.e. a polyline.
+     */
+    public JLBulkBuilder<M> add(@NonNull String uuid, @NonNull JLLatLng[] vertices) {
+        ids.add(uuid);
+        geometries.add(vertices);
+        return this;
+    }
+
+    /**
+     * @return number of objects collected so far
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * @return encoded dispatcher operation that creates all collected objects on the client
+     */
+    public String buildOperations() {
+        Map<String, Object> clientOptions = options;
+        if ("circleMarker".equals(kind)) {
+            clientOptions = new LinkedHashMap<>(options);
+            clientOptions.put("radius", radius);
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("kind", kind);
+        payload.put("jlType", elementType);
+        payload.put("ids", ids);
+        payload.put("latLngs", clientGeometries());
+        payload.put("options", clientOptions);
+        payload.put("events", events);
+        return JLClientDispatcher.encodeCommand("addAll", payload);
+    }
+
+    private List<Object> clientGeometries() {
+        if (coordinateEncoding.equals(JLCoordinateEncoding.DEFAULT)) {
+            return geometries;
+        }
+        List<Object> result = new ArrayList<>(geometries.size());
+        for (Object geometry : geometries) {
+            result.add(geometry instanceof JLLatLng[] vertices
+                    ? JLClientDispatcher.path(JLCoordinates.of(vertices), coordinateEncoding) : geometry);
+        }
+        return result;
+    }
+
+    /**
+     * @return server-side objects for all collected entries, in insertion order
+     */
+    public List<M> buildJLObjects() {
+        List<M> objects = new ArrayList<>(ids.size());
+        Set<JLAction> listenerActions = Collections.unmodifiableSet(EnumSet.copyOf(lazyActions));
+        for (int i = 0; i < ids.size(); i++) {
+            M object = factory.create(this, ids.get(i), geometries.get(i));
+            if (!lazyActions.isEmpty() && object instanceof JLObjectBase<?> objectBase) {
+                objectBase.setListenerActions(elementType, listenerActions);
+            }
+            objects.add(object);
+        }
+        return objects;
+    }
+
+    @FunctionalInterface
+    private interface ObjectFactory<M extends JLObject<?>> {
+        M create(JLBulkBuilder<M> builder, String id, Object geometry);
+    }
+}
@@ -6,20 +6,55 @@ import lombok.experimental.FieldDefaults;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
+ * Renders the client-side event registrations of a map object.
+ * <p>
+ * In the default mode every action gets its own JavaScript closure. In delegated mode the object
+ * only registers the shared forwarder of its type ({@code jlDispatch.forwarder}), which is created
+ * once per map and resolves the target object through its uuid, so no closure source is sent and
+ * no closure is allocated per object.
+ * </p>
+ * <p>
+ * In lazy mode nothing is rendered for the object's own events. The actions are only collected
+ * (see {@link #getLazyActions()}) and registered on the client with the shared forwarder once a
+ * listener is set on the object, so display-only objects never send events to the server. The
+ * only exception is {@link JLAction#REMOVE}, which is always registered with the shared forwarder
+ * so that the server releases objects removed on the client.
+ * </p>
+ *
  * @author Matt Akbarian  (@makbn)
  */
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class JLCallbackBuilder {
     List<String> callbacks = new ArrayList<>();
+    Set<JLAction> lazyActions = EnumSet.noneOf(JLAction.class);
     String varName;
     String elementType;
+    Registration registration;
 
     public JLCallbackBuilder(String elementType, String varName) {
+        this(elementType, varName, Registration.CLOSURE);
+    }
+
+    public JLCallbackBuilder(String elementType, String varName, Registration registration) {
         this.varName = varName;
         this.elementType = elementType;
+        this.registration = registration;
+        if (registration == Registration.LAZY) {
+            callbacks.add(String.format(getDelegatedCallbackFunction(JLAction.REMOVE),
+                    JLAction.REMOVE.getJsEventName(), elementType, varName));
+        }
+    }
+
+    private static @NotNull String getDelegatedCallbackFunction(JLAction event) {
+        //language=JavaScript
+        return event == JLAction.RESIZE ? getCallbackFunction(event) : """
+                this.%3$s.on('%1$s', window.jlDispatch.forwarder(this, '%2$s'));
+                """;
     }
 
     private static @NotNull String getCallbackFunction(JLAction event) {
@@ -64,11 +99,45 @@ public class JLCallbackBuilder {
     }
 
     public JLCallbackBuilder on(JLAction event) {
-        callbacks.add(String.format(getCallbackFunction(event), event.getJsEventName(), elementType, varName));
+        // map level events are not registered on the object and can't be attached later
+        if (registration == Registration.LAZY && event != JLAction.RESIZE) {
+            // remove is registered from the start
+            if (event != JLAction.REMOVE) {
+                lazyActions.add(event);
+            }
+            return this;
+        }
+        String template = registration == Registration.CLOSURE ? getCallbackFunction(event) : getDelegatedCallbackFunction(event);
+        callbacks.add(String.format(template, event.getJsEventName(), elementType, varName));
         return this;
     }
 
     public List<String> build() {
         return callbacks;
     }
+
+    /**
+     * @return actions to register on the client once the object gets a listener
+     */
+    public Set<JLAction> getLazyActions() {
+        return lazyActions;
+    }
+
+    /**
+     * How the callbacks of an object are registered on the client.
+     */
+    public enum Registration {
+        /**
+         * One closure per action, rendered with the object.
+         */
+        CLOSURE,
+        /**
+         * The shared forwarder of the object type, rendered with the object.
+         */
+        DELEGATED,
+        /**
+         * The shared forwarder of the object type, registered when a listener is set.
+         */
+        LAZY
+    }
 }
@@ -58,7 +58,7 @@ public class JLCircleBuilder extends JLObjectBuilder<JLCircle, JLCircleBuilder>
 
     @Override
     public JLCircle buildJLObject() {
-        return JLCircle.builder()
+        return bindLazyCallbacks(JLCircle.builder()
                 .id(getElementVarName())
                 .radius(radius)
                 .latLng(JLLatLng.builder()
@@ -67,6 +67,6 @@ public class JLCircleBuilder extends JLObjectBuilder<JLCircle, JLCircleBuilder>
                         .build())
                 .options(JLOptions.DEFAULT)
                 .transport(transporter)
-                .build();
+                .build());
     }
 }
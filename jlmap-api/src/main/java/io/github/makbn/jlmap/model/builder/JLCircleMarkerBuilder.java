@@ -60,7 +60,7 @@ public class JLCircleMarkerBuilder extends JLObjectBuilder<JLCircleMarker, JLCir
 
     @Override
     public JLCircleMarker buildJLObject() {
-        return JLCircleMarker.builder()
+        return bindLazyCallbacks(JLCircleMarker.builder()
                 .id(uuid)
                 .latLng(JLLatLng.builder()
                         .lng(lng)
@@ -69,7 +69,7 @@ public class JLCircleMarkerBuilder extends JLObjectBuilder<JLCircleMarker, JLCir
                 .options(jlOptions)
                 .radius(radius)
                 .transport(transporter)
-                .build();
+                .build());
     }
 
 }
@@ -1,10 +1,12 @@
 package io.github.makbn.jlmap.model.builder;
 
 import io.github.makbn.jlmap.engine.JLClientToServerTransporter;
+import io.github.makbn.jlmap.geojson.JLStyledGeoJson;
 import io.github.makbn.jlmap.model.JLGeoJson;
 import io.github.makbn.jlmap.model.JLGeoJsonOptions;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,6 +16,12 @@ public class JLGeoJsonObjectBuilder extends JLObjectBuilder<JLGeoJson, JLGeoJson
     String geoJson;
     JLGeoJsonOptions geoJsonOptions;
     JLClientToServerTransporter serverToClient;
+    /**
+     * The content with filter and styles evaluated on the server, {@code null} until it was
+     * rendered or if the client has to evaluate them
+     */
+    @Nullable
+    JLStyledGeoJson styledGeoJson;
 
     @Override
     protected String getElementType() {
@@ -27,11 +35,13 @@ public class JLGeoJsonObjectBuilder extends JLObjectBuilder<JLGeoJson, JLGeoJson
 
     public JLGeoJsonObjectBuilder setGeoJson(String geoJson) {
         this.geoJson = geoJson;
+        this.styledGeoJson = null;
         return this;
     }
 
     public JLGeoJsonObjectBuilder withGeoJsonOptions(JLGeoJsonOptions geoJsonOptions) {
         this.geoJsonOptions = geoJsonOptions;
+        this.styledGeoJson = null;
         return this;
     }
 
@@ -40,8 +50,15 @@ public class JLGeoJsonObjectBuilder extends JLObjectBuilder<JLGeoJson, JLGeoJson
         return this;
     }
 
+    /**
+     * Evaluates the filter and the style function on the server when possible, so that neither
+     * the styles nor the filtered features depend on calls from the client.
+     */
     @Override
     public String buildJsElement() {
+        if (styledGeoJson == null && hasFeatureFunctions() && geoJson != null) {
+            styledGeoJson = JLStyledGeoJson.evaluate(geoJson, geoJsonOptions);
+        }
         return String.format("""
                         let %1$s = L.geoJSON(%2$s, { %3$s });
                         this.%1$s = %1$s;
@@ -49,9 +66,11 @@ public class JLGeoJsonObjectBuilder extends JLObjectBuilder<JLGeoJson, JLGeoJson
                         // callback start
                         %4$s
                         // callback end
+                        %5$s
                         %1$s.addTo(this.map);
                         """,
-                getElementVarName(), geoJson, renderGeoJsonOptions(), renderCallbacks());
+                getElementVarName(), styledGeoJson != null ? styledGeoJson.getContent() : geoJson,
+                renderGeoJsonOptions(), renderCallbacks(), styledGeoJson != null ? "" : renderFeatureEvaluation());
     }
 
     private String renderGeoJsonOptions() {
@@ -63,39 +82,48 @@ public class JLGeoJsonObjectBuilder extends JLObjectBuilder<JLGeoJson, JLGeoJson
             if (!baseOptions.isEmpty()) {
                 optionParts.add(baseOptions);
             }
+        } else if (styledGeoJson != null && styledGeoJson.getStyles().size() > 0) {
+            // features refer to the distinct styles by index
+            optionParts.add("style: (function (styles) { return function (feature) { return styles[feature.%s]; }; })(%s)"
+                    .formatted(JLStyledGeoJson.STYLE_MEMBER, styledGeoJson.getStylesJson()));
         }
 
-        if (geoJsonOptions != null) {
-            // Add style function callback using bridge
-            if (geoJsonOptions.getStyleFunction() != null) {
-                //language=js
-                optionParts.add("""
-                        onEachFeature: function(feature, layer) {
-                            window.jlObjectBridge.call('%1$s', 'callFilterFunction', JSON.stringify(feature)).then(filterResult => {
-                                if (!filterResult || filterResult === 'false') {
-                                    layer.remove();
-                                } else {
-                                     window.jlObjectBridge.call('%1$s', 'callStyleFunction', JSON.stringify(feature.properties)).then(styleResult => {
-                                        console.log(styleResult);
-                                        layer.setStyle(styleResult ? JSON.parse(styleResult) : {});
-                                    });
-                                }
-                            });
-                        }
-                        """.formatted(uuid));
-            }
+        return String.join(", ", optionParts);
+    }
 
-            // Add filter function callback using bridge
-            if (geoJsonOptions.getFilter() != null) {
-                optionParts.add("filter: function(feature, layer) { " +
-                        "var result = window.jlObjectBridge.call('" + uuid + "', 'callFilterFunction', JSON.stringify(feature)); " +
-                        "return true; " +
-                        "}");
-            }
+    private boolean hasFeatureFunctions() {
+        return geoJsonOptions != null && (geoJsonOptions.getStyleFunction() != null || geoJsonOptions.getFilter() != null);
+    }
 
+    /**
+     * Sends the properties of all features to the server in one call, which answers with a mask
+     * of the features to keep and the style of each one (see {@link JLGeoJson#evaluateFeatures}).
+     * Only used for content the server can't evaluate itself.
+     */
+    private String renderFeatureEvaluation() {
+        if (!hasFeatureFunctions()) {
+            return "";
         }
-
-        return String.join(", ", optionParts);
+        //language=js
+        return """
+                {
+                    const layers = %1$s.getLayers();
+                    const properties = layers.map(layer => (layer.feature && layer.feature.properties) || {});
+                    window.jlObjectBridge.call('%1$s', 'evaluateFeatures', properties).then(result => {
+                        const evaluation = typeof result === 'string' ? JSON.parse(result) : result;
+                        if (!evaluation) {
+                            return;
+                        }
+                        for (let i = 0; i < layers.length; i++) {
+                            if (evaluation.keep && evaluation.keep.charAt(i) === '0') {
+                                %1$s.removeLayer(layers[i]);
+                            } else if (evaluation.style && evaluation.style[i] >= 0 && layers[i].setStyle) {
+                                layers[i].setStyle(evaluation.styles[evaluation.style[i]]);
+                            }
+                        }
+                    });
+                }
+                """.formatted(getElementVarName());
     }
 
     @Override
@@ -109,6 +137,6 @@ public class JLGeoJsonObjectBuilder extends JLObjectBuilder<JLGeoJson, JLGeoJson
 
         serverToClient.registerObject(uuid, geoJsonObject);
 
-        return geoJsonObject;
+        return bindLazyCallbacks(geoJsonObject);
     }
 }
@@ -81,12 +81,12 @@ public class JLImageOverlayBuilder extends JLObjectBuilder<JLImageOverlay, JLIma
                 .southWest(southWest)
                 .build();
 
-        return JLImageOverlay.builder()
+        return bindLazyCallbacks(JLImageOverlay.builder()
                 .jLId(uuid)
                 .imageUrl(imageUrl)
                 .bounds(jlBounds)
                 .options(jlOptions)
                 .transport(transporter)
-                .build();
+                .build());
     }
 }
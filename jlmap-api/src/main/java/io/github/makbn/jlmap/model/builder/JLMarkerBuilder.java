@@ -57,7 +57,7 @@ public class JLMarkerBuilder extends JLObjectBuilder<JLMarker, JLMarkerBuilder>
 
     @Override
     public JLMarker buildJLObject() {
-        return JLMarker.builder()
+        return bindLazyCallbacks(JLMarker.builder()
                 .id(getElementVarName())
                 .latLng(JLLatLng.builder()
                         .lat(lat)
@@ -65,6 +65,6 @@ public class JLMarkerBuilder extends JLObjectBuilder<JLMarker, JLMarkerBuilder>
                         .build())
                 .text(text)
                 .transport(transporter)
-                .build();
+                .build());
     }
 }
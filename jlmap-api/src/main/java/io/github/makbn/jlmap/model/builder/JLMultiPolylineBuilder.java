@@ -1,11 +1,16 @@
 package io.github.makbn.jlmap.model.builder;
 
+import io.github.makbn.jlmap.engine.JLCoordinateWriter;
+import io.github.makbn.jlmap.model.JLCoordinateEncoding;
+import io.github.makbn.jlmap.model.JLCoordinates;
 import io.github.makbn.jlmap.model.JLLatLng;
 import io.github.makbn.jlmap.model.JLMultiPolyline;
 import lombok.AccessLevel;
+import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -14,10 +19,32 @@ import java.util.List;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class JLMultiPolylineBuilder extends JLObjectBuilder<JLMultiPolyline, JLMultiPolylineBuilder> {
 
-    List<List<double[]>> latlngGroups = new ArrayList<>();
+    JLCoordinates.Builder latlngGroups = JLCoordinates.builder();
+    @NonFinal
+    JLCoordinateEncoding coordinateEncoding = JLCoordinateEncoding.DEFAULT;
 
     public JLMultiPolylineBuilder addLine(List<double[]> latlngs) {
-        latlngGroups.add(latlngs);
+        latlngGroups.newRing();
+        for (double[] coords : latlngs) {
+            latlngGroups.add(coords[0], coords[1]);
+        }
+        return this;
+    }
+
+    public JLMultiPolylineBuilder addLine(@NonNull JLLatLng[] latlngs) {
+        latlngGroups.newRing();
+        for (JLLatLng latLng : latlngs) {
+            latlngGroups.add(latLng.getLat(), latLng.getLng());
+        }
+        return this;
+    }
+
+    /**
+     * @param coordinateEncoding how the coordinates are sent to the client, default is
+     *                           {@link JLCoordinateEncoding#DEFAULT}, also used for {@code null}
+     */
+    public JLMultiPolylineBuilder withCoordinateEncoding(@Nullable JLCoordinateEncoding coordinateEncoding) {
+        this.coordinateEncoding = coordinateEncoding == null ? JLCoordinateEncoding.DEFAULT : coordinateEncoding;
         return this;
     }
 
@@ -34,19 +61,8 @@ public class JLMultiPolylineBuilder extends JLObjectBuilder<JLMultiPolyline, JLM
     @Override
     public String buildJsElement() {
         // Convert coordinates to JS format
-        StringBuilder coords = new StringBuilder("[");
-        for (int i = 0; i < latlngGroups.size(); i++) {
-            if (i > 0) coords.append(",");
-            coords.append("[");
-            List<double[]> line = latlngGroups.get(i);
-            for (int j = 0; j < line.size(); j++) {
-                if (j > 0) coords.append(",");
-                double[] pt = line.get(j);
-                coords.append(String.format("[%f,%f]", pt[0], pt[1]));
-            }
-            coords.append("]");
-        }
-        coords.append("]");
+        String coords = JLCoordinateWriter.toRingsScript(latlngGroups.build(), coordinateEncoding,
+                JLCoordinateWriter.Format.FIXED, ",");
 
         return String.format("""
                         let %1$s = L.polyline(%2$s, { %3$s });
@@ -66,27 +82,13 @@ public class JLMultiPolylineBuilder extends JLObjectBuilder<JLMultiPolyline, JLM
 
     @Override
     public JLMultiPolyline buildJLObject() {
-        return JLMultiPolyline.builder()
+        return bindLazyCallbacks(JLMultiPolyline.builder()
                 .id(uuid)
                 .options(jlOptions)
                 .transport(transporter)
-                .vertices(toVertices(latlngGroups))
-                .build();
-    }
-
-
-    private JLLatLng[][] toVertices(List<List<double[]>> latlngGroups) {
-        JLLatLng[][] result = new JLLatLng[latlngGroups.size()][];
-        for (int i = 0; i < latlngGroups.size(); i++) {
-            List<double[]> group = latlngGroups.get(i);
-            JLLatLng[] vertices = new JLLatLng[group.size()];
-            for (int j = 0; j < group.size(); j++) {
-                double[] coords = group.get(j);
-                vertices[j] = new JLLatLng(coords[0], coords[1]);
-            }
-            result[i] = vertices;
-        }
-        return result;
+                .coordinates(latlngGroups.build())
+                .coordinateEncoding(coordinateEncoding)
+                .build());
     }
 
 }
@@ -1,7 +1,9 @@
 package io.github.makbn.jlmap.model.builder;
 
 import io.github.makbn.jlmap.engine.JLServerToClientTransporter;
+import io.github.makbn.jlmap.listener.JLAction;
 import io.github.makbn.jlmap.model.JLObject;
+import io.github.makbn.jlmap.model.JLObjectBase;
 import io.github.makbn.jlmap.model.JLOptions;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
@@ -20,6 +22,7 @@ abstract class JLObjectBuilder<M extends JLObject<?>, T extends JLObjectBuilder<
     protected JLServerToClientTransporter<?> transporter;
     protected final Map<String, Object> options = new LinkedHashMap<>();
     protected final List<String> callbacks = new ArrayList<>();
+    protected final Set<JLAction> lazyActions = EnumSet.noneOf(JLAction.class);
 
     @SuppressWarnings("unchecked")
     protected final T self() {
@@ -52,6 +55,31 @@ abstract class JLObjectBuilder<M extends JLObject<?>, T extends JLObjectBuilder<
         return self();
     }
 
+    /**
+     * Same as {@link #withCallbacks(Consumer)} but registers the shared per-map event forwarder
+     * instead of one closure per action.
+     */
+    public T withDelegatedCallbacks(Consumer<JLCallbackBuilder> config) {
+        JLCallbackBuilder cb = new JLCallbackBuilder(getElementType(), getElementVarName(), JLCallbackBuilder.Registration.DELEGATED);
+        config.accept(cb);
+        callbacks.addAll(cb.build());
+        return self();
+    }
+
+    /**
+     * Same as {@link #withDelegatedCallbacks(Consumer)} but the actions are only registered on the
+     * client when a listener is set on the built object.
+     *
+     * @see JLObjectBase#setOnActionListener(io.github.makbn.jlmap.listener.OnJLActionListener)
+     */
+    public T withLazyCallbacks(Consumer<JLCallbackBuilder> config) {
+        JLCallbackBuilder cb = new JLCallbackBuilder(getElementType(), getElementVarName(), JLCallbackBuilder.Registration.LAZY);
+        config.accept(cb);
+        callbacks.addAll(cb.build());
+        lazyActions.addAll(cb.getLazyActions());
+        return self();
+    }
+
     public T setTransporter(@Nullable JLServerToClientTransporter<?> transporter) {
         this.transporter = transporter;
         return self();
@@ -83,4 +111,14 @@ abstract class JLObjectBuilder<M extends JLObject<?>, T extends JLObjectBuilder<
     public abstract String buildJsElement();
 
     public abstract M buildJLObject();
+
+    /**
+     * Hands the lazily registered actions over to the built object.
+     */
+    protected final <O extends JLObject<?>> O bindLazyCallbacks(O object) {
+        if (!lazyActions.isEmpty() && object instanceof JLObjectBase<?> objectBase) {
+            objectBase.setListenerActions(getElementType(), Collections.unmodifiableSet(EnumSet.copyOf(lazyActions)));
+        }
+        return object;
+    }
 }
@@ -1,13 +1,18 @@
 package io.github.makbn.jlmap.model.builder;
 
+import io.github.makbn.jlmap.engine.JLCoordinateWriter;
+import io.github.makbn.jlmap.model.JLCoordinateEncoding;
+import io.github.makbn.jlmap.model.JLCoordinates;
 import io.github.makbn.jlmap.model.JLLatLng;
+import io.github.makbn.jlmap.model.JLPathLevels;
 import io.github.makbn.jlmap.model.JLPolygon;
 import lombok.AccessLevel;
+import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * @author Matt Akbarian  (@makbn)
@@ -15,18 +20,66 @@ import java.util.stream.Collectors;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class JLPolygonBuilder extends JLObjectBuilder<JLPolygon, JLPolygonBuilder> {
 
-    List<List<double[]>> latlngGroups = new ArrayList<>();
+    /**
+     * One group with a single ring per added group.
+     */
+    JLCoordinates.Builder latlngGroups = JLCoordinates.builder();
+    @NonFinal
+    JLCoordinateEncoding coordinateEncoding = JLCoordinateEncoding.DEFAULT;
+    @NonFinal
+    double simplifyTolerance;
+    @NonFinal
+    int zoom;
+    @NonFinal
+    @Nullable
+    JLPathLevels levels;
 
     public JLPolygonBuilder addLatLngGroup(List<double[]> group) {
-        this.latlngGroups.add(group);
+        latlngGroups.newGroup().newRing();
+        for (double[] coord : group) {
+            latlngGroups.add(coord[0], coord[1]);
+        }
         return this;
     }
 
-    public JLPolygonBuilder addLatLng(double lat, double lng) {
-        if (latlngGroups.isEmpty()) {
-            latlngGroups.add(new ArrayList<>());
+    /**
+     * Adds a group with the points of all given rings, in order, like {@link #addLatLngGroup(List)}.
+     */
+    public JLPolygonBuilder addLatLngGroup(@NonNull JLLatLng[]... rings) {
+        latlngGroups.newGroup().newRing();
+        for (JLLatLng[] ring : rings) {
+            for (JLLatLng latLng : ring) {
+                latlngGroups.add(latLng.getLat(), latLng.getLng());
+            }
         }
-        latlngGroups.get(latlngGroups.size() - 1).add(new double[]{lat, lng});
+        return this;
+    }
+
+    public JLPolygonBuilder addLatLng(double lat, double lng) {
+        latlngGroups.add(lat, lng);
+        return this;
+    }
+
+    /**
+     * @param coordinateEncoding how the coordinates are sent to the client, default is
+     *                           {@link JLCoordinateEncoding#DEFAULT}, also used for {@code null}
+     */
+    public JLPolygonBuilder withCoordinateEncoding(@Nullable JLCoordinateEncoding coordinateEncoding) {
+        this.coordinateEncoding = coordinateEncoding == null ? JLCoordinateEncoding.DEFAULT : coordinateEncoding;
+        return this;
+    }
+
+    /**
+     * Simplifies the polygon per zoom level, the map then only shows the points needed at its
+     * zoom level, see {@link JLPathLevels}.
+     *
+     * @param tolerance maximum deviation in pixels, {@code 0} to show all points
+     * @param zoom      current zoom level of the map, its level of detail is shown first
+     */
+    public JLPolygonBuilder withLevelsOfDetail(double tolerance, int zoom) {
+        this.simplifyTolerance = tolerance;
+        this.zoom = zoom;
+        this.levels = null;
         return this;
     }
 
@@ -42,11 +95,9 @@ public class JLPolygonBuilder extends JLObjectBuilder<JLPolygon, JLPolygonBuilde
 
     @Override
     public String buildJsElement() {
-        String latlngsJs = latlngGroups.stream()
-                .map(group -> group.stream()
-                        .map(coord -> String.format("[%f, %f]", coord[0], coord[1]))
-                        .collect(Collectors.joining(",", "[", "]"))
-                ).collect(Collectors.joining(",", "[", "]"));
+        JLPathLevels pathLevels = levels();
+        JLCoordinates shown = pathLevels != null ? pathLevels.forZoom(zoom) : latlngGroups.build();
+        String latlngsJs = JLCoordinateWriter.toRingsScript(shown, coordinateEncoding, JLCoordinateWriter.Format.FIXED, ", ");
 
         return String.format("""
                         let %1$s = L.polygon(%2$s, { %3$s });
@@ -66,26 +117,23 @@ public class JLPolygonBuilder extends JLObjectBuilder<JLPolygon, JLPolygonBuilde
 
     @Override
     public JLPolygon buildJLObject() {
-        return JLPolygon.builder()
+        return bindLazyCallbacks(JLPolygon.builder()
                 .id(uuid)
                 .options(jlOptions)
                 .transport(transporter)
-                .vertices(toVertices(latlngGroups))
-                .build();
+                .coordinates(latlngGroups.build())
+                .levels(levels())
+                .zoom(zoom)
+                .coordinateEncoding(coordinateEncoding)
+                .build());
     }
 
-    private static JLLatLng[][][] toVertices(List<List<double[]>> latlngGroups) {
-        if (latlngGroups == null) {
-            return new JLLatLng[0][][];
+    @Nullable
+    private JLPathLevels levels() {
+        if (levels == null && simplifyTolerance > 0) {
+            levels = JLPathLevels.of(latlngGroups.build(), simplifyTolerance, true);
         }
-
-        return latlngGroups.stream()
-                .map(group -> group.stream()
-                        .map(coord -> new JLLatLng(coord[0], coord[1]))
-                        .toArray(JLLatLng[]::new)
-                )
-                .map(ring -> new JLLatLng[][]{ring}) // wrap each ring as a polygon
-                .toArray(JLLatLng[][][]::new);
+        return levels;
     }
 
 }
@@ -1,31 +1,79 @@
 package io.github.makbn.jlmap.model.builder;
 
+import io.github.makbn.jlmap.engine.JLCoordinateWriter;
+import io.github.makbn.jlmap.model.JLCoordinateEncoding;
+import io.github.makbn.jlmap.model.JLCoordinates;
 import io.github.makbn.jlmap.model.JLLatLng;
+import io.github.makbn.jlmap.model.JLPathLevels;
 import io.github.makbn.jlmap.model.JLPolyline;
 import lombok.AccessLevel;
+import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * @author Matt Akbarian  (@makbn)
  */
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class JLPolylineBuilder extends JLObjectBuilder<JLPolyline, JLPolylineBuilder> {
-    List<double[]> latlngs = new ArrayList<>();
+    JLCoordinates.Builder latlngs = JLCoordinates.builder();
+    @NonFinal
+    JLCoordinateEncoding coordinateEncoding = JLCoordinateEncoding.DEFAULT;
+    @NonFinal
+    double simplifyTolerance;
+    @NonFinal
+    int zoom;
+    @NonFinal
+    @Nullable
+    JLPathLevels levels;
 
     public JLPolylineBuilder addLatLng(double lat, double lng) {
-        latlngs.add(new double[]{lat, lng});
+        latlngs.add(lat, lng);
         return this;
     }
 
     public JLPolylineBuilder addLatLngs(List<double[]> points) {
-        latlngs.addAll(points);
+        for (double[] pair : points) {
+            if (pair == null || pair.length < 2) {
+                throw new IllegalArgumentException("Each element must be a double array of length 2 [lat, lng]");
+            }
+            latlngs.add(pair[0], pair[1]);
+        }
+        return this;
+    }
+
+    public JLPolylineBuilder addLatLngs(@NonNull JLLatLng[] points) {
+        for (JLLatLng point : points) {
+            latlngs.add(point.getLat(), point.getLng());
+        }
+        return this;
+    }
+
+    /**
+     * @param coordinateEncoding how the coordinates are sent to the client, default is
+     *                           {@link JLCoordinateEncoding#DEFAULT}, also used for {@code null}
+     */
+    public JLPolylineBuilder withCoordinateEncoding(@Nullable JLCoordinateEncoding coordinateEncoding) {
+        this.coordinateEncoding = coordinateEncoding == null ? JLCoordinateEncoding.DEFAULT : coordinateEncoding;
         return this;
     }
 
+    /**
+     * Simplifies the polyline per zoom level, the map then only shows the points needed at its
+     * zoom level, see {@link JLPathLevels}.
+     *
+     * @param tolerance maximum deviation in pixels, {@code 0} to show all points
+     * @param zoom      current zoom level of the map, its level of detail is shown first
+     */
+    public JLPolylineBuilder withLevelsOfDetail(double tolerance, int zoom) {
+        this.simplifyTolerance = tolerance;
+        this.zoom = zoom;
+        this.levels = null;
+        return this;
+    }
 
     @Override
     protected String getElementVarName() {
@@ -34,14 +82,14 @@ public class JLPolylineBuilder extends JLObjectBuilder<JLPolyline, JLPolylineBui
 
     @Override
     protected String getElementType() {
-        return JLPolyline.class.getTypeName().toLowerCase();
+        return JLPolyline.class.getSimpleName().toLowerCase();
     }
 
     @Override
     public String buildJsElement() {
-        String latlngArray = latlngs.stream()
-                .map(coord -> "[" + coord[0] + "," + coord[1] + "]")
-                .collect(Collectors.joining(",", "[", "]"));
+        JLPathLevels pathLevels = levels();
+        JLCoordinates shown = pathLevels != null ? pathLevels.forZoom(zoom) : latlngs.build();
+        String latlngArray = JLCoordinateWriter.toPointsScript(shown, coordinateEncoding, JLCoordinateWriter.Format.SHORTEST, ",");
 
         return String.format("""
                         let %1$s = L.polyline(%2$s, { %3$s });
@@ -61,27 +109,22 @@ public class JLPolylineBuilder extends JLObjectBuilder<JLPolyline, JLPolylineBui
 
     @Override
     public JLPolyline buildJLObject() {
-        return JLPolyline.builder()
+        return bindLazyCallbacks(JLPolyline.builder()
                 .id(uuid)
                 .options(jlOptions)
                 .transport(transporter)
-                .vertices(toVertices(latlngs))
-                .build();
+                .coordinates(latlngs.build())
+                .levels(levels())
+                .zoom(zoom)
+                .coordinateEncoding(coordinateEncoding)
+                .build());
     }
 
-    private static JLLatLng[] toVertices(List<double[]> latlngs) {
-        if (latlngs == null) {
-            return new JLLatLng[0];
-        }
-
-        JLLatLng[] vertices = new JLLatLng[latlngs.size()];
-        for (int i = 0; i < latlngs.size(); i++) {
-            double[] pair = latlngs.get(i);
-            if (pair == null || pair.length < 2) {
-                throw new IllegalArgumentException("Each element must be a double array of length 2 [lat, lng]");
-            }
-            vertices[i] = new JLLatLng(pair[0], pair[1]);
+    @Nullable
+    private JLPathLevels levels() {
+        if (levels == null && simplifyTolerance > 0) {
+            levels = JLPathLevels.of(latlngs.build(), simplifyTolerance, false);
         }
-        return vertices;
+        return levels;
     }
 }
@@ -70,7 +70,7 @@ public class JLPopupBuilder extends JLObjectBuilder<JLPopup, JLPopupBuilder> {
 
     @Override
     public JLPopup buildJLObject() {
-        return JLPopup.builder()
+        return bindLazyCallbacks(JLPopup.builder()
                 .id(uuid)
                 .text(sanitizeContent(false))
                 .latLng(JLLatLng.builder()
@@ -79,6 +79,6 @@ public class JLPopupBuilder extends JLObjectBuilder<JLPopup, JLPopupBuilder> {
                         .build())
                 .options(jlOptions)
                 .transport(transporter)
-                .build();
+                .build());
     }
 }
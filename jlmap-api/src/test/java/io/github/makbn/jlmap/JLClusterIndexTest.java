@@ -0,0 +1,82 @@
+package io.github.makbn.jlmap;
+
+import io.github.makbn.jlmap.model.JLBounds;
+import io.github.makbn.jlmap.model.JLCoordinates;
+import io.github.makbn.jlmap.model.JLLatLng;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JLClusterIndexTest {
+
+    private static final JLBounds WORLD = bounds(-90, -180, 90, 180);
+
+    @Test
+    void getClusters_shouldKeepAllPointsAtEveryZoom() {
+        Random random = new Random(11);
+        JLCoordinates.Builder builder = JLCoordinates.builder();
+        for (int i = 0; i < 5_000; i++) {
+            builder.add(random.nextDouble() * 160 - 80, random.nextDouble() * 360 - 180);
+        }
+        JLClusterIndex index = JLClusterIndex.of(builder.build());
+
+        for (int zoom = 0; zoom <= index.getMaxZoom() + 1; zoom++) {
+            List<JLClusterIndex.Cluster> clusters = index.getClusters(WORLD, zoom);
+            assertThat(clusters.stream().mapToInt(JLClusterIndex.Cluster::count).sum()).isEqualTo(5_000);
+            assertThat(index.getClusters(WORLD, zoom + 1).size()).isGreaterThanOrEqualTo(clusters.size());
+        }
+        assertThat(index.getClusters(WORLD, index.getMaxZoom() + 1)).allMatch(JLClusterIndex.Cluster::isPoint);
+    }
+
+    @Test
+    void cluster_shouldExpandIntoItsPoints() {
+        JLCoordinates points = JLCoordinates.of(
+                new JLLatLng(52.52, 13.405),
+                new JLLatLng(52.5201, 13.4051),
+                new JLLatLng(52.40, 13.06),
+                new JLLatLng(48.857, 2.352));
+        JLClusterIndex index = JLClusterIndex.of(points);
+
+        List<JLClusterIndex.Cluster> clusters = index.getClusters(WORLD, 5);
+
+        assertThat(clusters).extracting(JLClusterIndex.Cluster::count).containsExactlyInAnyOrder(3, 1);
+        JLClusterIndex.Cluster berlin = clusters.stream().filter(c -> c.count() == 3).findFirst().orElseThrow();
+        assertThat(berlin.isPoint()).isFalse();
+        assertThat(berlin.latLng().getLat()).isBetween(52.4, 52.53);
+        int[] leaves = index.getLeaves(berlin);
+        Arrays.sort(leaves);
+        assertThat(leaves).containsExactly(0, 1, 2);
+        int expansionZoom = index.getExpansionZoom(berlin);
+        assertThat(index.getClusters(bounds(52, 13, 53, 14), expansionZoom)).hasSizeGreaterThan(1);
+        assertThat(index.getClusters(bounds(52, 13, 53, 14), expansionZoom - 1)).hasSize(1);
+    }
+
+    @Test
+    void getClusters_shouldHandleBoundsAcrossAntimeridian() {
+        JLClusterIndex index = JLClusterIndex.of(JLCoordinates.of(
+                new JLLatLng(0, 179.5), new JLLatLng(0, -179.5), new JLLatLng(0, 0)));
+
+        assertThat(index.getClusters(bounds(-1, 179, 1, 181), 10))
+                .extracting(JLClusterIndex.Cluster::pointIndex)
+                .containsExactlyInAnyOrder(0, 1);
+    }
+
+    @Test
+    void of_withInvalidOptions_shouldThrow() {
+        assertThatThrownBy(() -> JLClusterIndex.of(JLCoordinates.EMPTY, 0, 0, 16))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(JLClusterIndex.of(JLCoordinates.EMPTY).getClusters(WORLD, 3)).isEmpty();
+    }
+
+    private static JLBounds bounds(double south, double west, double north, double east) {
+        return JLBounds.builder()
+                .southWest(new JLLatLng(south, west))
+                .northEast(new JLLatLng(north, east))
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.makbn.jlmap;
+
+import io.github.makbn.jlmap.engine.JLTransportRequest;
+import io.github.makbn.jlmap.model.JLLatLng;
+import io.github.makbn.jlmap.model.JLMarker;
+import io.github.makbn.jlmap.model.JLObject;
+import io.github.makbn.jlmap.model.JLPolyline;
+import io.github.makbn.jlmap.model.JLZoomDependent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class JLObjectRegistryTest {
+
+    private final JLObjectRegistry registry = new JLObjectRegistry();
+
+    @Test
+    void get_withRegisteredId_shouldReturnObjectRegardlessOfClass() {
+        JLMarker marker = marker("marker-1");
+        registry.put(marker.getJLId(), marker);
+
+        assertThat(registry.get("marker-1")).isSameAs(marker);
+        assertThat(registry.get("marker-1", JLMarker.class)).isSameAs(marker);
+        assertThat(registry.get("marker-1", JLPolyline.class)).isNull();
+        assertThat(registry.get("unknown")).isNull();
+    }
+
+    @Test
+    void remove_withOtherType_shouldKeepObject() {
+        JLMarker marker = marker("marker-1");
+        registry.put(marker.getJLId(), marker);
+
+        assertThat(registry.remove("marker-1", JLPolyline.class)).isNull();
+        assertThat(registry.contains("marker-1")).isTrue();
+        assertThat(registry.remove("marker-1", JLMarker.class)).isSameAs(marker);
+        assertThat(registry.isEmpty()).isTrue();
+    }
+
+    @Test
+    void putAll_shouldRegisterObjectsUnderTheirIds() {
+        registry.putAll(List.of(marker("a"), marker("b")));
+
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.ids()).containsExactlyInAnyOrder("a", "b");
+        assertThat(registry.values()).extracting(JLObject::getJLId).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    void values_whileOtherThreadsChangeRegistry_shouldNotThrow() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<Void>> writers = IntStream.range(0, 4)
+                    .mapToObj(writer -> CompletableFuture.runAsync(() -> {
+                        for (int i = 0; i < 2_000; i++) {
+                            String id = writer + "-" + i;
+                            registry.put(id, marker(id));
+                            if (i % 2 == 0) {
+                                registry.remove(id);
+                            }
+                        }
+                    }, executor))
+                    .toList();
+
+            assertThatCode(() -> {
+                while (!writers.stream().allMatch(CompletableFuture::isDone)) {
+                    registry.values().forEach(JLObject::getJLId);
+                }
+            }).doesNotThrowAnyException();
+            CompletableFuture.allOf(writers.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(registry.size()).isEqualTo(4 * 1_000);
+    }
+
+    @Test
+    void remove_onObject_shouldReleaseItFromEveryRegistry() {
+        JLObjectRegistry other = new JLObjectRegistry();
+        List<JLTransportRequest> sent = new ArrayList<>();
+        JLMarker marker = JLMarker.builder()
+                .id("marker-1")
+                .latLng(new JLLatLng(52.52, 13.405))
+                .transport(() -> request -> {
+                    sent.add(request);
+                    return null;
+                })
+                .build();
+        registry.put(marker.getJLId(), marker);
+        other.put(marker.getJLId(), marker);
+
+        marker.remove();
+
+        assertThat(sent).extracting(JLTransportRequest::function).containsExactly("remove");
+        assertThat(registry.get("marker-1")).isNull();
+        assertThat(other.get("marker-1")).isNull();
+        assertThat(registry.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void remove_onReplacedObject_shouldKeepReplacement() {
+        JLMarker replaced = JLMarker.builder()
+                .id("marker-1")
+                .latLng(new JLLatLng(52.52, 13.405))
+                .transport(() -> request -> null)
+                .build();
+        JLMarker replacement = marker("marker-1");
+        registry.put("marker-1", replaced);
+        registry.put("marker-1", replacement);
+
+        replaced.remove();
+
+        assertThat(registry.get("marker-1")).isSameAs(replacement);
+        assertThat(registry.getEvictionCount()).isZero();
+    }
+
+    @Test
+    void zoomDependents_shouldFollowRegisteredPaths() {
+        JLPolyline polyline = JLPolyline.builder()
+                .id("polyline-1")
+                .transport(() -> request -> null)
+                .build();
+        registry.put(polyline.getJLId(), polyline);
+        registry.put("marker-1", marker("marker-1"));
+        List<JLZoomDependent> registered = registry.zoomDependents();
+
+        polyline.remove();
+
+        assertThat(registered).containsExactly(polyline);
+        assertThat(registry.zoomDependents()).isEmpty();
+        assertThat(registry.contains("marker-1")).isTrue();
+    }
+
+    @Test
+    void get_withWeakRetention_shouldReturnReferencedObject() {
+        JLObjectRegistry weak = new JLObjectRegistry(JLObjectRegistry.Retention.WEAK);
+        JLMarker marker = marker("marker-1");
+        weak.put(marker.getJLId(), marker);
+
+        assertThat(weak.get("marker-1")).isSameAs(marker);
+        assertThat(weak.values()).containsExactly(marker);
+        assertThat(weak.remove("marker-1", JLMarker.class)).isSameAs(marker);
+        assertThat(weak.isEmpty()).isTrue();
+    }
+
+    private static JLMarker marker(String id) {
+        return JLMarker.builder()
+                .id(id)
+                .latLng(new JLLatLng(52.52, 13.405))
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.makbn.jlmap;
+
+import io.github.makbn.jlmap.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JLSpatialIndexTest {
+
+    private final JLSpatialIndex index = new JLSpatialIndex();
+
+    @Test
+    void query_shouldReturnObjectsInsideBoundsOnly() {
+        JLMarker berlin = marker("berlin", 52.52, 13.405);
+        JLMarker potsdam = marker("potsdam", 52.39, 13.065);
+        JLMarker paris = marker("paris", 48.857, 2.352);
+        List.of(berlin, potsdam, paris).forEach(index::add);
+
+        List<JLObject<?>> result = index.query(bounds(52, 13, 53, 14));
+
+        assertThat(result).containsExactlyInAnyOrder(berlin, potsdam);
+        assertThat(index.query(bounds(-10, -10, 10, 10))).isEmpty();
+        assertThat(index.query(bounds(-90, -180, 90, 180), JLMarker.class)).hasSize(3);
+    }
+
+    @Test
+    void query_withBoundsAcrossAntimeridian_shouldSearchBothSides() {
+        JLMarker fiji = marker("fiji", -17.7, 178.1);
+        JLMarker samoa = marker("samoa", -13.8, -172.1);
+        JLMarker tahiti = marker("tahiti", -17.6, -149.4);
+        List.of(fiji, samoa, tahiti).forEach(index::add);
+
+        assertThat(index.query(bounds(-20, 170, -10, -170))).containsExactlyInAnyOrder(fiji, samoa);
+        assertThat(index.query(bounds(-20, 170, -10, 190))).containsExactlyInAnyOrder(fiji, samoa);
+        assertThat(index.query(bounds(-20, -200, -10, -170))).containsExactlyInAnyOrder(fiji, samoa);
+        assertThat(index.query(bounds(-20, 0, -10, 400))).hasSize(3);
+    }
+
+    @Test
+    void nearest_shouldMatchBruteForce() {
+        Random random = new Random(7);
+        List<JLMarker> markers = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            JLMarker marker = marker("m" + i, random.nextDouble() * 20 + 40, random.nextDouble() * 30 - 5);
+            markers.add(marker);
+            index.add(marker);
+        }
+        JLLatLng point = new JLLatLng(50, 10);
+
+        List<JLObject<?>> nearest = index.nearest(point, 5);
+
+        List<JLMarker> expected = markers.stream()
+                .sorted((a, b) -> Double.compare(point.distanceTo(a.getLatLng()), point.distanceTo(b.getLatLng())))
+                .limit(5)
+                .collect(Collectors.toList());
+        assertThat(nearest).containsExactlyElementsOf(expected);
+        assertThat(index.nearest(point, 5_000)).hasSize(2_000);
+    }
+
+    @Test
+    void withinRadius_shouldReturnObjectsByDistance() {
+        JLMarker center = marker("center", 0, 179.999);
+        JLMarker acrossAntimeridian = marker("across", 0, -179.999);
+        JLMarker far = marker("far", 0, 170);
+        List.of(far, acrossAntimeridian, center).forEach(index::add);
+
+        assertThat(index.withinRadius(new JLLatLng(0, 179.9995), 1_000))
+                .containsExactly(center, acrossAntimeridian);
+    }
+
+    @Test
+    void registry_shouldKeepIndexInSyncWithObjects() {
+        JLObjectRegistry registry = new JLObjectRegistry();
+        JLMarker marker = marker("marker-1", 52.52, 13.405);
+        registry.put(marker.getJLId(), marker);
+        JLSpatialIndex spatialIndex = registry.getSpatialIndex();
+
+        assertThat(spatialIndex.query(bounds(52, 13, 53, 14))).containsExactly(marker);
+
+        marker.setLatLng(new JLLatLng(48.857, 2.352));
+        assertThat(spatialIndex.query(bounds(52, 13, 53, 14))).isEmpty();
+        assertThat(spatialIndex.query(bounds(48, 2, 49, 3))).containsExactly(marker);
+
+        marker.remove();
+        assertThat(spatialIndex.size()).isZero();
+    }
+
+    private static JLMarker marker(String id, double lat, double lng) {
+        return JLMarker.builder()
+                .id(id)
+                .latLng(new JLLatLng(lat, lng))
+                .transport(() -> request -> null)
+                .build();
+    }
+
+    private static JLBounds bounds(double south, double west, double north, double east) {
+        return JLBounds.builder()
+                .southWest(new JLLatLng(south, west))
+                .northEast(new JLLatLng(north, east))
+                .build();
+    }
+}
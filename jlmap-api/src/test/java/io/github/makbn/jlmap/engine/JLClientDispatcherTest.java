@@ -0,0 +1,84 @@
+package io.github.makbn.jlmap.engine;
+
+import io.github.makbn.jlmap.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JLClientDispatcherTest {
+
+    private final JLMarker marker = JLMarker.builder()
+            .id("marker")
+            .latLng(new JLLatLng(52.52, 13.405))
+            .build();
+
+    @Test
+    void encode_withCoordinateArguments_shouldWriteArrays() {
+        JLBounds bounds = JLBounds.builder()
+                .northEast(new JLLatLng(10, 20))
+                .southWest(new JLLatLng(-10.5, -20.25))
+                .build();
+
+        String operations = JLClientDispatcher.encode(List.of(
+                JLTransportRequest.voidCall(marker, "setLatLng", new JLLatLng(52.52, 13.405)),
+                JLTransportRequest.voidCall(marker, "setBounds", bounds)));
+
+        assertThat(operations).isEqualTo("[[\"marker\",\"setLatLng\",[[52.52,13.405]]],"
+                + "[\"marker\",\"setBounds\",[[[10,20],[-10.5,-20.25]]]]]");
+    }
+
+    @Test
+    void path_withPolylineEncoding_shouldWriteEncodedString() {
+        JLCoordinates track = JLCoordinates.of(new JLLatLng(38.5, -120.2), new JLLatLng(40.7, -120.95));
+
+        assertThat(JLClientDispatcher.encode(JLTransportRequest.voidCall(marker, "setLatLngs",
+                JLClientDispatcher.path(track, JLCoordinateEncoding.polyline(5)))))
+                .isEqualTo("[[\"marker\",\"setLatLngs\",[{\"$path\":\"_p~iF~ps|U_ulLnnqC\",\"precision\":5}]]]");
+        assertThat(JLClientDispatcher.encode(JLTransportRequest.voidCall(marker, "setLatLngs",
+                JLClientDispatcher.path(track, JLCoordinateEncoding.decimal(1)))))
+                .isEqualTo("[[\"marker\",\"setLatLngs\",[[[38.5,-120.2],[40.7,-120.9]]]]]");
+    }
+
+    @Test
+    void encode_withOptions_shouldWriteJsonObject() {
+        String operations = JLClientDispatcher.encode(JLTransportRequest.voidCall(marker, "setStyle",
+                JLOptions.DEFAULT.toBuilder().weight(5).build()));
+
+        assertThat(operations)
+                .startsWith("[[\"marker\",\"setStyle\",[{\"color\":\"")
+                .contains("\"weight\":5,\"stroke\":true,\"fill\":true,\"opacity\":1,\"fillOpacity\":0.2")
+                .endsWith("\"draggable\":false}]]]");
+    }
+
+    @Test
+    void encode_withReturnableRequest_shouldFlagOperation() {
+        String operations = JLClientDispatcher.encode(List.of(
+                JLTransportRequest.voidCall(marker, "setOpacity", 0.5),
+                JLTransportRequest.returnableCall(marker, "getLatLng", JLLatLng.class)));
+
+        assertThat(operations).isEqualTo("[[\"marker\",\"setOpacity\",[0.5]],[\"marker\",\"getLatLng\",[],1]]");
+    }
+
+    @Test
+    void encode_withStringArgument_shouldEscapeIt() {
+        String operations = JLClientDispatcher.encode(JLTransportRequest.voidCall(marker, "setUrl",
+                "https://example.com/a\"b\\c\n.png"));
+
+        assertThat(operations).isEqualTo("[[\"marker\",\"setUrl\",[\"https://example.com/a\\\"b\\\\c\\n.png\"]]]");
+    }
+
+    @Test
+    void encode_withIcon_shouldWrapIconOptions() {
+        JLIcon icon = JLIcon.builder()
+                .iconUrl("icon.png")
+                .iconSize(new JLPoint(32, 32))
+                .build();
+
+        String operations = JLClientDispatcher.encode(JLTransportRequest.voidCall(marker, "setIcon", icon));
+
+        assertThat(operations).isEqualTo("[[\"marker\",\"setIcon\",[{\"$icon\":{\"iconUrl\":\"icon.png\","
+                + "\"iconSize\":[32,32],\"iconAnchor\":null,\"popupAnchor\":null,\"shadowSize\":null,\"shadowAnchor\":null}}]]]");
+    }
+}
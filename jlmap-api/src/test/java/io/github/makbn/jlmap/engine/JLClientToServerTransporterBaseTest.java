@@ -0,0 +1,78 @@
+package io.github.makbn.jlmap.engine;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.makbn.jlmap.model.JLColor;
+import io.github.makbn.jlmap.model.JLGeoJson;
+import io.github.makbn.jlmap.model.JLGeoJsonOptions;
+import io.github.makbn.jlmap.model.JLOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JLClientToServerTransporterBaseTest {
+
+    private final JLClientToServerTransporterBase<Object> transporter = new JLClientToServerTransporterBase<>(script -> script) {
+    };
+
+    @Test
+    void evaluateFeatures_shouldFilterAndStyleAllFeaturesInOneCall() throws Exception {
+        JLOptions water = JLOptions.builder().color(JLColor.BLUE).build();
+        AtomicInteger styleCalls = new AtomicInteger();
+        JLGeoJson geoJson = JLGeoJson.builder()
+                .id("counties")
+                .geoJsonOptions(JLGeoJsonOptions.builder()
+                        .filter(features -> !"closed".equals(features.get(0).get("status")))
+                        .styleFunction(features -> {
+                            styleCalls.incrementAndGet();
+                            return "water".equals(features.get(0).get("type")) ? water
+                                    : JLOptions.builder().color(JLColor.GREEN).build();
+                        })
+                        .build())
+                .build();
+        transporter.registerObject("counties", geoJson);
+
+        String result = transporter.callObjectMethod("counties", "evaluateFeatures",
+                "[[{\"type\":\"water\"},{\"type\":\"park\",\"status\":\"closed\"},{\"type\":\"park\"},{\"type\":\"water\"},{\"type\":\"park\"}]]");
+
+        JsonNode evaluation = new ObjectMapper().readTree(result);
+        assertThat(evaluation.get("keep").asText()).isEqualTo("10111");
+        assertThat(evaluation.get("style")).extracting(JsonNode::asInt).containsExactly(0, -1, 1, 0, 1);
+        assertThat(evaluation.get("styles")).hasSize(2);
+        assertThat(evaluation.get("styles").get(0).get("color").asText()).isEqualTo(JLColor.BLUE.toHexString());
+        assertThat(styleCalls).hasValue(4);
+    }
+
+    @Test
+    void evaluateFeatures_withoutFilter_shouldOnlySendStyles() throws Exception {
+        transporter.registerObject("parks", JLGeoJson.builder()
+                .id("parks")
+                .geoJsonOptions(JLGeoJsonOptions.builder()
+                        .styleFunction(features -> JLOptions.DEFAULT)
+                        .build())
+                .build());
+
+        JsonNode evaluation = new ObjectMapper().readTree(
+                transporter.callObjectMethod("parks", "evaluateFeatures", "[[{},{}]]"));
+
+        assertThat(evaluation.has("keep")).isFalse();
+        assertThat(evaluation.get("style")).extracting(JsonNode::asInt).containsExactly(0, 0);
+    }
+
+    @Test
+    void registerObject_shouldReleaseObjectRemovedOnServerOrClient() {
+        JLGeoJson parks = JLGeoJson.builder().id("parks").transport(() -> request -> null).build();
+        JLGeoJson lakes = JLGeoJson.builder().id("lakes").transport(() -> request -> null).build();
+        transporter.registerObject("parks", parks);
+        transporter.registerObject("lakes", lakes);
+
+        parks.remove();
+        // as after a remove event of the client
+        lakes.release();
+
+        assertThat(transporter.getRegisteredObjectCount()).isZero();
+        assertThat(transporter.callObjectMethod("lakes", "evaluateFeatures", "[[{}]]")).isNull();
+    }
+}
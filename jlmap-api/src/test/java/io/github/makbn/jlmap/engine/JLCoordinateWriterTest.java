@@ -0,0 +1,86 @@
+package io.github.makbn.jlmap.engine;
+
+import io.github.makbn.jlmap.model.JLCoordinateEncoding;
+import io.github.makbn.jlmap.model.JLCoordinates;
+import io.github.makbn.jlmap.model.JLLatLng;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JLCoordinateWriterTest {
+
+    @Test
+    void appendFixed_shouldMatchFormat() {
+        double[] values = {0, -0.0, 52.52, 13.405, -179.9999999, 0.0000005, 0.0000015, 1.2345675,
+                -0.0000001, 999_999.9999995, 123_456_789.123, Double.NaN, Double.NEGATIVE_INFINITY};
+        for (double value : values) {
+            assertFixed(value);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            assertFixed((random.nextDouble() - 0.5) * 360);
+            assertFixed(Math.round((random.nextDouble() - 0.5) * 1e9) / 1e7);
+        }
+    }
+
+    @Test
+    void appendNumber_shouldWriteShortestJsonNumber() {
+        assertThat(JLCoordinateWriter.appendNumber(new StringBuilder(), 10).toString()).isEqualTo("10");
+        assertThat(JLCoordinateWriter.appendNumber(new StringBuilder(), -13.405).toString()).isEqualTo("-13.405");
+        assertThat(JLCoordinateWriter.appendNumber(new StringBuilder(), Double.NaN).toString()).isEqualTo("null");
+    }
+
+    @Test
+    void toRingsArray_shouldWriteOneArrayPerRing() {
+        JLCoordinates coordinates = JLCoordinates.ofRings(new JLLatLng[][]{
+                {new JLLatLng(1, 2), new JLLatLng(3.5, 4)},
+                {new JLLatLng(-5, 6.25)}
+        });
+
+        assertThat(JLCoordinateWriter.toRingsArray(coordinates, JLCoordinateWriter.Format.SHORTEST, ","))
+                .isEqualTo("[[[1,2],[3.5,4]],[[-5,6.25]]]");
+        assertThat(JLCoordinateWriter.toRingsArray(coordinates, JLCoordinateWriter.Format.FIXED, ", "))
+                .isEqualTo("[[[1.000000, 2.000000],[3.500000, 4.000000]],[[-5.000000, 6.250000]]]");
+        assertThat(JLCoordinateWriter.toPointsArray(JLCoordinates.EMPTY, JLCoordinateWriter.Format.SHORTEST, ","))
+                .isEqualTo("[]");
+    }
+
+    @Test
+    void appendPolyline_shouldMatchReferenceEncoding() {
+        JLCoordinates coordinates = JLCoordinates.of(new JLLatLng(38.5, -120.2), new JLLatLng(40.7, -120.95),
+                new JLLatLng(43.252, -126.453));
+
+        assertThat(JLCoordinateWriter.appendPolyline(new StringBuilder(), coordinates, 0, coordinates.size(), 5).toString())
+                .isEqualTo("_p~iF~ps|U_ulLnnqC_mqNvxq`@");
+        assertThat(JLCoordinateWriter.toPointsScript(coordinates, JLCoordinateEncoding.polyline(5),
+                JLCoordinateWriter.Format.SHORTEST, ","))
+                .isEqualTo("window.jlDispatch.decodePath('_p~iF~ps|U_ulLnnqC_mqNvxq`@', 5)");
+    }
+
+    @Test
+    void toRingsScript_withEncoding_shouldWriteConfiguredFormat() {
+        JLCoordinates coordinates = JLCoordinates.ofRings(new JLLatLng[][]{
+                {new JLLatLng(38.5, -120.2)},
+                {new JLLatLng(1.23456, 2)}
+        });
+
+        assertThat(JLCoordinateWriter.toRingsScript(coordinates, JLCoordinateEncoding.polyline(6),
+                JLCoordinateWriter.Format.FIXED, ", "))
+                .isEqualTo("window.jlDispatch.decodePath(['_izlhA~rlgdF','_gjjA_gayB'], 6)");
+        assertThat(JLCoordinateWriter.toRingsScript(coordinates, JLCoordinateEncoding.decimal(2),
+                JLCoordinateWriter.Format.FIXED, ", "))
+                .isEqualTo("[[[38.5, -120.2]],[[1.23, 2]]]");
+        assertThat(JLCoordinateWriter.toRingsScript(coordinates, JLCoordinateEncoding.DEFAULT,
+                JLCoordinateWriter.Format.FIXED, ", "))
+                .isEqualTo(JLCoordinateWriter.toRingsArray(coordinates, JLCoordinateWriter.Format.FIXED, ", "));
+    }
+
+    private static void assertFixed(double value) {
+        assertThat(JLCoordinateWriter.appendFixed(new StringBuilder(), value).toString())
+                .as("%s", value)
+                .isEqualTo(String.format(Locale.ROOT, "%f", value));
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.makbn.jlmap.engine;
+
+import io.github.makbn.jlmap.model.JLLatLng;
+import io.github.makbn.jlmap.model.JLMarker;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JLTransportBatchTest {
+
+    private final List<String> dispatchedOperations = new ArrayList<>();
+    private final List<Runnable> scheduledFlushes = new ArrayList<>();
+    private final JLTransportBatch batch = new JLTransportBatch(dispatchedOperations::add, scheduledFlushes::add);
+
+    @Test
+    void flush_withQueuedRequests_shouldSendSingleOperationListAndCompleteFutures() {
+        JLMarker first = marker("first");
+        JLMarker second = marker("second");
+
+        CompletableFuture<Void> firstFuture = batch.enqueue(JLTransportRequest.voidCall(first, "setOpacity", 0.5));
+        CompletableFuture<Void> secondFuture = batch.enqueue(JLTransportRequest.voidCall(second, "setZIndexOffset", 2));
+
+        assertThat(dispatchedOperations).isEmpty();
+        assertThat(firstFuture).isNotDone();
+        assertThat(scheduledFlushes).hasSize(1);
+
+        scheduledFlushes.get(0).run();
+
+        assertThat(dispatchedOperations).containsExactly("[[\"first\",\"setOpacity\",[0.5]],[\"second\",\"setZIndexOffset\",[2]]]");
+        assertThat(firstFuture).isCompleted();
+        assertThat(secondFuture).isCompleted();
+        assertThat(batch.size()).isZero();
+    }
+
+    @Test
+    void enqueue_withRepeatedSetter_shouldKeepLastRequestPerObject() {
+        JLMarker first = marker("first");
+        JLMarker second = marker("second");
+
+        CompletableFuture<Void> superseded = batch.enqueue(JLTransportRequest.voidCall(first, "setOpacity", 0.1));
+        batch.enqueue(JLTransportRequest.voidCall(second, "setOpacity", 0.1));
+        batch.enqueue(JLTransportRequest.voidCall(first, "redraw"));
+        batch.enqueue(JLTransportRequest.voidCall(first, "setOpacity", 0.9));
+
+        assertThat(batch.size()).isEqualTo(3);
+        assertThat(batch.getCoalescedCount()).isOne();
+
+        batch.flush();
+
+        assertThat(dispatchedOperations)
+                .containsExactly("[[\"second\",\"setOpacity\",[0.1]],[\"first\",\"redraw\",[]],[\"first\",\"setOpacity\",[0.9]]]");
+        assertThat(superseded).isCompleted();
+    }
+
+    @Test
+    void execute_withEnabledBatch_shouldQueueVoidAndFlushBeforeReturnable() {
+        List<String> directOperations = new ArrayList<>();
+        JLServerToClientTransporter<Object> transporter = new JLServerToClientTransporter<>() {
+            @Override
+            public Function<JLTransportRequest, Object> serverToClientTransport() {
+                return transport -> {
+                    directOperations.add(JLClientDispatcher.encode(transport));
+                    return "result";
+                };
+            }
+
+            @Override
+            public <M> CompletableFuture<M> covertResult(Object result, Class<M> clazz) {
+                return CompletableFuture.completedFuture(clazz.cast(result));
+            }
+
+            @Override
+            public JLTransportBatch getTransportBatch() {
+                return batch;
+            }
+        };
+        batch.setEnabled(true);
+        JLMarker marker = marker("marker");
+
+        transporter.execute(JLTransportRequest.voidCall(marker, "setOpacity", 0.3));
+        assertThat(directOperations).isEmpty();
+        assertThat(batch.size()).isOne();
+
+        CompletableFuture<String> attribution = transporter
+                .execute(JLTransportRequest.returnableCall(marker, "getAttribution", String.class));
+
+        assertThat(dispatchedOperations).containsExactly("[[\"marker\",\"setOpacity\",[0.3]]]");
+        assertThat(directOperations).containsExactly("[[\"marker\",\"getAttribution\",[],1]]");
+        assertThat(attribution).isCompletedWithValue("result");
+    }
+
+    @Test
+    void flush_withFailingExecutor_shouldCompleteFuturesExceptionally() {
+        JLTransportBatch failing = new JLTransportBatch(script -> {
+            throw new IllegalStateException("client not attached");
+        }, flush -> {
+        });
+
+        CompletableFuture<Void> future = failing.enqueue(JLTransportRequest.voidCall(marker("m"), "setOpacity", 1));
+        failing.flush();
+
+        assertThat(future).isCompletedExceptionally();
+    }
+
+    private static JLMarker marker(String id) {
+        return JLMarker.builder()
+                .id(id)
+                .latLng(new JLLatLng(52.52, 13.405))
+                .build();
+    }
+}
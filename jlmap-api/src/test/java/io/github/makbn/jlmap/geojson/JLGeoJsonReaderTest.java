@@ -0,0 +1,100 @@
+package io.github.makbn.jlmap.geojson;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.makbn.jlmap.exception.JLGeoJsonParserException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JLGeoJsonReaderTest {
+
+    @Test
+    void nextFeature_shouldReadFeaturesOneAtATimeAndKeepOtherMembers() throws IOException {
+        String collection = """
+                {"type": "FeatureCollection", "name": "cities", "features": [
+                  {"type": "Feature", "properties": {"name": "Berlin"}},
+                  {"type": "Feature", "properties": {"name": "Paris"}}
+                ], "bbox": [2.35, 48.85, 13.4, 52.52]}
+                """;
+        List<String> names = new ArrayList<>();
+
+        try (JLGeoJsonReader reader = JLGeoJsonReader.of(collection)) {
+            assertThat(reader.isCollection()).isTrue();
+            assertThat(reader.forEachFeature(feature -> names.add(feature.path("properties").path("name").asText())))
+                    .isEqualTo(2);
+            assertThat(reader.nextFeature()).isNull();
+            assertThat(reader.getHeader().fieldNames()).toIterable().containsExactly("type", "name", "bbox");
+        }
+        assertThat(names).containsExactly("Berlin", "Paris");
+    }
+
+    @Test
+    void nextFeature_withSingleObject_shouldReadItAsOnlyFeature() throws IOException {
+        try (JLGeoJsonReader reader = JLGeoJsonReader.of("{\"type\": \"Point\", \"coordinates\": [13.4, 52.52]}")) {
+            ObjectNode point = reader.nextFeature();
+
+            assertThat(reader.isSingle()).isTrue();
+            assertThat(point).isNotNull();
+            assertThat(point.path("type").asText()).isEqualTo("Point");
+            assertThat(reader.nextFeature()).isNull();
+        }
+    }
+
+    @Test
+    void nextFeature_withInvalidInput_shouldThrowParserException() {
+        assertThatThrownBy(() -> JLGeoJsonReader.of("{\"features\": [1]}").nextFeature())
+                .isInstanceOf(JLGeoJsonParserException.class)
+                .hasMessageContaining("not an object");
+        assertThatThrownBy(() -> JLGeoJsonReader.of("[{\"type\": \"Feature\"}").forEachFeature(feature -> {
+        })).isInstanceOf(JLGeoJsonParserException.class);
+        assertThatThrownBy(() -> JLGeoJsonReader.validate("{} {}")).isInstanceOf(JLGeoJsonParserException.class);
+        assertThatThrownBy(() -> JLGeoJsonReader.validate(" ")).hasMessage("json is empty!");
+    }
+
+    @Test
+    void forEachFeature_withLargeInput_shouldStreamAllFeatures() throws IOException {
+        byte[] feature = "{\"type\":\"Feature\",\"properties\":{\"id\":1},\"geometry\":{\"type\":\"Point\",\"coordinates\":[1.5,2.5]}},"
+                .getBytes(StandardCharsets.UTF_8);
+        long size = 100_000L * feature.length;
+        InputStream features = new InputStream() {
+            long position;
+
+            @Override
+            public int read() {
+                return position < size ? feature[(int) (position++ % feature.length)] : -1;
+            }
+        };
+        InputStream input = new SequenceInputStream(new SequenceInputStream(
+                new ByteArrayInputStream("{\"type\":\"FeatureCollection\",\"features\":[".getBytes(StandardCharsets.UTF_8)),
+                features), new ByteArrayInputStream("{\"type\":\"Feature\"}]}".getBytes(StandardCharsets.UTF_8)));
+
+        try (JLGeoJsonReader reader = JLGeoJsonReader.of(input)) {
+            assertThat(reader.forEachFeature(ignored -> {
+            })).isEqualTo(100_001);
+        }
+    }
+
+    @Test
+    void load_shouldValidateAndCompactFile(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("cities.geojson");
+        Files.writeString(file, "{\n  \"type\": \"Feature\",\n  \"properties\": {\"name\": \"K\u00f6ln\"}\n}\n");
+
+        assertThat(new JLGeoJsonFile().load(file.toFile()))
+                .isEqualTo("{\"type\":\"Feature\",\"properties\":{\"name\":\"K\u00f6ln\"}}");
+
+        Files.writeString(file, "{\"type\": \"Feature\",");
+        assertThatThrownBy(() -> new JLGeoJsonFile().load(file.toFile())).isInstanceOf(JLGeoJsonParserException.class);
+    }
+}
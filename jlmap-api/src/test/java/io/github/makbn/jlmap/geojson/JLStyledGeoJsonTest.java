@@ -0,0 +1,101 @@
+package io.github.makbn.jlmap.geojson;
+
+import io.github.makbn.jlmap.model.JLColor;
+import io.github.makbn.jlmap.model.JLGeoJsonOptions;
+import io.github.makbn.jlmap.model.JLOptions;
+import io.github.makbn.jlmap.model.JLStyleTable;
+import io.github.makbn.jlmap.model.builder.JLGeoJsonObjectBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JLStyledGeoJsonTest {
+
+    private static final String COUNTIES = """
+            {"type":"FeatureCollection","features":[
+              {"type":"Feature","properties":{"population":120000},"geometry":null},
+              {"type":"Feature","properties":{"population":800},"geometry":null},
+              {"type":"Feature","properties":{"population":45000},"geometry":null},
+              {"type":"Feature","properties":{"population":300000},"geometry":null}]}
+            """;
+
+    private final AtomicInteger styleCalls = new AtomicInteger();
+    private final JLGeoJsonOptions options = JLGeoJsonOptions.builder()
+            .filter(features -> (Integer) features.get(0).get("population") >= 1000)
+            .styleFunction(features -> {
+                styleCalls.incrementAndGet();
+                // a new instance per feature, equal styles are still interned once
+                return JLOptions.builder()
+                        .fillColor((Integer) features.get(0).get("population") >= 100000 ? JLColor.RED : JLColor.GREEN)
+                        .build();
+            })
+            .build();
+
+    @Test
+    void evaluate_shouldDropFilteredFeaturesAndTagStyleIndexes() {
+        JLStyledGeoJson styled = JLStyledGeoJson.evaluate(COUNTIES, options);
+
+        assertThat(styled).isNotNull();
+        assertThat(styled.getFeatureCount()).isEqualTo(4);
+        assertThat(styled.getKeptCount()).isEqualTo(3);
+        assertThat(styled.getContent())
+                .doesNotContain("800")
+                .contains("{\"population\":120000},\"geometry\":null,\"jlStyle\":0}")
+                .contains("{\"population\":45000},\"geometry\":null,\"jlStyle\":1}")
+                .contains("{\"population\":300000},\"geometry\":null,\"jlStyle\":0}");
+        assertThat(styled.getStyles().size()).isEqualTo(2);
+        assertThat(styled.getStyles().getStyles().get(0)).containsEntry("fillColor", JLColor.RED.toHexString());
+        assertThat(styleCalls).hasValue(3);
+    }
+
+    @Test
+    void intern_withNewOptionsPerFeature_shouldKeepIndexesStable() {
+        JLStyleTable styles = new JLStyleTable();
+
+        for (int i = 0; i < 1000; i++) {
+            JLColor color = i % 2 == 0 ? JLColor.RED : JLColor.GREEN;
+            assertThat(styles.intern(JLOptions.builder().fillColor(color).build())).isEqualTo(i % 2);
+        }
+        assertThat(styles.size()).isEqualTo(2);
+    }
+
+    @Test
+    void intern_withConstantOptionsAfterManyNewOnes_shouldStillCacheThem() {
+        JLStyleTable styles = new JLStyleTable();
+        JLOptions water = JLOptions.builder().fillColor(JLColor.BLUE).build();
+
+        for (int i = 0; i < 1000; i++) {
+            styles.intern(JLOptions.builder().fillColor(JLColor.GREEN).build());
+            if (i >= 100) {
+                assertThat(styles.intern(water)).isEqualTo(1);
+            }
+        }
+        // a cached instance is not converted again, so the change isn't seen
+        water.setFillColor(JLColor.RED);
+
+        assertThat(styles.intern(water)).isEqualTo(1);
+        assertThat(styles.size()).isEqualTo(2);
+    }
+
+    @Test
+    void evaluate_withoutFeatures_shouldLeaveEvaluationToClient() {
+        assertThat(JLStyledGeoJson.evaluate("{\"type\":\"Point\",\"coordinates\":[13.4,52.5]}", options)).isNull();
+        assertThat(JLStyledGeoJson.evaluate("not json", options)).isNull();
+    }
+
+    @Test
+    void buildJsElement_shouldSendStyleTableInsteadOfCallingServer() {
+        String script = new JLGeoJsonObjectBuilder()
+                .setUuid("counties")
+                .setGeoJson(COUNTIES)
+                .withGeoJsonOptions(options)
+                .buildJsElement();
+
+        assertThat(script)
+                .contains("styles[feature.jlStyle]")
+                .contains(JLColor.GREEN.toHexString())
+                .doesNotContain("jlObjectBridge");
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.makbn.jlmap.listener.event;
+
+import io.github.makbn.jlmap.model.JLBounds;
+import io.github.makbn.jlmap.model.JLLatLng;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JLEventPayloadTest {
+
+    @Test
+    void parse_withPositionAndLeafletBounds_shouldDecodeAllValues() {
+        JLEventPayload payload = JLEventPayload.parse("13",
+                "{\"lat\":52.3676,\"lng\":-4.9041}",
+                "{\"_southWest\":{\"lat\":52.1,\"lng\":4.5},\"_northEast\":{\"lat\":52.6,\"lng\":5.25}}");
+
+        assertThat(payload.getZoom()).isEqualTo(13);
+        assertThat(payload.getLat()).isEqualTo(52.3676);
+        assertThat(payload.getLng()).isEqualTo(-4.9041);
+        JLBounds bounds = payload.getBounds();
+        assertThat(bounds).isNotNull();
+        assertThat(bounds.getNorthEast().getLat()).isEqualTo(52.6);
+        assertThat(bounds.getNorthEast().getLng()).isEqualTo(5.25);
+        assertThat(bounds.getSouthWest().getLat()).isEqualTo(52.1);
+        assertThat(bounds.getSouthWest().getLng()).isEqualTo(4.5);
+    }
+
+    @Test
+    void parse_withPlainBoundsKeys_shouldDecodeBounds() {
+        JLEventPayload payload = JLEventPayload.parse(null, null,
+                "{\"northEast\":{\"lat\":1.5,\"lng\":2},\"southWest\":{\"lat\":-1e-3,\"lng\":-2}}");
+
+        assertThat(payload.hasBounds()).isTrue();
+        assertThat(payload.getNorth()).isEqualTo(1.5);
+        assertThat(payload.getEast()).isEqualTo(2);
+        assertThat(payload.getSouth()).isEqualTo(-0.001);
+        assertThat(payload.getWest()).isEqualTo(-2);
+        assertThat(payload.hasLatLng()).isFalse();
+        assertThat(payload.getLatLng()).isNull();
+    }
+
+    @Test
+    void parse_withContextMenuPosition_shouldDecodeContainerPoint() {
+        JLEventPayload payload = JLEventPayload.parse(5,
+                "{\"lat\":10.25,\"lng\":20.5,\"x\":120,\"y\":48.5,\"label\":\"a \\\"quoted\\\" {value}\"}", null);
+
+        assertThat(payload.getLatLng()).isNotNull();
+        assertThat(payload.getX()).isEqualTo(120);
+        assertThat(payload.getY()).isEqualTo(48.5);
+        assertThat(payload.hasBounds()).isFalse();
+    }
+
+    @Test
+    void parse_withResizeDimensions_shouldDecodeSizes() {
+        JLEventPayload payload = JLEventPayload.parse("7",
+                "{\"oldWidth\":800,\"oldHeight\":600,\"newWidth\":1024,\"newHeight\":768}", null);
+
+        assertThat(payload.getOldWidth()).isEqualTo(800);
+        assertThat(payload.getOldHeight()).isEqualTo(600);
+        assertThat(payload.getNewWidth()).isEqualTo(1024);
+        assertThat(payload.getNewHeight()).isEqualTo(768);
+        assertThat(payload.getZoom()).isEqualTo(7);
+    }
+
+    @Test
+    void parse_withPath_shouldDecodeOneListPerRing() {
+        JLEventPayload flat = JLEventPayload.parse(null, "[{\"lat\":1,\"lng\":2},{\"lat\":3,\"lng\":4}]", null);
+        JLEventPayload nested = JLEventPayload.parse(null,
+                "[[{\"lat\":1,\"lng\":2}],[{\"lat\":3,\"lng\":4},{\"lat\":5,\"lng\":6}]]", null);
+
+        assertThat(flat.getLatLngs()).hasSize(1);
+        assertThat(flat.getLatLngs().get(0)).extracting(JLLatLng::getLat).containsExactly(1.0, 3.0);
+        assertThat(nested.getLatLngs()).hasSize(2);
+        assertThat(nested.getLatLngs().get(1)).extracting(JLLatLng::getLng).containsExactly(4.0, 6.0);
+    }
+
+    @Test
+    void parse_withSinglePosition_shouldReturnPathOfOnePoint() {
+        JLEventPayload payload = JLEventPayload.parse(null, "{\"lat\":1,\"lng\":2}", null);
+
+        List<List<JLLatLng>> latLngs = payload.getLatLngs();
+
+        assertThat(latLngs).hasSize(1);
+        assertThat(latLngs.get(0)).extracting(JLLatLng::getLng).containsExactly(2.0);
+    }
+
+    @Test
+    void parse_withLongFractions_shouldMatchDoubleParsing() {
+        JLEventPayload payload = JLEventPayload.parse(null,
+                "{\"lat\":51.505123456789012345,\"lng\":-0.0912345678901}", null);
+
+        assertThat(payload.getLat()).isEqualTo(Double.parseDouble("51.505123456789012345"));
+        assertThat(payload.getLng()).isEqualTo(Double.parseDouble("-0.0912345678901"));
+    }
+
+    @Test
+    void parse_withMalformedInput_shouldLeaveValuesUnset() {
+        JLEventPayload payload = JLEventPayload.parse("abc", "{\"lat\":1,", "null");
+
+        assertThat(payload.getZoom()).isZero();
+        assertThat(payload.hasLatLng()).isFalse();
+        assertThat(payload.hasBounds()).isFalse();
+        assertThat(payload.getLatLngs()).isEmpty();
+    }
+}
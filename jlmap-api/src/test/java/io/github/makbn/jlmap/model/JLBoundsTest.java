@@ -0,0 +1,32 @@
+package io.github.makbn.jlmap.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JLBoundsTest {
+
+    private final JLBounds bounds = JLBounds.builder()
+            .southWest(new JLLatLng(50, 10))
+            .northEast(new JLLatLng(54, 18))
+            .build();
+
+    @Test
+    void pad_shouldExtendEachSideByRatio() {
+        JLBounds padded = bounds.pad(0.5);
+
+        assertThat(padded.getSouthWest()).isEqualTo(new JLLatLng(48, 6));
+        assertThat(padded.getNorthEast()).isEqualTo(new JLLatLng(56, 22));
+        assertThat(padded.contains(bounds)).isTrue();
+        assertThat(padded.contains(new JLLatLng(49, 7))).isTrue();
+    }
+
+    @Test
+    void pad_withNegativeRatio_shouldRetractBounds() {
+        JLBounds retracted = bounds.pad(-0.25);
+
+        assertThat(retracted.getSouthWest()).isEqualTo(new JLLatLng(51, 12));
+        assertThat(retracted.getNorthEast()).isEqualTo(new JLLatLng(53, 16));
+        assertThat(bounds.contains(retracted)).isTrue();
+    }
+}
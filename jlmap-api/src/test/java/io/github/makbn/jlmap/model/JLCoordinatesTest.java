@@ -0,0 +1,72 @@
+package io.github.makbn.jlmap.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JLCoordinatesTest {
+
+    @Test
+    void of_withPoints_shouldStoreSingleRing() {
+        JLCoordinates coordinates = JLCoordinates.of(new JLLatLng(1, 2), new JLLatLng(3, 4));
+
+        assertThat(coordinates.size()).isEqualTo(2);
+        assertThat(coordinates.ringCount()).isEqualTo(1);
+        assertThat(coordinates.groupCount()).isEqualTo(1);
+        assertThat(coordinates.getLat(1)).isEqualTo(3);
+        assertThat(coordinates.getLng(1)).isEqualTo(4);
+        assertThat(coordinates.toLatLngArray()).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void ofGroups_shouldKeepPolygonStructure() {
+        JLLatLng[][][] polygons = {
+                {{new JLLatLng(1, 1), new JLLatLng(1, 2), new JLLatLng(2, 2)}, {new JLLatLng(1.5, 1.5)}},
+                {{new JLLatLng(5, 5), new JLLatLng(6, 6)}}
+        };
+
+        JLCoordinates coordinates = JLCoordinates.ofGroups(polygons);
+        JLLatLng[][][] groups = coordinates.toGroups();
+
+        assertThat(coordinates.size()).isEqualTo(6);
+        assertThat(coordinates.ringCount()).isEqualTo(3);
+        assertThat(coordinates.groupCount()).isEqualTo(2);
+        assertThat(groups.length).isEqualTo(2);
+        assertThat(groups[0].length).isEqualTo(2);
+        assertThat(groups[0][1][0].getLat()).isEqualTo(1.5);
+        assertThat(groups[1][0]).extracting(JLLatLng::getLng).containsExactly(5.0, 6.0);
+        assertThat(coordinates.toRings().length).isEqualTo(3);
+    }
+
+    @Test
+    void builder_shouldGrowAndKeepEmptyRings() {
+        JLCoordinates.Builder builder = JLCoordinates.builder(1);
+        for (int i = 0; i < 100; i++) {
+            builder.add(i, -i);
+        }
+        builder.newRing();
+
+        JLCoordinates coordinates = builder.build();
+
+        assertThat(coordinates.size()).isEqualTo(100);
+        assertThat(coordinates.ringCount()).isEqualTo(2);
+        assertThat(coordinates.ringEnd(0)).isEqualTo(100);
+        assertThat(coordinates.ringStart(1)).isEqualTo(coordinates.ringEnd(1));
+        assertThat(coordinates.get(99).getLng()).isEqualTo(-99);
+    }
+
+    @Test
+    void builder_withoutPoints_shouldReturnEmpty() {
+        assertThat(JLCoordinates.builder().build()).isSameAs(JLCoordinates.EMPTY);
+        assertThat(JLCoordinates.EMPTY.toArray()).isEmpty();
+        assertThat(JLCoordinates.EMPTY.toGroups()).isEmpty();
+    }
+
+    @Test
+    void wrap_withOddLength_shouldThrow() {
+        assertThatThrownBy(() -> JLCoordinates.wrap(new double[]{1, 2, 3}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(JLCoordinates.wrap(new double[]{1, 2, 3, 4})).isEqualTo(JLCoordinates.of(new JLLatLng(1, 2), new JLLatLng(3, 4)));
+    }
+}
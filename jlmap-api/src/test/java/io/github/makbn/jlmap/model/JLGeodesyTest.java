@@ -0,0 +1,73 @@
+package io.github.makbn.jlmap.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class JLGeodesyTest {
+
+    private static final JLLatLng BERLIN = new JLLatLng(52.52, 13.405);
+    private static final JLLatLng PARIS = new JLLatLng(48.857, 2.352);
+
+    @Test
+    void distance_shouldUseMeanEarthRadius() {
+        assertThat(BERLIN.distanceTo(PARIS)).isCloseTo(877_450, within(100.0));
+        assertThat(JLGeodesy.distance(0, 0, 0, 180)).isCloseTo(Math.PI * JLGeodesy.EARTH_RADIUS, within(1e-6));
+        assertThat(JLGeodesy.bearing(0, 0, 1, 0)).isZero();
+        assertThat(JLGeodesy.bearing(0, 0, 0, -1)).isCloseTo(270, within(1e-9));
+    }
+
+    @Test
+    void bulkOperations_shouldMatchScalarVersions() {
+        Random random = new Random(5);
+        JLCoordinates.Builder builder = JLCoordinates.builder();
+        for (int i = 0; i < 1_000; i++) {
+            builder.add(random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180);
+        }
+        JLCoordinates points = builder.build();
+
+        double[] distances = JLGeodesy.distances(BERLIN, points);
+        double[] bearings = JLGeodesy.bearings(BERLIN, points);
+        int[] near = JLGeodesy.withinRadius(BERLIN, points, 3_000_000);
+
+        double length = 0;
+        int nearCount = 0;
+        for (int i = 0; i < points.size(); i++) {
+            assertThat(distances[i]).isCloseTo(BERLIN.distanceTo(points.get(i)), within(1e-6));
+            assertThat(bearings[i]).isCloseTo(JLGeodesy.bearing(BERLIN.getLat(), BERLIN.getLng(),
+                    points.getLat(i), points.getLng(i)), within(1e-9));
+            nearCount += distances[i] <= 3_000_000 ? 1 : 0;
+            if (i > 0) {
+                length += points.get(i - 1).distanceTo(points.get(i));
+            }
+        }
+        assertThat(near).hasSize(nearCount).isSorted();
+        assertThat(JLGeodesy.length(points)).isCloseTo(length, within(1e-3));
+    }
+
+    @Test
+    void contains_shouldExcludeHoles() {
+        JLCoordinates polygon = JLCoordinates.ofRings(new JLLatLng[][]{
+                {new JLLatLng(0, 0), new JLLatLng(0, 10), new JLLatLng(10, 10), new JLLatLng(10, 0)},
+                {new JLLatLng(4, 4), new JLLatLng(4, 6), new JLLatLng(6, 6), new JLLatLng(6, 4)}});
+        boolean[] inside = new boolean[3];
+
+        int count = JLGeodesy.contains(polygon, new double[]{1, 1, 5, 5, 11, 5}, inside);
+
+        assertThat(count).isOne();
+        assertThat(inside).containsExactly(true, false, false);
+        assertThat(JLGeodesy.contains(polygon, 9, 9)).isTrue();
+    }
+
+    @Test
+    void bounds_shouldContainAllPoints() {
+        JLBounds bounds = JLGeodesy.bounds(JLCoordinates.of(BERLIN, PARIS, new JLLatLng(51.5, -0.12)));
+
+        assertThat(bounds.getSouthWest()).isEqualTo(new JLLatLng(48.857, -0.12));
+        assertThat(bounds.getNorthEast()).isEqualTo(new JLLatLng(52.52, 13.405));
+        assertThat(JLGeodesy.bounds(JLCoordinates.EMPTY)).isNull();
+    }
+}
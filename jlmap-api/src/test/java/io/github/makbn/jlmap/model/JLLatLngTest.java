@@ -0,0 +1,47 @@
+package io.github.makbn.jlmap.model;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JLLatLngTest {
+
+    @Test
+    void with_shouldReturnNewPointAndKeepOriginal() {
+        JLLatLng berlin = new JLLatLng(52.52, 13.405);
+
+        JLLatLng moved = berlin.withLat(48.857).withLng(2.352);
+
+        assertThat(moved).isEqualTo(new JLLatLng(48.857, 2.352));
+        assertThat(berlin).isEqualTo(new JLLatLng(52.52, 13.405));
+        assertThat(berlin.withLat(52.52)).isSameAs(berlin);
+    }
+
+    @Test
+    void of_shouldShareOrigin() {
+        assertThat(JLLatLng.of(0, 0)).isSameAs(JLLatLng.ZERO);
+        assertThat(JLLatLng.of(-0.0, 0)).isNotSameAs(JLLatLng.ZERO);
+        assertThat(JLLatLng.of(1, 2)).isEqualTo(JLLatLng.builder().lat(1).lng(2).build());
+    }
+
+    @Test
+    void hashCode_shouldMatchEquals() {
+        JLLatLng point = new JLLatLng(52.52, 13.405);
+
+        assertThat(point.hashCode())
+                .isEqualTo(new JLLatLng(52.52, 13.405).hashCode())
+                .isEqualTo(Objects.hash(52.52, 13.405));
+    }
+
+    @Test
+    void gson_shouldReadImmutablePoints() {
+        JLBounds bounds = new Gson().fromJson(
+                "{\"_northEast\":{\"lat\":53,\"lng\":14},\"_southWest\":{\"lat\":52,\"lng\":13}}", JLBounds.class);
+
+        assertThat(bounds.getNorthEast()).isEqualTo(new JLLatLng(53, 14));
+        assertThat(bounds.getSouthWest()).isEqualTo(new JLLatLng(52, 13));
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.makbn.jlmap.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JLPathLevelsTest {
+
+    @Test
+    void forZoom_withCollinearLine_shouldKeepEndpointsOnly() {
+        JLCoordinates.Builder builder = JLCoordinates.builder();
+        for (int i = 0; i <= 100; i++) {
+            builder.add(0, i * 0.1);
+        }
+        JLPathLevels levels = JLPathLevels.of(builder.build(), 1, false);
+
+        JLCoordinates level = levels.forZoom(18);
+
+        assertThat(level.toLatLngArray()).containsExactly(0, 0, 0, 10);
+        assertThat(levels.forZoom(3)).isSameAs(level);
+    }
+
+    @Test
+    void forZoom_shouldAddPointsWithZoomAndKeepLevelsNested() {
+        JLCoordinates.Builder builder = JLCoordinates.builder();
+        for (int i = 0; i <= 360; i++) {
+            builder.add(Math.sin(Math.toRadians(i * 4)) * (i / 36.0), i * 0.05);
+        }
+        JLCoordinates coordinates = builder.build();
+        JLPathLevels levels = JLPathLevels.of(coordinates, 1, false);
+
+        int previous = 0;
+        for (int zoom = 0; zoom <= JLPathLevels.MAX_ZOOM; zoom++) {
+            JLCoordinates level = levels.forZoom(zoom);
+            assertThat(level.size()).isGreaterThanOrEqualTo(previous);
+            assertThat(level.get(0)).isEqualTo(coordinates.get(0));
+            assertThat(level.get(level.size() - 1)).isEqualTo(coordinates.get(coordinates.size() - 1));
+            previous = level.size();
+        }
+        assertThat(levels.forZoom(0).size()).isLessThan(coordinates.size());
+        assertThat(levels.forZoom(JLPathLevels.MAX_ZOOM)).isSameAs(coordinates);
+        assertThat(levels.forZoom(JLPathLevels.MAX_ZOOM + 5)).isSameAs(coordinates);
+    }
+
+    @Test
+    void forZoom_withPolygon_shouldKeepRingsAndAtLeastThreePoints() {
+        JLLatLng[][][] polygons = {{
+                {new JLLatLng(0, 0), new JLLatLng(0, 0.001), new JLLatLng(0.001, 0.001), new JLLatLng(0.001, 0)},
+                {new JLLatLng(0.0002, 0.0002), new JLLatLng(0.0002, 0.0004), new JLLatLng(0.0004, 0.0004)}
+        }};
+        JLPathLevels levels = JLPathLevels.of(JLCoordinates.ofGroups(polygons), 1, true);
+
+        JLCoordinates level = levels.forZoom(0);
+
+        assertThat(level.groupCount()).isEqualTo(1);
+        assertThat(level.ringCount()).isEqualTo(2);
+        assertThat(level.ringEnd(0) - level.ringStart(0)).isGreaterThanOrEqualTo(3);
+        assertThat(level.ringEnd(1) - level.ringStart(1)).isEqualTo(3);
+    }
+
+    @Test
+    void of_withoutPositiveTolerance_shouldThrow() {
+        JLCoordinates coordinates = JLCoordinates.of(new JLLatLng(1, 2), new JLLatLng(3, 4));
+
+        assertThatThrownBy(() -> JLPathLevels.of(coordinates, 0, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JLPathLevels.of(coordinates, Double.NaN, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
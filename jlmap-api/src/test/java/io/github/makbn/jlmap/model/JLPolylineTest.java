@@ -0,0 +1,102 @@
+package io.github.makbn.jlmap.model;
+
+import io.github.makbn.jlmap.engine.JLClientDispatcher;
+import io.github.makbn.jlmap.engine.JLServerToClientTransporter;
+import io.github.makbn.jlmap.engine.JLTransportRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JLPolylineTest {
+
+    private final List<String> operations = new ArrayList<>();
+    private final JLServerToClientTransporter<Object> transporter = new JLServerToClientTransporter<>() {
+        @Override
+        public Function<JLTransportRequest, Object> serverToClientTransport() {
+            return transport -> operations.add(JLClientDispatcher.encode(transport));
+        }
+
+        @Override
+        public <M> CompletableFuture<M> covertResult(Object result, Class<M> clazz) {
+            return CompletableFuture.completedFuture(null);
+        }
+    };
+
+    @Test
+    void appendLatLngs_withMaxVertices_shouldSendOnlyNewPointsAndTrimmedCount() {
+        JLPolyline trail = JLPolyline.builder()
+                .id("trail")
+                .coordinates(JLCoordinates.of(new JLLatLng(0.5, 0.5), new JLLatLng(1.5, 1.5)))
+                .transport(transporter)
+                .build();
+
+        trail.setMaxVertices(3)
+                .appendLatLngs(new JLLatLng(2.5, 2.5))
+                .appendLatLngs(new JLLatLng(3.5, 3.5), new JLLatLng(4.5, 4.5));
+
+        assertThat(operations).containsExactly(
+                "[[\"trail\",\"appendLatLngs\",[-1,[[2.5,2.5]],0]]]",
+                "[[\"trail\",\"appendLatLngs\",[-1,[[3.5,3.5],[4.5,4.5]],2]]]");
+        assertThat(trail.getVertices()).containsExactly(
+                new JLLatLng(2.5, 2.5), new JLLatLng(3.5, 3.5), new JLLatLng(4.5, 4.5));
+    }
+
+    @Test
+    void appendLatLngs_withManyPoints_shouldKeepLastMaxVertices() {
+        JLPolyline trail = JLPolyline.builder().id("trail").transport(transporter).build().setMaxVertices(100);
+
+        for (int i = 0; i < 10_000; i++) {
+            trail.appendLatLngs(new JLLatLng(i % 90, i % 180));
+        }
+        trail.trimHead(40);
+
+        JLLatLng[] vertices = trail.getVertices();
+        assertThat(vertices).hasSize(60);
+        assertThat(vertices[0]).isEqualTo(new JLLatLng(9_940 % 90, 9_940 % 180));
+        assertThat(vertices[59]).isEqualTo(new JLLatLng(9_999 % 90, 9_999 % 180));
+        assertThat(operations.get(operations.size() - 1)).isEqualTo("[[\"trail\",\"appendLatLngs\",[-1,[],40]]]");
+    }
+
+    @Test
+    void trimHead_shouldOnlyChangeGivenLineOfMultiPolyline() {
+        JLMultiPolyline lines = JLMultiPolyline.builder()
+                .id("lines")
+                .coordinates(JLCoordinates.ofRings(new JLLatLng[][]{
+                        {new JLLatLng(0.5, 0.5), new JLLatLng(1.5, 1.5)},
+                        {new JLLatLng(5.5, 5.5)}}))
+                .transport(transporter)
+                .build();
+
+        lines.appendLatLngs(1, new JLLatLng(6.5, 6.5)).trimHead(0, 1).trimHead(0, 0);
+
+        assertThat(operations).containsExactly(
+                "[[\"lines\",\"appendLatLngs\",[1,[[6.5,6.5]],0]]]",
+                "[[\"lines\",\"appendLatLngs\",[0,[],1]]]");
+        assertThat(lines.getVertices()).isDeepEqualTo(new JLLatLng[][]{
+                {new JLLatLng(1.5, 1.5)},
+                {new JLLatLng(5.5, 5.5), new JLLatLng(6.5, 6.5)}});
+        assertThatThrownBy(() -> lines.appendLatLngs(2, new JLLatLng(0, 0)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void appendLatLngs_withCoordinateEncoding_shouldSendEncodedPointsOfMultiPolyline() {
+        JLMultiPolyline lines = JLMultiPolyline.builder()
+                .id("lines")
+                .coordinates(JLCoordinates.ofRings(new JLLatLng[][]{{new JLLatLng(0.5, 0.5)}}))
+                .coordinateEncoding(JLCoordinateEncoding.decimal(1))
+                .transport(transporter)
+                .build();
+
+        lines.appendLatLngs(0, new JLLatLng(6.54, 6.46));
+
+        assertThat(operations).containsExactly("[[\"lines\",\"appendLatLngs\",[0,[[6.5,6.5]],0]]]");
+        assertThat(lines.getVertices()[0]).containsExactly(new JLLatLng(0.5, 0.5), new JLLatLng(6.54, 6.46));
+    }
+}
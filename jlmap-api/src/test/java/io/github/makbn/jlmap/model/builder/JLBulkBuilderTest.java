@@ -0,0 +1,92 @@
+package io.github.makbn.jlmap.model.builder;
+
+import io.github.makbn.jlmap.engine.JLClientDispatcher;
+import io.github.makbn.jlmap.engine.JLServerToClientTransporter;
+import io.github.makbn.jlmap.engine.JLTransportRequest;
+import io.github.makbn.jlmap.listener.JLAction;
+import io.github.makbn.jlmap.model.JLCircleMarker;
+import io.github.makbn.jlmap.model.JLLatLng;
+import io.github.makbn.jlmap.model.JLMarker;
+import io.github.makbn.jlmap.model.JLOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JLBulkBuilderTest {
+
+    @Test
+    void markers_withTwoEntries_buildSingleAddAllOperation() {
+        var bulkBuilder = JLBulkBuilder.markers()
+                .withOptions(JLOptions.DEFAULT.toBuilder().draggable(true).build())
+                .on(JLAction.CLICK, JLAction.MOVE)
+                .add("m1", new JLLatLng(52.52, 13.405))
+                .add("m2", new JLLatLng(10, 20));
+
+        assertThat(bulkBuilder.buildOperations())
+                .startsWith("[[\"$\",\"addAll\",[{\"kind\":\"marker\",\"jlType\":\"jlmarker\",\"ids\":[\"m1\",\"m2\"],"
+                        + "\"latLngs\":[[52.52,13.405],[10,20]],\"options\":{")
+                .contains("\"draggable\":true")
+                .endsWith("\"events\":[\"remove\",\"click\",\"move\"]}]]]");
+
+        List<JLMarker> markers = bulkBuilder.buildJLObjects();
+        assertThat(markers).extracting(JLMarker::getJLId).containsExactly("m1", "m2");
+        assertThat(markers.get(1).getLatLng().getLat()).isEqualTo(10);
+    }
+
+    @Test
+    void circleMarkers_withRadius_addRadiusToClientOptions() {
+        var bulkBuilder = JLBulkBuilder.circleMarkers()
+                .setRadius(7)
+                .withOptions(JLOptions.DEFAULT)
+                .add("c1", new JLLatLng(1, 2));
+
+        assertThat(bulkBuilder.buildOperations())
+                .contains("\"kind\":\"circleMarker\"")
+                .contains("\"radius\":7")
+                .contains("\"events\":[\"remove\"]");
+        assertThat(bulkBuilder.buildJLObjects())
+                .singleElement()
+                .extracting(JLCircleMarker::getRadius)
+                .isEqualTo(7.0);
+    }
+
+    @Test
+    void withLazyCallbacks_shouldRegisterActionsOnlyWhenListenerIsSet() {
+        List<String> operations = new ArrayList<>();
+        JLServerToClientTransporter<Object> transporter = new JLServerToClientTransporter<>() {
+            @Override
+            public Function<JLTransportRequest, Object> serverToClientTransport() {
+                return transport -> operations.add(JLClientDispatcher.encode(transport));
+            }
+
+            @Override
+            public <M> CompletableFuture<M> covertResult(Object result, Class<M> clazz) {
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+        var bulkBuilder = JLBulkBuilder.markers()
+                .setTransporter(transporter)
+                .withLazyCallbacks(JLAction.CLICK, JLAction.DRAG_END, JLAction.REMOVE)
+                .add("m1", new JLLatLng(1, 2))
+                .add("m2", new JLLatLng(3, 4));
+
+        assertThat(bulkBuilder.buildOperations()).endsWith("\"events\":[\"remove\"]}]]]");
+
+        List<JLMarker> markers = bulkBuilder.buildJLObjects();
+        markers.get(1).setOnActionListener((source, event) -> {
+        });
+        markers.get(1).setOnActionListener((source, event) -> {
+        }, JLAction.CLICK, JLAction.ZOOM);
+
+        assertThat(operations).containsExactly(
+                "[[\"m2\",\"on\",[\"dragend click\",{\"$forwarder\":\"jlmarker\"}]]]",
+                "[[\"m2\",\"off\",[\"dragend\",{\"$forwarder\":\"jlmarker\"}]]]");
+        assertThat(markers.get(0).getAttachedActions()).isEmpty();
+        assertThat(markers.get(1).getAttachedActions()).containsExactly(JLAction.CLICK);
+    }
+}
@@ -2,6 +2,7 @@ package io.github.makbn.jlmap.fx;
 
 import io.github.makbn.jlmap.JLMap;
 import io.github.makbn.jlmap.JLMapEventHandler;
+import io.github.makbn.jlmap.JLObjectRegistry;
 import io.github.makbn.jlmap.JLProperties;
 import io.github.makbn.jlmap.element.menu.JLContextMenu;
 import io.github.makbn.jlmap.engine.JLWebEngine;
@@ -16,6 +17,8 @@ import io.github.makbn.jlmap.listener.JLAction;
 import io.github.makbn.jlmap.listener.OnJLActionListener;
 import io.github.makbn.jlmap.listener.event.MapEvent;
 import io.github.makbn.jlmap.map.JLMapProvider;
+import io.github.makbn.jlmap.model.JLCoordinateEncoding;
+import io.github.makbn.jlmap.model.JLEventRate;
 import io.github.makbn.jlmap.model.JLLatLng;
 import io.github.makbn.jlmap.model.JLMapOption;
 import javafx.animation.Interpolator;
@@ -48,6 +51,7 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -70,20 +74,45 @@ public class JLMapView extends AnchorPane implements JLMap<Object> {
     @Nullable
     OnJLActionListener<JLMap<Object>> mapListener;
 
-    @Builder
     public JLMapView(@NonNull JLMapProvider jlMapProvider,
                      @NonNull JLLatLng startCoordinate, boolean showZoomController) {
+        this(jlMapProvider, startCoordinate, showZoomController, null, null, null, null);
+    }
+
+    /**
+     * Used by the builder, which also takes the optional settings of {@link JLMapOption}.
+     *
+     * @see #JLMapView(JLMapProvider, JLLatLng, boolean)
+     * @param eventRates         optional client-side rate limits of the events sent to the server
+     * @param eventBatchInterval optional interval in which events are sent to the server as one call,
+     *                           see {@link JLMapOption#getEventBatchInterval()}
+     * @param objectRetention    optional retention of the objects the map dispatches events to,
+     *                           see {@link JLMapOption#getObjectRetention()}
+     * @param coordinateEncoding optional encoding of the vertices of paths sent to the client,
+     *                           see {@link JLMapOption#getCoordinateEncoding()}
+     */
+    @Builder
+    private JLMapView(@NonNull JLMapProvider jlMapProvider,
+                      @NonNull JLLatLng startCoordinate, boolean showZoomController,
+                      @Nullable Map<JLAction, JLEventRate> eventRates, @Nullable Long eventBatchInterval,
+                      @Nullable JLObjectRegistry.Retention objectRetention,
+                      @Nullable JLCoordinateEncoding coordinateEncoding) {
         super();
         this.mapOption = JLMapOption.builder()
                 .startCoordinate(startCoordinate)
                 .jlMapProvider(jlMapProvider)
                 .additionalParameter(Set.of(new JLMapOption.Parameter("zoomControl",
                         Objects.toString(showZoomController))))
+                .eventRates(eventRates == null ? Map.of() : eventRates)
+                .eventBatchInterval(eventBatchInterval == null ? -1 : eventBatchInterval)
+                .objectRetention(objectRetention == null ? JLObjectRegistry.Retention.STRONG : objectRetention)
+                .coordinateEncoding(coordinateEncoding == null ? JLCoordinateEncoding.DEFAULT : coordinateEncoding)
                 .build();
         this.layers = new HashMap<>();
         this.webView = new WebView();
         this.jlWebEngine = new JLJavaFXEngine(webView.getEngine());
-        this.jlMapCallbackHandler = new JLMapEventHandler();
+        this.jlWebEngine.setCoordinateEncoding(mapOption.getCoordinateEncoding());
+        this.jlMapCallbackHandler = new JLMapEventHandler(mapOption.getObjectRetention());
         initialize();
     }
 
@@ -276,6 +305,11 @@ public class JLMapView extends AnchorPane implements JLMap<Object> {
         jlMapCallbackHandler.functionCalled(this, functionName, jlType, uuid, param1, param2, param3);
     }
 
+    @SuppressWarnings("unused")
+    public void functionsCalled(String events) {
+        jlMapCallbackHandler.functionsCalled(this, events);
+    }
+
     /**
      * @inheritDoc
      */
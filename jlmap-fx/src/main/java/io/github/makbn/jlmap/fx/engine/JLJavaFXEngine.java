@@ -1,8 +1,10 @@
 package io.github.makbn.jlmap.fx.engine;
 
 import io.github.makbn.jlmap.engine.JLWebEngine;
+import javafx.application.Platform;
 import javafx.scene.web.WebEngine;
 import lombok.NonNull;
+import netscape.javascript.JSObject;
 
 import java.util.Optional;
 
@@ -30,6 +32,24 @@ public class JLJavaFXEngine extends JLWebEngine<Object> {
                 .orElse(null);
     }
 
+    /**
+     * Calls {@code window.jlDispatch} directly instead of evaluating a script, so nothing has
+     * to be parsed apart from the operation list itself.
+     */
+    @Override
+    public Object dispatch(@NonNull String operations) {
+        JSObject window = (JSObject) jfxEngine.executeScript("window");
+        return window.call("jlDispatch", window, operations);
+    }
+
+    /**
+     * Flushes batched transport requests on the next JavaFX pulse.
+     */
+    @Override
+    protected void scheduleFlush(@NonNull Runnable flush) {
+        Platform.runLater(flush);
+    }
+
     @Override
     public Status getStatus() {
         return jfxEngine.getLoadWorker().getState().name().equals("SUCCEEDED") ? Status.SUCCEEDED : Status.FAILED;
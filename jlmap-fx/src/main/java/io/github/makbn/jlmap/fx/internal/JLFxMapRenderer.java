@@ -1,5 +1,6 @@
 package io.github.makbn.jlmap.fx.internal;
 
+import io.github.makbn.jlmap.engine.JLClientDispatcher;
 import io.github.makbn.jlmap.map.JLMapRenderer;
 import io.github.makbn.jlmap.model.JLMapOption;
 import lombok.NonNull;
@@ -36,6 +37,7 @@ public class JLFxMapRenderer implements JLMapRenderer {
                                 .withSrc(SCRIPT_LEAFLET_PROVIDER),
                         script(jsRelayFunction()),
                         script(mapHelperFunctions()),
+                        script(JLClientDispatcher.SCRIPT),
                         script(clientToServerEventHandler())
                 ),
                 body().withStyle("margin: 0; background-color: #191a1a;").with(
@@ -101,7 +103,7 @@ public class JLFxMapRenderer implements JLMapRenderer {
                     this.map = L.map(this.jlMapElement, {zoomControl: %b}).setView([%s, %s], %d);
                 
                     L.tileLayer('%s').addTo(this.map);
-                
+                    %s
                     this.outr_eventHandler = eventHandler;
                     this.jlMapElement.$server = {
                         eventHandler: (functionType, jlType, uuid, param1, param2, param3) => 
@@ -123,7 +125,28 @@ public class JLFxMapRenderer implements JLMapRenderer {
                 option.getStartCoordinate().getLat(),
                 option.getStartCoordinate().getLng(),
                 option.getInitialZoom(),
-                option.getJlMapProvider().getMapProviderAddress());
+                option.getJlMapProvider().getMapProviderAddress(),
+                eventHandlerWrappers(option));
+    }
+
+    @NonNull
+    private String eventHandlerWrappers(@NonNull JLMapOption option) {
+        StringBuilder wrappers = new StringBuilder();
+        if (option.isEventBatchingEnabled()) {
+            //language=js
+            wrappers.append("""
+                    eventHandler = window.jlDispatch.batched(events => {
+                        if ('serverCallback' in window) {
+                            serverCallback.functionsCalled(events);
+                        }
+                    }, %d);
+                    """.formatted(option.getEventBatchInterval()));
+        }
+        if (!option.getEventRates().isEmpty()) {
+            wrappers.append("eventHandler = window.jlDispatch.rateLimited(eventHandler, %s);"
+                    .formatted(JLClientDispatcher.encodeEventRates(option.getEventRates())));
+        }
+        return wrappers.toString();
     }
 
     @NonNull
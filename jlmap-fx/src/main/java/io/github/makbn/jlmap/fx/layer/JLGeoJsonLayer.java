@@ -123,7 +123,7 @@ public class JLGeoJsonLayer extends JLLayer implements LeafletGeoJsonLayerInt {
     /** @inheritDoc */
     @Override
     public boolean removeGeoJson(@NonNull String id) {
-        engine.executeScript(removeLayerWithUUID(id));
+        executeScript(removeLayerWithUUID(id));
         callbackHandler.remove(JLGeoJson.class, id);
         return true;
     }
@@ -148,14 +148,14 @@ public class JLGeoJsonLayer extends JLLayer implements LeafletGeoJsonLayerInt {
                 .withGeoJsonOptions(options)
                 .withBridge(clientToServer)
                 .setTransporter(getTransporter())
-                .withCallbacks(jlCallbackBuilder -> {
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.CLICK);
                     jlCallbackBuilder.on(JLAction.DOUBLE_CLICK);
                     jlCallbackBuilder.on(JLAction.ADD);
                     jlCallbackBuilder.on(JLAction.REMOVE);
                 });
         JLGeoJson geoJson = builder.buildJLObject();
-        engine.executeScript(builder.buildJsElement());
+        executeScript(builder.buildJsElement());
         callbackHandler.addJLObject(elementUniqueName, geoJson);
         return geoJson;
     }
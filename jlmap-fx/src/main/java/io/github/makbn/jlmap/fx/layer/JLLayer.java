@@ -1,6 +1,8 @@
 package io.github.makbn.jlmap.fx.layer;
 
 import io.github.makbn.jlmap.JLMapEventHandler;
+import io.github.makbn.jlmap.engine.JLClientDispatcher;
+import io.github.makbn.jlmap.engine.JLTransportBatch;
 import io.github.makbn.jlmap.engine.JLTransportRequest;
 import io.github.makbn.jlmap.engine.JLWebEngine;
 import io.github.makbn.jlmap.fx.engine.JLJavaFxServerToClientTransporter;
@@ -12,10 +14,8 @@ import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
 import java.util.UUID;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Represents the basic layer.
@@ -46,16 +46,33 @@ public abstract class JLLayer implements LeafletLayer {
     }
 
 
+    /**
+     * Executes the script once the batched calls made before it were sent, so it can't overtake them.
+     */
+    protected final Object executeScript(@NonNull String script) {
+        engine.flush();
+        return engine.executeScript(script);
+    }
+
+    /**
+     * Dispatches the operations once the batched calls made before them were sent.
+     */
+    protected final Object dispatch(@NonNull String operations) {
+        engine.flush();
+        return engine.dispatch(operations);
+    }
+
     protected @NotNull JLJavaFxServerToClientTransporter getTransporter() {
         return new JLJavaFxServerToClientTransporter() {
             @Override
             public Function<JLTransportRequest, Object> serverToClientTransport() {
-                return transport -> {
-                    // Generate JavaScript method call: this.objectId.methodName(param1,param2,...)
-                    String script = "this.%1$s.%2$s(%3$s)".formatted(transport.self().getJLId(), transport.function(),
-                            transport.params().length > 0 ? Arrays.stream(transport.params()).map(String::valueOf).collect(Collectors.joining(",")) : "");
-                    return engine.executeScript(script);
-                };
+                // Send [objectId, methodName, [param1,param2,...]] to the client dispatcher
+                return transport -> engine.dispatch(JLClientDispatcher.encode(transport));
+            }
+
+            @Override
+            public JLTransportBatch getTransportBatch() {
+                return engine.getTransportBatch();
             }
         };
     }
@@ -1,16 +1,20 @@
 package io.github.makbn.jlmap.fx.layer;
 
+import io.github.makbn.jlmap.JLClusterLayer;
 import io.github.makbn.jlmap.JLMapEventHandler;
+import io.github.makbn.jlmap.JLViewportLayer;
 import io.github.makbn.jlmap.engine.JLWebEngine;
 import io.github.makbn.jlmap.layer.leaflet.LeafletUILayerInt;
 import io.github.makbn.jlmap.listener.JLAction;
 import io.github.makbn.jlmap.model.*;
+import io.github.makbn.jlmap.model.builder.JLBulkBuilder;
 import io.github.makbn.jlmap.model.builder.JLImageOverlayBuilder;
 import io.github.makbn.jlmap.model.builder.JLMarkerBuilder;
 import io.github.makbn.jlmap.model.builder.JLPopupBuilder;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -44,7 +48,7 @@ public class JLUiLayer extends JLLayer implements LeafletUILayerInt {
                 .setLng(latLng.getLng())
                 .setText(text)
                 .setTransporter(getTransporter())
-                .withCallbacks(jlCallbackBuilder -> {
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.MOVE);
                     jlCallbackBuilder.on(JLAction.MOVE_START);
                     jlCallbackBuilder.on(JLAction.MOVE_END);
@@ -59,12 +63,89 @@ public class JLUiLayer extends JLLayer implements LeafletUILayerInt {
                 })
                 .withOptions(JLOptions.DEFAULT.toBuilder().draggable(draggable).build());
 
-        engine.executeScript(markerBuilder.buildJsElement());
+        executeScript(markerBuilder.buildJsElement());
         JLMarker marker = markerBuilder.buildJLObject();
         callbackHandler.addJLObject(elementUniqueName, marker);
         return marker;
     }
 
+    /**
+     * Add a set of {{@link JLMarker}}s to the map in one go. The whole set is shipped to the
+     * client as a single payload and registered in the event handler together.
+     *
+     * @param latLngs   positions on the map.
+     * @param draggable whether the markers are draggable.
+     * @return the instances of added {{@link JLMarker}}s, in the iteration order of {@code latLngs}.
+     * @see JLUiLayer#addMarker(JLLatLng, String, boolean)
+     */
+    @Override
+    public List<JLMarker> addMarkers(Collection<JLLatLng> latLngs, boolean draggable) {
+        JLBulkBuilder<JLMarker> bulkBuilder = markersBuilder(draggable);
+        latLngs.forEach(latLng -> bulkBuilder.add(getElementUniqueName(JLMarker.class, idGenerator.incrementAndGet()), latLng));
+        if (bulkBuilder.size() == 0) {
+            return List.of();
+        }
+
+        dispatch(bulkBuilder.buildOperations());
+        List<JLMarker> markers = bulkBuilder.buildJLObjects();
+        callbackHandler.addJLObjects(markers);
+        return markers;
+    }
+
+    /**
+     * Add a set of {{@link JLMarker}}s that are only created on the client while they are near
+     * the visible area of the map.
+     *
+     * @param latLngs   positions on the map.
+     * @param draggable whether the markers are draggable.
+     * @return the layer holding the markers.
+     * @see JLUiLayer#addMarkers(Collection, boolean)
+     */
+    @Override
+    public JLViewportLayer<JLMarker> addViewportMarkers(Collection<JLLatLng> latLngs, boolean draggable) {
+        JLViewportLayer<JLMarker> viewportLayer = new JLViewportLayer<>(engine, callbackHandler,
+                () -> markersBuilder(draggable),
+                () -> getElementUniqueName(JLMarker.class, idGenerator.incrementAndGet()));
+        viewportLayer.addAll(latLngs);
+        return viewportLayer;
+    }
+
+    /**
+     * Add a set of {{@link JLMarker}}s that are shown as clusters wherever they are too close to
+     * each other at the current zoom level.
+     *
+     * @param latLngs   positions on the map.
+     * @param draggable whether the markers are draggable.
+     * @return the layer holding the markers.
+     * @see JLUiLayer#addViewportMarkers(Collection, boolean)
+     */
+    @Override
+    public JLClusterLayer addClusteredMarkers(Collection<JLLatLng> latLngs, boolean draggable) {
+        JLClusterLayer clusterLayer = new JLClusterLayer(engine, callbackHandler, getTransporter(),
+                () -> markersBuilder(draggable),
+                () -> getElementUniqueName(JLMarker.class, idGenerator.incrementAndGet()));
+        clusterLayer.addAll(latLngs);
+        return clusterLayer;
+    }
+
+    private JLBulkBuilder<JLMarker> markersBuilder(boolean draggable) {
+        return JLBulkBuilder.markers()
+                .setTransporter(getTransporter())
+                .withOptions(JLOptions.DEFAULT.toBuilder().draggable(draggable).build())
+                .withLazyCallbacks(
+                        JLAction.MOVE,
+                        JLAction.MOVE_START,
+                        JLAction.MOVE_END,
+                        JLAction.DRAG,
+                        JLAction.DRAG_START,
+                        JLAction.DRAG_END,
+                        JLAction.ADD,
+                        JLAction.REMOVE,
+                        JLAction.CLICK,
+                        JLAction.DOUBLE_CLICK,
+                        JLAction.CONTEXT_MENU);
+    }
+
     /**
      * Remove a {{@link JLMarker}} from the map.
      *
@@ -73,7 +154,13 @@ public class JLUiLayer extends JLLayer implements LeafletUILayerInt {
      */
     @Override
     public boolean removeMarker(String id) {
-        engine.executeScript(removeLayerWithUUID(id));
+        JLMarker marker = callbackHandler.getRegistry().get(id, JLMarker.class);
+        if (marker != null) {
+            // releases the marker from its layers too, culled or clustered ones aren't on the client
+            marker.remove();
+        } else {
+            executeScript(removeLayerWithUUID(id));
+        }
         callbackHandler.remove(JLMarker.class, id);
         return true;
     }
@@ -96,7 +183,7 @@ public class JLUiLayer extends JLLayer implements LeafletUILayerInt {
                 .setLng(latLng.getLng())
                 .setContent(text)
                 .withOptions(options)
-                .withCallbacks(jlCallbackBuilder -> {
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.CLICK);
                     jlCallbackBuilder.on(JLAction.DOUBLE_CLICK);
                     jlCallbackBuilder.on(JLAction.CONTEXT_MENU);
@@ -104,7 +191,7 @@ public class JLUiLayer extends JLLayer implements LeafletUILayerInt {
                     jlCallbackBuilder.on(JLAction.REMOVE);
                 })
                 .setTransporter(getTransporter());
-        engine.executeScript(popupBuilder.buildJsElement());
+        executeScript(popupBuilder.buildJsElement());
         JLPopup popup = popupBuilder.buildJLObject();
         callbackHandler.addJLObject(elementUniqueName, popup);
         return popup;
@@ -128,7 +215,7 @@ public class JLUiLayer extends JLLayer implements LeafletUILayerInt {
      */
     @Override
     public boolean removePopup(String id) {
-        engine.executeScript(removeLayerWithUUID(id));
+        executeScript(removeLayerWithUUID(id));
         callbackHandler.remove(JLPopup.class, id);
         return true;
     }
@@ -152,7 +239,7 @@ public class JLUiLayer extends JLLayer implements LeafletUILayerInt {
                         new double[]{bounds.getNorthEast().getLat(), bounds.getNorthEast().getLng()}
                 ))
                 .setTransporter(getTransporter())
-                .withCallbacks(jlCallbackBuilder -> {
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.CLICK);
                     jlCallbackBuilder.on(JLAction.DOUBLE_CLICK);
                     jlCallbackBuilder.on(JLAction.CONTEXT_MENU);
@@ -160,7 +247,7 @@ public class JLUiLayer extends JLLayer implements LeafletUILayerInt {
                     jlCallbackBuilder.on(JLAction.REMOVE);
                 })
                 .withOptions(options);
-        engine.executeScript(imageBuilder.buildJsElement());
+        executeScript(imageBuilder.buildJsElement());
         JLImageOverlay overlay = imageBuilder.buildJLObject();
         callbackHandler.addJLObject(elementUniqueName, overlay);
         return overlay;
@@ -10,8 +10,7 @@ import io.github.makbn.jlmap.model.builder.*;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -49,24 +48,71 @@ public class JLVectorLayer extends JLLayer implements LeafletVectorLayerInt {
      */
     @Override
     public JLPolyline addPolyline(JLLatLng[] vertices, JLOptions options) {
+        return addPolyline(vertices, options, 0);
+    }
+
+    /**
+     * Drawing polyline overlays on the map that only show the points needed at the zoom level
+     * of the map, see {@link JLPathLevels}.
+     *
+     * @param vertices          arrays of LatLng points
+     * @param options           see {@link JLOptions} for customizing
+     * @param simplifyTolerance maximum deviation of the shown polyline in pixels, {@code 0} to show all points
+     * @return the added {@link JLPolyline} to map
+     */
+    @Override
+    public JLPolyline addPolyline(JLLatLng[] vertices, JLOptions options, double simplifyTolerance) {
         String elementUniqueName = getElementUniqueName(JLGeoJson.class, idGenerator.incrementAndGet());
         JLPolylineBuilder builder = new JLPolylineBuilder()
                 .setUuid(elementUniqueName)
                 .withOptions(options)
-                .addLatLngs(Arrays.stream(vertices).map(latLng -> new double[]{latLng.getLat(), latLng.getLng()}).toList())
-                .withCallbacks(jlCallbackBuilder -> {
+                .withCoordinateEncoding(engine.getCoordinateEncoding())
+                .withLevelsOfDetail(simplifyTolerance, callbackHandler.getZoom())
+                .addLatLngs(vertices)
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.ADD);
                     jlCallbackBuilder.on(JLAction.REMOVE);
                     jlCallbackBuilder.on(JLAction.CLICK);
                     jlCallbackBuilder.on(JLAction.DOUBLE_CLICK);
                 })
                 .setTransporter(getTransporter());
-        engine.executeScript(builder.buildJsElement());
+        executeScript(builder.buildJsElement());
         JLPolyline polyline = builder.buildJLObject();
         callbackHandler.addJLObject(elementUniqueName, polyline);
         return polyline;
     }
 
+    /**
+     * Drawing a set of polyline overlays on the map in one go. The whole set is shipped to the
+     * client as a single payload and registered in the event handler together.
+     *
+     * @param polylines vertices of each polyline
+     * @param options   see {@link JLOptions} for customizing
+     * @return the added {@link JLPolyline}s, in the iteration order of {@code polylines}
+     * @see JLVectorLayer#addPolyline(JLLatLng[], JLOptions)
+     */
+    @Override
+    public List<JLPolyline> addPolylines(Collection<JLLatLng[]> polylines, JLOptions options) {
+        JLBulkBuilder<JLPolyline> bulkBuilder = JLBulkBuilder.polylines()
+                .setTransporter(getTransporter())
+                .withOptions(options)
+                .withCoordinateEncoding(engine.getCoordinateEncoding())
+                .withLazyCallbacks(
+                        JLAction.ADD,
+                        JLAction.REMOVE,
+                        JLAction.CLICK,
+                        JLAction.DOUBLE_CLICK);
+        polylines.forEach(vertices -> bulkBuilder.add(getElementUniqueName(JLPolyline.class, idGenerator.incrementAndGet()), vertices));
+        if (bulkBuilder.size() == 0) {
+            return List.of();
+        }
+
+        dispatch(bulkBuilder.buildOperations());
+        List<JLPolyline> result = bulkBuilder.buildJLObjects();
+        callbackHandler.addJLObjects(result);
+        return result;
+    }
+
     /**
      * Remove a polyline from the map by id.
      *
@@ -75,7 +121,7 @@ public class JLVectorLayer extends JLLayer implements LeafletVectorLayerInt {
      */
     @Override
     public boolean removePolyline(String id) {
-        engine.executeScript(removeLayerWithUUID(id));
+        executeScript(removeLayerWithUUID(id));
 
         callbackHandler.remove(JLPolyline.class, id);
         callbackHandler.remove(JLMultiPolyline.class, id);
@@ -108,7 +154,8 @@ public class JLVectorLayer extends JLLayer implements LeafletVectorLayerInt {
         JLMultiPolylineBuilder builder = new JLMultiPolylineBuilder()
                 .setUuid(elementUniqueName)
                 .withOptions(options)
-                .withCallbacks(jlCallbackBuilder -> {
+                .withCoordinateEncoding(engine.getCoordinateEncoding())
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.ADD);
                     jlCallbackBuilder.on(JLAction.REMOVE);
                     jlCallbackBuilder.on(JLAction.CLICK);
@@ -116,13 +163,9 @@ public class JLVectorLayer extends JLLayer implements LeafletVectorLayerInt {
                 })
                 .setTransporter(getTransporter());
         for (JLLatLng[] group : vertices) {
-            List<double[]> groupList = new ArrayList<>();
-            for (JLLatLng v : group) {
-                groupList.add(new double[]{v.getLat(), v.getLng()});
-            }
-            builder.addLine(groupList);
+            builder.addLine(group);
         }
-        engine.executeScript(builder.buildJsElement());
+        executeScript(builder.buildJsElement());
         JLMultiPolyline multiPolyline = builder.buildJLObject();
         callbackHandler.addJLObject(elementUniqueName, multiPolyline);
         return multiPolyline;
@@ -136,7 +179,7 @@ public class JLVectorLayer extends JLLayer implements LeafletVectorLayerInt {
      */
     @Override
     public boolean removeMultiPolyline(String id) {
-        engine.executeScript(removeLayerWithUUID(id));
+        executeScript(removeLayerWithUUID(id));
         callbackHandler.remove(JLMultiPolyline.class, id);
         return true;
     }
@@ -149,11 +192,27 @@ public class JLVectorLayer extends JLLayer implements LeafletVectorLayerInt {
      */
     @Override
     public JLPolygon addPolygon(JLLatLng[][][] vertices, JLOptions options) {
+        return addPolygon(vertices, options, 0);
+    }
+
+    /**
+     * Drawing polygon overlays on the map that only show the points needed at the zoom level
+     * of the map, see {@link JLPathLevels}.
+     *
+     * @param vertices          arrays of LatLng points
+     * @param options           see {@link JLOptions} for customizing
+     * @param simplifyTolerance maximum deviation of the shown polygon in pixels, {@code 0} to show all points
+     * @return the added {@link JLPolygon} to map
+     */
+    @Override
+    public JLPolygon addPolygon(JLLatLng[][][] vertices, JLOptions options, double simplifyTolerance) {
         String elementUniqueName = getElementUniqueName(JLGeoJson.class, idGenerator.incrementAndGet());
         JLPolygonBuilder builder = new JLPolygonBuilder()
                 .setUuid(elementUniqueName)
                 .withOptions(options)
-                .withCallbacks(jlCallbackBuilder -> {
+                .withCoordinateEncoding(engine.getCoordinateEncoding())
+                .withLevelsOfDetail(simplifyTolerance, callbackHandler.getZoom())
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.ADD);
                     jlCallbackBuilder.on(JLAction.REMOVE);
                     jlCallbackBuilder.on(JLAction.CLICK);
@@ -161,15 +220,9 @@ public class JLVectorLayer extends JLLayer implements LeafletVectorLayerInt {
                 })
                 .setTransporter(getTransporter());
         for (JLLatLng[][] group : vertices) {
-            List<double[]> groupList = new ArrayList<>();
-            for (JLLatLng[] ring : group) {
-                for (JLLatLng v : ring) {
-                    groupList.add(new double[]{v.getLat(), v.getLng()});
-                }
-            }
-            builder.addLatLngGroup(groupList);
+            builder.addLatLngGroup(group);
         }
-        engine.executeScript(builder.buildJsElement());
+        executeScript(builder.buildJsElement());
         JLPolygon polygon = builder.buildJLObject();
         callbackHandler.addJLObject(elementUniqueName, polygon);
         return polygon;
@@ -194,7 +247,7 @@ public class JLVectorLayer extends JLLayer implements LeafletVectorLayerInt {
      */
     @Override
     public boolean removePolygon(String id) {
-        String result = engine.executeScript(removeLayerWithUUID(id)).toString();
+        String result = executeScript(removeLayerWithUUID(id)).toString();
 
         callbackHandler.remove(JLPolygon.class, id);
 
@@ -220,7 +273,7 @@ public class JLVectorLayer extends JLLayer implements LeafletVectorLayerInt {
                 .setRadius(radius)
                 .setTransporter(getTransporter())
                 .withOptions(options)
-                .withCallbacks(jlCallbackBuilder -> {
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.MOVE);
                     jlCallbackBuilder.on(JLAction.ADD);
                     jlCallbackBuilder.on(JLAction.REMOVE);
@@ -228,7 +281,7 @@ public class JLVectorLayer extends JLLayer implements LeafletVectorLayerInt {
                     jlCallbackBuilder.on(JLAction.DOUBLE_CLICK);
                 });
 
-        engine.executeScript(circleBuilder.buildJsElement());
+        executeScript(circleBuilder.buildJsElement());
         var circle = circleBuilder.buildJLObject();
         callbackHandler.addJLObject(elementUniqueName, circle);
         return circle;
@@ -253,7 +306,7 @@ public class JLVectorLayer extends JLLayer implements LeafletVectorLayerInt {
      */
     @Override
     public boolean removeCircle(String id) {
-        String result = engine.executeScript(removeLayerWithUUID(id)).toString();
+        String result = executeScript(removeLayerWithUUID(id)).toString();
 
         callbackHandler.remove(JLCircle.class, id);
 
@@ -279,7 +332,7 @@ public class JLVectorLayer extends JLLayer implements LeafletVectorLayerInt {
                 .setRadius(radius)
                 .setTransporter(getTransporter())
                 .withOptions(options)
-                .withCallbacks(jlCallbackBuilder -> {
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.MOVE);
                     jlCallbackBuilder.on(JLAction.ADD);
                     jlCallbackBuilder.on(JLAction.REMOVE);
@@ -287,7 +340,7 @@ public class JLVectorLayer extends JLLayer implements LeafletVectorLayerInt {
                     jlCallbackBuilder.on(JLAction.DOUBLE_CLICK);
                 });
 
-        engine.executeScript(circleMarkerBuilder.buildJsElement());
+        executeScript(circleMarkerBuilder.buildJsElement());
         var circleMarker = circleMarkerBuilder.buildJLObject();
         callbackHandler.addJLObject(elementUniqueName, circleMarker);
         return circleMarker;
@@ -304,6 +357,39 @@ public class JLVectorLayer extends JLLayer implements LeafletVectorLayerInt {
         return addCircleMarker(center, JLProperties.DEFAULT_CIRCLE_MARKER_RADIUS, JLOptions.DEFAULT);
     }
 
+    /**
+     * Drawing a set of circle marker overlays on the map in one go. The whole set is shipped to
+     * the client as a single payload and registered in the event handler together.
+     *
+     * @param centers latLng points of the circle markers
+     * @param radius  radius of the circle markers in pixels
+     * @param options see {@link JLOptions} for customizing
+     * @return the added {@link JLCircleMarker}s, in the iteration order of {@code centers}
+     * @see JLVectorLayer#addCircleMarker(JLLatLng, int, JLOptions)
+     */
+    @Override
+    public List<JLCircleMarker> addCircleMarkers(Collection<JLLatLng> centers, int radius, JLOptions options) {
+        JLBulkBuilder<JLCircleMarker> bulkBuilder = JLBulkBuilder.circleMarkers()
+                .setRadius(radius)
+                .setTransporter(getTransporter())
+                .withOptions(options)
+                .withLazyCallbacks(
+                        JLAction.MOVE,
+                        JLAction.ADD,
+                        JLAction.REMOVE,
+                        JLAction.CLICK,
+                        JLAction.DOUBLE_CLICK);
+        centers.forEach(center -> bulkBuilder.add(getElementUniqueName(JLCircleMarker.class, idGenerator.incrementAndGet()), center));
+        if (bulkBuilder.size() == 0) {
+            return List.of();
+        }
+
+        dispatch(bulkBuilder.buildOperations());
+        List<JLCircleMarker> circleMarkers = bulkBuilder.buildJLObjects();
+        callbackHandler.addJLObjects(circleMarkers);
+        return circleMarkers;
+    }
+
     /**
      * Remove a circle marker from the map by id.
      *
@@ -312,7 +398,7 @@ public class JLVectorLayer extends JLLayer implements LeafletVectorLayerInt {
      */
     @Override
     public boolean removeCircleMarker(String id) {
-        String result = engine.executeScript(removeLayerWithUUID(id)).toString();
+        String result = executeScript(removeLayerWithUUID(id)).toString();
 
         callbackHandler.remove(JLCircleMarker.class, id);
 
@@ -1,13 +1,16 @@
 package io.github.makbn.jlmap.fx.test.internal;
 
 import io.github.makbn.jlmap.fx.internal.JLFxMapRenderer;
+import io.github.makbn.jlmap.listener.JLAction;
 import io.github.makbn.jlmap.map.JLMapProvider;
+import io.github.makbn.jlmap.model.JLEventRate;
 import io.github.makbn.jlmap.model.JLLatLng;
 import io.github.makbn.jlmap.model.JLMapOption;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.provider.Arguments;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -224,4 +227,50 @@ class JLFxMapRendererTest {
         assertThat(html).contains("<meta charset=\"utf-8\"");
         assertThat(html).contains("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\"");
     }
-}
\ No newline at end of file
+
+    @Test
+    void render_withEventRates_shouldWrapEventHandlerWithRateLimits() {
+        // Given
+        JLMapOption option = JLMapOption.builder()
+                .startCoordinate(JLLatLng.builder().lat(52.5200).lng(13.4050).build())
+                .eventRates(Map.of(
+                        JLAction.MOVE, JLEventRate.throttle(100),
+                        JLAction.ZOOM, JLEventRate.coalesce(0)))
+                .build();
+
+        // When
+        String html = renderer.render(option);
+
+        // Then
+        assertThat(html).contains("eventHandler = window.jlDispatch.rateLimited(eventHandler, "
+                + "{\"move\":{\"mode\":\"throttle\",\"interval\":100},\"zoom\":{\"mode\":\"coalesce\",\"interval\":0}});");
+        assertThat(html.indexOf("rateLimited(eventHandler")).isLessThan(html.indexOf("this.outr_eventHandler = eventHandler;"));
+    }
+
+    @Test
+    void render_withoutEventRates_shouldNotWrapEventHandler() {
+        // When
+        String html = renderer.render(createDefaultMapOption());
+
+        // Then
+        assertThat(html).doesNotContain("rateLimited(eventHandler");
+    }
+
+    @Test
+    void render_withEventBatching_shouldSendEventsInBatches() {
+        // Given
+        JLMapOption option = JLMapOption.builder()
+                .startCoordinate(JLLatLng.builder().lat(52.5200).lng(13.4050).build())
+                .eventBatchInterval(0)
+                .eventRates(Map.of(JLAction.MOVE, JLEventRate.debounce(50)))
+                .build();
+
+        // When
+        String html = renderer.render(option);
+
+        // Then
+        assertThat(html).contains("eventHandler = window.jlDispatch.batched(events => {");
+        assertThat(html).contains("serverCallback.functionsCalled(events);");
+        assertThat(html.indexOf("jlDispatch.batched(")).isLessThan(html.indexOf("jlDispatch.rateLimited(eventHandler"));
+    }
+}
@@ -1,8 +1,13 @@
 package io.github.makbn.jlmap.fx.test.layer;
 
+import io.github.makbn.jlmap.JLClusterLayer;
 import io.github.makbn.jlmap.JLMapEventHandler;
+import io.github.makbn.jlmap.JLObjectRegistry;
+import io.github.makbn.jlmap.JLViewportLayer;
 import io.github.makbn.jlmap.engine.JLWebEngine;
 import io.github.makbn.jlmap.fx.layer.JLUiLayer;
+import io.github.makbn.jlmap.listener.JLAction;
+import io.github.makbn.jlmap.listener.event.ClickEvent;
 import io.github.makbn.jlmap.model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +16,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
@@ -80,14 +87,176 @@ class JLUiLayerTest {
         assertThat(script).contains("[52.520000, 13.405000]");
         assertThat(script).contains("draggable: false");
         assertThat(script).contains("addTo(this.map)");
-        assertThat(script).contains("on('move'");
-        assertThat(script).contains("on('click'");
+        assertThat(script).contains(".on('remove', window.jlDispatch.forwarder(").doesNotContain(".on('click'");
 
         assertThat(result).isNotNull();
         assertThat(result.getJLId()).startsWith("JLGeoJson");
         assertThat(result.getText()).isEqualTo(text);
     }
 
+    @Test
+    void addMarker_withListener_shouldRegisterListenedActionsOnClient() {
+        // Given
+        JLLatLng position = JLLatLng.builder().lat(52.5200).lng(13.4050).build();
+        JLMarker marker = uiLayer.addMarker(position, "Marker", false);
+
+        // When
+        marker.setOnActionListener((source, event) -> {
+        }, JLAction.CLICK, JLAction.MOVE);
+        marker.setOnActionListener(null);
+
+        // Then
+        ArgumentCaptor<String> operationsCaptor = ArgumentCaptor.forClass(String.class);
+        verify(engine, times(2)).dispatch(operationsCaptor.capture());
+        assertThat(operationsCaptor.getAllValues()).containsExactly(
+                "[[\"" + marker.getJLId() + "\",\"on\",[\"move click\",{\"$forwarder\":\"jlmarker\"}]]]",
+                "[[\"" + marker.getJLId() + "\",\"off\",[\"move click\",{\"$forwarder\":\"jlmarker\"}]]]");
+        assertThat(marker.getAttachedActions()).isEmpty();
+    }
+
+    @Test
+    void addViewportMarkers_shouldOnlySendMarkersInsideViewport() {
+        // Given
+        JLViewportLayer<JLMarker> layer = uiLayer.addViewportMarkers(List.of(
+                JLLatLng.builder().lat(52.52).lng(13.405).build(),
+                JLLatLng.builder().lat(48.857).lng(2.352).build()), false);
+        JLMarker berlin = layer.query(bounds(52, 13, 53, 14)).get(0);
+
+        // When
+        layer.applyViewport(bounds(52, 13, 53, 14));
+        layer.applyViewport(bounds(48, 2, 49, 3));
+
+        // Then
+        ArgumentCaptor<String> operationsCaptor = ArgumentCaptor.forClass(String.class);
+        verify(engine, times(4)).dispatch(operationsCaptor.capture());
+        List<String> operations = operationsCaptor.getAllValues();
+        assertThat(operations.get(0)).isEqualTo("[[\"$\",\"reportView\",[]]]");
+        assertThat(operations.get(1)).contains("\"addAll\"", berlin.getJLId()).doesNotContain("48.857");
+        assertThat(operations.get(2)).isEqualTo("[[\"$\",\"removeAll\",[[\"" + berlin.getJLId() + "\"]]]]");
+        assertThat(operations.get(3)).contains("\"addAll\"", "48.857");
+        assertThat(layer.size()).isEqualTo(2);
+        assertThat(layer.getMaterializedCount()).isEqualTo(1);
+        verify(callbackHandler).addViewportDependent(layer);
+    }
+
+    @Test
+    void addViewportMarkers_withCulledMarker_shouldOnlyUpdateLayerOnMoveAndRemove() {
+        // Given
+        JLObjectRegistry registry = new JLObjectRegistry();
+        when(callbackHandler.getRegistry()).thenReturn(registry);
+        JLViewportLayer<JLMarker> layer = uiLayer.addViewportMarkers(List.of(
+                JLLatLng.builder().lat(52.52).lng(13.405).build(),
+                JLLatLng.builder().lat(48.857).lng(2.352).build()), false);
+        layer.applyViewport(bounds(52, 13, 53, 14));
+        JLMarker berlin = layer.query(bounds(52, 13, 53, 14)).get(0);
+        JLMarker paris = layer.query(bounds(48, 2, 49, 3)).get(0);
+        registry.put(paris.getJLId(), paris);
+
+        // When
+        paris.setLatLng(JLLatLng.builder().lat(45.764).lng(4.836).build());
+        boolean removed = uiLayer.removeMarker(paris.getJLId());
+
+        // Then
+        verify(engine, times(2)).dispatch(anyString());
+        verify(engine, never()).executeScript(anyString());
+        assertThat(removed).isTrue();
+        assertThat(paris.isMaterialized()).isFalse();
+        assertThat(registry.contains(paris.getJLId())).isFalse();
+        assertThat(layer.size()).isEqualTo(1);
+        assertThat(layer.query(bounds(40, 0, 60, 20))).containsExactly(berlin);
+    }
+
+    @Test
+    void addClusteredMarkers_shouldSendClustersForZoomAndExpandOnClick() {
+        // Given
+        when(callbackHandler.getZoom()).thenReturn(5, 17);
+        when(callbackHandler.getRegistry()).thenReturn(new JLObjectRegistry());
+        JLClusterLayer layer = uiLayer.addClusteredMarkers(List.of(
+                JLLatLng.builder().lat(52.52).lng(13.405).build(),
+                JLLatLng.builder().lat(52.40).lng(13.06).build(),
+                JLLatLng.builder().lat(48.857).lng(2.352).build()), false);
+
+        // When
+        layer.applyViewport(bounds(40, 0, 60, 20));
+        JLMarkerCluster cluster = layer.getClusters().get(0);
+        List<JLMarker> members = layer.getMarkers(cluster);
+        cluster.getOnActionListener().onAction(cluster, new ClickEvent(JLAction.CLICK, cluster.getLatLng()));
+        layer.applyViewport(bounds(40, 0, 60, 20));
+
+        // Then
+        ArgumentCaptor<String> operationsCaptor = ArgumentCaptor.forClass(String.class);
+        verify(engine, times(6)).dispatch(operationsCaptor.capture());
+        List<String> operations = operationsCaptor.getAllValues();
+        assertThat(cluster.getCount()).isEqualTo(2);
+        assertThat(members).hasSize(2);
+        assertThat(layer.getMarkers(cluster)).isEmpty();
+        assertThat(operations.get(0)).isEqualTo("[[\"$\",\"reportView\",[]]]");
+        assertThat(operations.get(1)).contains("\"addClusters\"", cluster.getJLId(), "[2]");
+        assertThat(operations.get(2)).contains("\"addAll\"", "48.857").doesNotContain("52.52");
+        assertThat(operations.get(3)).startsWith("[[\"map\",\"setView\",")
+                .endsWith("," + cluster.getExpansionZoom() + "]]]");
+        assertThat(operations.get(4)).isEqualTo("[[\"$\",\"removeAll\",[[\"" + cluster.getJLId() + "\"]]]]");
+        assertThat(operations.get(5)).contains("\"addAll\"", "52.52", "52.4").doesNotContain("48.857");
+        assertThat(layer.getMaterializedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void addClusteredMarkers_afterRebuild_shouldKeepUnchangedClusters() {
+        // Given
+        when(callbackHandler.getZoom()).thenReturn(5);
+        JLClusterLayer layer = uiLayer.addClusteredMarkers(List.of(
+                JLLatLng.builder().lat(52.52).lng(13.405).build(),
+                JLLatLng.builder().lat(52.40).lng(13.06).build()), false);
+        layer.applyViewport(bounds(40, 0, 60, 20));
+        JLMarkerCluster cluster = layer.getClusters().get(0);
+
+        // When
+        JLMarker paris = layer.add(JLLatLng.builder().lat(48.857).lng(2.352).build());
+        paris.setLatLng(JLLatLng.builder().lat(48.86).lng(2.35).build());
+        layer.refresh();
+
+        // Then
+        ArgumentCaptor<String> operationsCaptor = ArgumentCaptor.forClass(String.class);
+        verify(engine, times(4)).dispatch(operationsCaptor.capture());
+        List<String> operations = operationsCaptor.getAllValues();
+        assertThat(operations.get(2)).contains("\"addAll\"", "48.857");
+        assertThat(operations.get(3)).contains("setLatLng", "48.86")
+                .doesNotContain("removeAll", "addClusters");
+        assertThat(layer.getClusters()).containsExactly(cluster);
+    }
+
+    @Test
+    void addClusteredMarkers_withClusteredMarker_shouldOnlyUpdateLayerOnMoveAndRemove() {
+        // Given
+        when(callbackHandler.getZoom()).thenReturn(5);
+        when(callbackHandler.getRegistry()).thenReturn(new JLObjectRegistry());
+        JLClusterLayer layer = uiLayer.addClusteredMarkers(List.of(
+                JLLatLng.builder().lat(52.52).lng(13.405).build(),
+                JLLatLng.builder().lat(52.40).lng(13.06).build(),
+                JLLatLng.builder().lat(48.857).lng(2.352).build()), false);
+        layer.applyViewport(bounds(40, 0, 60, 20));
+        JLMarkerCluster cluster = layer.getClusters().get(0);
+        JLMarker berlin = layer.getMarkers(cluster).stream()
+                .filter(marker -> marker.getLatLng().getLat() == 52.52)
+                .findFirst().orElseThrow();
+
+        // When
+        berlin.setLatLng(JLLatLng.builder().lat(52.50).lng(13.40).build());
+        boolean removed = layer.remove(berlin);
+        layer.refresh();
+
+        // Then
+        ArgumentCaptor<String> operationsCaptor = ArgumentCaptor.forClass(String.class);
+        verify(engine, times(5)).dispatch(operationsCaptor.capture());
+        List<String> operations = operationsCaptor.getAllValues();
+        assertThat(removed).isTrue();
+        assertThat(berlin.isMaterialized()).isFalse();
+        assertThat(operations.get(3)).isEqualTo("[[\"$\",\"removeAll\",[[\"" + cluster.getJLId() + "\"]]]]");
+        assertThat(operations.get(4)).contains("\"addAll\"", "52.4").doesNotContain("52.5");
+        assertThat(layer.size()).isEqualTo(2);
+        assertThat(layer.getClusters()).isEmpty();
+    }
+
     @Test
     void addMarker_withDraggableMarker_shouldExecuteScriptWithDraggableTrue() {
         // Given
@@ -131,6 +300,7 @@ class JLUiLayerTest {
     void removeMarker_shouldExecuteRemoveScript() {
         // Given
         String markerId = "testMarkerId";
+        when(callbackHandler.getRegistry()).thenReturn(new JLObjectRegistry());
 
         // When
         boolean result = uiLayer.removeMarker(markerId);
@@ -293,4 +463,11 @@ class JLUiLayerTest {
         assertThat(marker1.getJLId()).startsWith("JLGeoJson");
         assertThat(marker2.getJLId()).startsWith("JLGeoJson");
     }
+
+    private static JLBounds bounds(double south, double west, double north, double east) {
+        return JLBounds.builder()
+                .southWest(JLLatLng.builder().lat(south).lng(west).build())
+                .northEast(JLLatLng.builder().lat(north).lng(east).build())
+                .build();
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package io.github.makbn.jlmap.fx.test.layer;
 
 import io.github.makbn.jlmap.JLMapEventHandler;
+import io.github.makbn.jlmap.engine.JLTransportBatch;
 import io.github.makbn.jlmap.engine.JLWebEngine;
 import io.github.makbn.jlmap.fx.layer.JLVectorLayer;
 import io.github.makbn.jlmap.model.*;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -166,9 +168,7 @@ class JLVectorLayerTest {
         assertThat(script).contains("L.circle");
         assertThat(script).contains("[52.520000, 13.405000]");
         assertThat(script).contains("radius: 1000.000000"); // Default radius
-        assertThat(script).contains("on('move'");
-        assertThat(script).contains("on('add'");
-        assertThat(script).contains("on('remove'");
+        assertThat(script).contains(".on('remove', window.jlDispatch.forwarder(").doesNotContain(".on('click'");
 
         assertThat(result).isNotNull();
         assertThat(result.getJLId()).startsWith("JLCircle");
@@ -215,6 +215,31 @@ class JLVectorLayerTest {
         assertThat(result).isTrue();
     }
 
+    @Test
+    void removeCircle_afterBatchedSetter_shouldSendSetterFirst() {
+        // Given
+        JLTransportBatch batch = new JLTransportBatch(operations -> engine.dispatch(operations), flush -> {
+        });
+        batch.setEnabled(true);
+        when(engine.getTransportBatch()).thenReturn(batch);
+        doAnswer(invocation -> {
+            batch.flush();
+            return null;
+        }).when(engine).flush();
+        when(engine.executeScript(anyString())).thenReturn("true");
+        JLCircle circle = vectorLayer.addCircle(JLLatLng.builder().lat(52.5200).lng(13.4050).build());
+
+        // When
+        circle.setRadius(500);
+        vectorLayer.removeCircle(circle.getJLId());
+
+        // Then
+        InOrder inOrder = inOrder(engine);
+        inOrder.verify(engine).dispatch(argThat(operations -> operations.contains("\"setRadius\"")));
+        inOrder.verify(engine).executeScript("this.map.removeLayer(this." + circle.getJLId() + ")");
+        assertThat(batch.size()).isZero();
+    }
+
     // === Circle Marker Tests ===
 
     @Test
@@ -233,9 +258,7 @@ class JLVectorLayerTest {
         String script = scriptCaptor.getValue();
         assertThat(script).contains("L.circleMarker");
         assertThat(script).contains("[52.520000, 13.405000]");
-        assertThat(script).contains("on('move'");
-        assertThat(script).contains("on('click'");
-        assertThat(script).contains("on('dblclick'");
+        assertThat(script).contains(".on('remove', window.jlDispatch.forwarder(").doesNotContain(".on('click'");
 
         assertThat(result).isNotNull();
         assertThat(result.getJLId()).startsWith("JLCircleMarker");
@@ -12,13 +12,17 @@ import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.page.PendingJavaScriptResult;
 import io.github.makbn.jlmap.JLMap;
 import io.github.makbn.jlmap.JLMapEventHandler;
+import io.github.makbn.jlmap.JLObjectRegistry;
 import io.github.makbn.jlmap.element.menu.JLContextMenu;
+import io.github.makbn.jlmap.engine.JLClientDispatcher;
 import io.github.makbn.jlmap.engine.JLWebEngine;
 import io.github.makbn.jlmap.layer.leaflet.LeafletLayer;
 import io.github.makbn.jlmap.listener.JLAction;
 import io.github.makbn.jlmap.listener.OnJLActionListener;
 import io.github.makbn.jlmap.listener.event.MapEvent;
 import io.github.makbn.jlmap.map.JLMapProvider;
+import io.github.makbn.jlmap.model.JLCoordinateEncoding;
+import io.github.makbn.jlmap.model.JLEventRate;
 import io.github.makbn.jlmap.model.JLLatLng;
 import io.github.makbn.jlmap.model.JLMapOption;
 import io.github.makbn.jlmap.vaadin.engine.JLVaadinClientToServerTransporter;
@@ -37,6 +41,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -78,9 +83,29 @@ public class JLMapView extends VerticalLayout implements JLMap<PendingJavaScript
      * @param startCoordinate    the initial latLng coordinates of the map
      * @param showZoomController whether to show the zoom controller
      */
-    @Builder
     public JLMapView(@NonNull JLMapProvider jlMapProvider,
                      @NonNull JLLatLng startCoordinate, boolean showZoomController) {
+        this(jlMapProvider, startCoordinate, showZoomController, null, null, null, null);
+    }
+
+    /**
+     * Used by the builder, which also takes the optional settings of {@link JLMapOption}.
+     *
+     * @see #JLMapView(JLMapProvider, JLLatLng, boolean)
+     * @param eventRates         optional client-side rate limits of the events sent to the server
+     * @param eventBatchInterval optional interval in which events are sent to the server as one call,
+     *                           see {@link JLMapOption#getEventBatchInterval()}
+     * @param objectRetention    optional retention of the objects the map dispatches events to,
+     *                           see {@link JLMapOption#getObjectRetention()}
+     * @param coordinateEncoding optional encoding of the vertices of paths sent to the client,
+     *                           see {@link JLMapOption#getCoordinateEncoding()}
+     */
+    @Builder
+    private JLMapView(@NonNull JLMapProvider jlMapProvider,
+                      @NonNull JLLatLng startCoordinate, boolean showZoomController,
+                      @Nullable Map<JLAction, JLEventRate> eventRates, @Nullable Long eventBatchInterval,
+                      @Nullable JLObjectRegistry.Retention objectRetention,
+                      @Nullable JLCoordinateEncoding coordinateEncoding) {
         super();
         setSizeFull();
         setMinHeight("100%");
@@ -94,9 +119,14 @@ public class JLMapView extends VerticalLayout implements JLMap<PendingJavaScript
                 .jlMapProvider(jlMapProvider)
                 .additionalParameter(Set.of(new JLMapOption.Parameter("zoomControl",
                         Objects.toString(showZoomController))))
+                .eventRates(eventRates == null ? Map.of() : eventRates)
+                .eventBatchInterval(eventBatchInterval == null ? -1 : eventBatchInterval)
+                .objectRetention(objectRetention == null ? JLObjectRegistry.Retention.STRONG : objectRetention)
+                .coordinateEncoding(coordinateEncoding == null ? JLCoordinateEncoding.DEFAULT : coordinateEncoding)
                 .build();
         this.jlWebEngine = new JLVaadinEngine(this::getElement);
-        this.jlMapCallbackHandler = new JLMapEventHandler();
+        this.jlWebEngine.setCoordinateEncoding(mapOption.getCoordinateEncoding());
+        this.jlMapCallbackHandler = new JLMapEventHandler(mapOption.getObjectRetention());
         this.layers = new HashMap<>();
     }
 
@@ -180,6 +210,7 @@ public class JLMapView extends VerticalLayout implements JLMap<PendingJavaScript
                                });
                    }
                    this.jlMapElement = document.querySelector('jl-map-view');
+                   %s
                    this.map = L.map(this.jlMapElement, {zoomControl: %b}).setView([%s, %s], %d);
                 
                    L.tileLayer('%s')
@@ -201,13 +232,43 @@ public class JLMapView extends VerticalLayout implements JLMap<PendingJavaScript
                     });
                 """;
 
-        return call.formatted(mapOption.zoomControlEnabled(),
+        return JLClientDispatcher.SCRIPT + call.formatted(eventHandlerWrappers(),
+                mapOption.zoomControlEnabled(),
                 mapOption.getStartCoordinate().getLat(),
                 mapOption.getStartCoordinate().getLng(),
                 mapOption.getInitialZoom(),
                 mapOption.getJlMapProvider().getMapProviderAddress());
     }
 
+    /**
+     * Wraps the server callback with the configured event batching and client-side rate limits,
+     * once per element.
+     *
+     * @return the JavaScript statement, empty if neither is configured
+     */
+    private String eventHandlerWrappers() {
+        if (!mapOption.isEventBatchingEnabled() && mapOption.getEventRates().isEmpty()) {
+            return "";
+        }
+        String handler = "server.eventHandler.bind(server)";
+        if (mapOption.isEventBatchingEnabled()) {
+            handler = "window.jlDispatch.batched(events => server.eventBatch(events), %d)"
+                    .formatted(mapOption.getEventBatchInterval());
+        }
+        if (!mapOption.getEventRates().isEmpty()) {
+            handler = "window.jlDispatch.rateLimited(%s, %s)"
+                    .formatted(handler, JLClientDispatcher.encodeEventRates(mapOption.getEventRates()));
+        }
+        //language=js
+        return """
+                if (!this.jlMapElement.$server.jlWrapped) {
+                    const server = this.jlMapElement.$server;
+                    server.eventHandler = %s;
+                    server.jlWrapped = true;
+                }
+                """.formatted(handler);
+    }
+
     /**
      * Initializes the map layers.
      */
@@ -238,6 +299,18 @@ public class JLMapView extends VerticalLayout implements JLMap<PendingJavaScript
         jlMapCallbackHandler.functionCalled(this, String.valueOf(function), jlType, uuid, additionalParam1, additionalParam2, additionalParam3);
     }
 
+    /**
+     * Called with the events the client collected while event batching is enabled.
+     *
+     * @param events JSON array of {@code [function, jlType, uuid, param1, param2, param3]} entries
+     * @see JLMapOption#getEventBatchInterval()
+     */
+    @ClientCallable
+    @SuppressWarnings("unused")
+    public void eventBatch(String events) {
+        jlMapCallbackHandler.functionsCalled(this, events);
+    }
+
     /**
      * Bridge method called from JavaScript to invoke Java methods on registered objects.
      * This enables the JavaScript-to-Java bridge functionality.
@@ -21,6 +21,7 @@ import java.util.function.Supplier;
  */
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class JLVaadinEngine extends JLWebEngine<PendingJavaScriptResult> {
+    private static final String DISPATCH_SCRIPT = "return window.jlDispatch(this, $0);";
     Supplier<Element> mapElement;
     @NonFinal
     Status currentStatus;
@@ -59,6 +60,34 @@ public class JLVaadinEngine extends JLWebEngine<PendingJavaScriptResult> {
                 .orElseThrow(() -> new JLException("Could not execute script " + script));
     }
 
+    /**
+     * Executes an operation list through the client dispatcher. The script itself is constant
+     * and the operations are passed as a parameter, so the browser compiles it only once.
+     *
+     * @param operations JSON encoded operation list
+     * @return the pending result of the last operation
+     */
+    @Override
+    public PendingJavaScriptResult dispatch(@NonNull String operations) {
+        if (mapElement.get() == null) {
+            throw new IllegalStateException("mapElement is null");
+        }
+        return mapElement.get().executeJs(DISPATCH_SCRIPT, operations);
+    }
+
+    /**
+     * Flushes batched transport requests right before the next response is sent to the client,
+     * so all updates issued during one server round-trip reach the browser as a single script.
+     *
+     * @param flush the flush action to run
+     */
+    @Override
+    protected void scheduleFlush(@NonNull Runnable flush) {
+        Element element = mapElement.get();
+        element.getNode().runWhenAttached(ui -> ui.getInternals().getStateTree()
+                .beforeClientResponse(element.getNode(), context -> flush.run()));
+    }
+
     /**
      * Gets the current status of the engine.
      * Note: Vaadin doesn't provide a direct way to check the status of JavaScript execution.
@@ -22,7 +22,7 @@ public class JLVaadinControlLayer extends JLVaadinLayer implements LeafletContro
      */
     @Override
     public void zoomIn(int delta) {
-        engine.executeScript(String.format("this.map.zoomIn(%d)", delta));
+        executeScript(String.format("this.map.zoomIn(%d)", delta));
     }
 
     /**
@@ -30,7 +30,7 @@ public class JLVaadinControlLayer extends JLVaadinLayer implements LeafletContro
      */
     @Override
     public void zoomOut(int delta) {
-        engine.executeScript(String.format("this.map.zoomOut(%d)", delta));
+        executeScript(String.format("this.map.zoomOut(%d)", delta));
     }
 
     /**
@@ -38,7 +38,7 @@ public class JLVaadinControlLayer extends JLVaadinLayer implements LeafletContro
      */
     @Override
     public void setZoom(int level) {
-        engine.executeScript(String.format("this.map.setZoom(%d)", level));
+        executeScript(String.format("this.map.setZoom(%d)", level));
     }
 
     /**
@@ -46,7 +46,7 @@ public class JLVaadinControlLayer extends JLVaadinLayer implements LeafletContro
      */
     @Override
     public void setZoomAround(JLLatLng latLng, int zoom) {
-        engine.executeScript(
+        executeScript(
                 String.format("this.map.setZoomAround(L.latLng(%f, %f), %d)",
                         latLng.getLat(), latLng.getLng(), zoom));
     }
@@ -56,7 +56,7 @@ public class JLVaadinControlLayer extends JLVaadinLayer implements LeafletContro
      */
     @Override
     public void fitBounds(JLBounds bounds) {
-        engine.executeScript(String.format("this.map.fitBounds(%s)",
+        executeScript(String.format("this.map.fitBounds(%s)",
                 bounds.toString()));
     }
 
@@ -65,7 +65,7 @@ public class JLVaadinControlLayer extends JLVaadinLayer implements LeafletContro
      */
     @Override
     public void fitWorld() {
-        engine.executeScript("this.map.fitWorld()");
+        executeScript("this.map.fitWorld()");
     }
 
     /**
@@ -73,7 +73,7 @@ public class JLVaadinControlLayer extends JLVaadinLayer implements LeafletContro
      */
     @Override
     public void panTo(JLLatLng latLng) {
-        engine.executeScript(String.format("this.map.panTo(L.latLng(%f, %f))",
+        executeScript(String.format("this.map.panTo(L.latLng(%f, %f))",
                 latLng.getLat(), latLng.getLng()));
     }
 
@@ -82,7 +82,7 @@ public class JLVaadinControlLayer extends JLVaadinLayer implements LeafletContro
      */
     @Override
     public void flyTo(JLLatLng latLng, int zoom) {
-        engine.executeScript(
+        executeScript(
                 String.format("this.map.flyTo(L.latLng(%f, %f), %d)",
                         latLng.getLat(), latLng.getLng(), zoom));
     }
@@ -92,7 +92,7 @@ public class JLVaadinControlLayer extends JLVaadinLayer implements LeafletContro
      */
     @Override
     public void flyToBounds(JLBounds bounds) {
-        engine.executeScript(String.format("this.map.flyToBounds(%s)",
+        executeScript(String.format("this.map.flyToBounds(%s)",
                 bounds.toString()));
     }
 
@@ -101,7 +101,7 @@ public class JLVaadinControlLayer extends JLVaadinLayer implements LeafletContro
      */
     @Override
     public void setMaxBounds(JLBounds bounds) {
-        engine.executeScript(String.format("this.map.setMaxBounds(%s)",
+        executeScript(String.format("this.map.setMaxBounds(%s)",
                 bounds.toString()));
     }
 
@@ -110,7 +110,7 @@ public class JLVaadinControlLayer extends JLVaadinLayer implements LeafletContro
      */
     @Override
     public void setMinZoom(int zoom) {
-        engine.executeScript(String.format("this.map.setMinZoom(%d)", zoom));
+        executeScript(String.format("this.map.setMinZoom(%d)", zoom));
     }
 
     /**
@@ -118,7 +118,7 @@ public class JLVaadinControlLayer extends JLVaadinLayer implements LeafletContro
      */
     @Override
     public void setMaxZoom(int zoom) {
-        engine.executeScript(String.format("this.map.setMaxZoom(%d)", zoom));
+        executeScript(String.format("this.map.setMaxZoom(%d)", zoom));
     }
 
     /**
@@ -126,7 +126,7 @@ public class JLVaadinControlLayer extends JLVaadinLayer implements LeafletContro
      */
     @Override
     public void panInsideBounds(JLBounds bounds) {
-        engine.executeScript(String.format("this.map.panInsideBounds(%s)",
+        executeScript(String.format("this.map.panInsideBounds(%s)",
                 bounds.toString()));
     }
 
@@ -135,7 +135,7 @@ public class JLVaadinControlLayer extends JLVaadinLayer implements LeafletContro
      */
     @Override
     public void panInside(JLLatLng latLng) {
-        engine.executeScript(
+        executeScript(
                 String.format("this.map.panInside(L.latLng(%f, %f))",
                         latLng.getLat(), latLng.getLng()));
     }
@@ -149,7 +149,7 @@ public class JLVaadinGeoJsonLayer extends JLVaadinLayer implements LeafletGeoJso
     @Override
     public boolean removeGeoJson(@NonNull String id) {
         try {
-            engine.executeScript(removeLayerWithUUID(id));
+            executeScript(removeLayerWithUUID(id));
             callbackHandler.remove(JLGeoJson.class, id);
             return true;
         } catch (RuntimeException e) {
@@ -174,14 +174,14 @@ public class JLVaadinGeoJsonLayer extends JLVaadinLayer implements LeafletGeoJso
                 .setGeoJson(geoJson)
                 .withGeoJsonOptions(options)
                 .withBridge(clientToServer)
-                .withCallbacks(jlCallbackBuilder -> {
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.CLICK);
                     jlCallbackBuilder.on(JLAction.DOUBLE_CLICK);
                     jlCallbackBuilder.on(JLAction.ADD);
                     jlCallbackBuilder.on(JLAction.REMOVE);
                 });
         var obj = builder.buildJLObject();
-        engine.executeScript(builder.buildJsElement());
+        executeScript(builder.buildJsElement());
         callbackHandler.addJLObject(elementUniqueName, obj);
         return obj;
     }
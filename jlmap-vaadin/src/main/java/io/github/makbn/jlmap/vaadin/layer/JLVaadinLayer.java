@@ -2,6 +2,8 @@ package io.github.makbn.jlmap.vaadin.layer;
 
 import com.vaadin.flow.component.page.PendingJavaScriptResult;
 import io.github.makbn.jlmap.JLMapEventHandler;
+import io.github.makbn.jlmap.engine.JLClientDispatcher;
+import io.github.makbn.jlmap.engine.JLTransportBatch;
 import io.github.makbn.jlmap.engine.JLTransportRequest;
 import io.github.makbn.jlmap.engine.JLWebEngine;
 import io.github.makbn.jlmap.layer.leaflet.LeafletLayer;
@@ -12,10 +14,8 @@ import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
 import java.util.UUID;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Abstract base class for Vaadin-based map layers.
@@ -90,11 +90,37 @@ public abstract class JLVaadinLayer implements LeafletLayer {
         return String.format("this.map.removeLayer(this.%s)", uuid);
     }
 
+    /**
+     * Executes a script once the batched calls made before it were sent.
+     * <p>
+     * Scripts of the layers bypass the {@link JLTransportBatch}, flushing it first keeps them
+     * from overtaking earlier calls, e.g. a queued {@code setLatLng} of a removed object.
+     * </p>
+     *
+     * @param script the JavaScript code to execute
+     * @return the pending result of the script
+     */
+    protected final PendingJavaScriptResult executeScript(@NonNull String script) {
+        engine.flush();
+        return engine.executeScript(script);
+    }
+
+    /**
+     * Dispatches an operation list once the batched calls made before it were sent.
+     *
+     * @param operations JSON encoded operation list
+     * @return the pending result of the last operation
+     */
+    protected final PendingJavaScriptResult dispatch(@NonNull String operations) {
+        engine.flush();
+        return engine.dispatch(operations);
+    }
+
     /**
      * Creates a server-to-client transporter for JavaScript method invocation.
      * <p>
-     * Returns an anonymous implementation that generates JavaScript method calls
-     * from transport requests and executes them via the Vaadin engine.
+     * Returns an anonymous implementation that encodes transport requests as
+     * {@link JLClientDispatcher} operations and executes them via the Vaadin engine.
      * </p>
      *
      * @return configured transporter for Vaadin JavaScript execution
@@ -103,12 +129,13 @@ public abstract class JLVaadinLayer implements LeafletLayer {
         return new JLVaadinServerToClientTransporter() {
             @Override
             public Function<JLTransportRequest, PendingJavaScriptResult> serverToClientTransport() {
-                return transport -> {
-                    // Generate JavaScript method call: this.objectId.methodName(param1,param2,...)
-                    String script = "return this.%1$s.%2$s(%3$s);" .formatted(transport.self().getJLId(), transport.function(),
-                            transport.params().length > 0 ? Arrays.stream(transport.params()).map(String::valueOf).collect(Collectors.joining(",")) : "");
-                    return engine.executeScript(script);
-                };
+                // Send [objectId, methodName, [param1,param2,...]] to the client dispatcher
+                return transport -> engine.dispatch(JLClientDispatcher.encode(transport));
+            }
+
+            @Override
+            public JLTransportBatch getTransportBatch() {
+                return engine.getTransportBatch();
             }
         };
     }
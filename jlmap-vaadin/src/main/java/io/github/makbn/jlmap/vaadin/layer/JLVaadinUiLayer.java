@@ -1,11 +1,14 @@
 package io.github.makbn.jlmap.vaadin.layer;
 
 import com.vaadin.flow.component.page.PendingJavaScriptResult;
+import io.github.makbn.jlmap.JLClusterLayer;
 import io.github.makbn.jlmap.JLMapEventHandler;
+import io.github.makbn.jlmap.JLViewportLayer;
 import io.github.makbn.jlmap.engine.JLWebEngine;
 import io.github.makbn.jlmap.layer.leaflet.LeafletUILayerInt;
 import io.github.makbn.jlmap.listener.JLAction;
 import io.github.makbn.jlmap.model.*;
+import io.github.makbn.jlmap.model.builder.JLBulkBuilder;
 import io.github.makbn.jlmap.model.builder.JLImageOverlayBuilder;
 import io.github.makbn.jlmap.model.builder.JLMarkerBuilder;
 import io.github.makbn.jlmap.model.builder.JLPopupBuilder;
@@ -13,6 +16,7 @@ import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -48,7 +52,7 @@ public class JLVaadinUiLayer extends JLVaadinLayer implements LeafletUILayerInt
                 .setLng(latLng.getLng())
                 .setText(text)
                 .setTransporter(getTransporter())
-                .withCallbacks(jlCallbackBuilder -> {
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.MOVE);
                     jlCallbackBuilder.on(JLAction.MOVE_START);
                     jlCallbackBuilder.on(JLAction.MOVE_END);
@@ -62,7 +66,7 @@ public class JLVaadinUiLayer extends JLVaadinLayer implements LeafletUILayerInt
                 })
                 .withOptions(JLOptions.DEFAULT.toBuilder().draggable(draggable).build());
 
-        engine.executeScript(markerBuilder.buildJsElement());
+        executeScript(markerBuilder.buildJsElement());
         var marker = markerBuilder.buildJLObject();
         callbackHandler.addJLObject(elementUniqueName, marker);
         if (text != null && !text.trim().isEmpty()) {
@@ -72,6 +76,82 @@ public class JLVaadinUiLayer extends JLVaadinLayer implements LeafletUILayerInt
         return marker;
     }
 
+    /**
+     * Add a set of {{@link JLMarker}}s to the map in one go. The whole set is shipped to the
+     * client as a single payload and registered in the event handler together.
+     *
+     * @param latLngs   positions on the map.
+     * @param draggable whether the markers are draggable.
+     * @return the instances of added {{@link JLMarker}}s, in the iteration order of {@code latLngs}.
+     * @see JLVaadinUiLayer#addMarker(JLLatLng, String, boolean)
+     */
+    @Override
+    public List<JLMarker> addMarkers(Collection<JLLatLng> latLngs, boolean draggable) {
+        JLBulkBuilder<JLMarker> bulkBuilder = markersBuilder(draggable);
+        latLngs.forEach(latLng -> bulkBuilder.add(getElementUniqueName(JLMarker.class, idGenerator.incrementAndGet()), latLng));
+        if (bulkBuilder.size() == 0) {
+            return List.of();
+        }
+
+        dispatch(bulkBuilder.buildOperations());
+        List<JLMarker> markers = bulkBuilder.buildJLObjects();
+        callbackHandler.addJLObjects(markers);
+        return markers;
+    }
+
+    /**
+     * Add a set of {{@link JLMarker}}s that are only created on the client while they are near
+     * the visible area of the map.
+     *
+     * @param latLngs   positions on the map.
+     * @param draggable whether the markers are draggable.
+     * @return the layer holding the markers.
+     * @see JLVaadinUiLayer#addMarkers(Collection, boolean)
+     */
+    @Override
+    public JLViewportLayer<JLMarker> addViewportMarkers(Collection<JLLatLng> latLngs, boolean draggable) {
+        JLViewportLayer<JLMarker> viewportLayer = new JLViewportLayer<>(engine, callbackHandler,
+                () -> markersBuilder(draggable),
+                () -> getElementUniqueName(JLMarker.class, idGenerator.incrementAndGet()));
+        viewportLayer.addAll(latLngs);
+        return viewportLayer;
+    }
+
+    /**
+     * Add a set of {{@link JLMarker}}s that are shown as clusters wherever they are too close to
+     * each other at the current zoom level.
+     *
+     * @param latLngs   positions on the map.
+     * @param draggable whether the markers are draggable.
+     * @return the layer holding the markers.
+     * @see JLVaadinUiLayer#addViewportMarkers(Collection, boolean)
+     */
+    @Override
+    public JLClusterLayer addClusteredMarkers(Collection<JLLatLng> latLngs, boolean draggable) {
+        JLClusterLayer clusterLayer = new JLClusterLayer(engine, callbackHandler, getTransporter(),
+                () -> markersBuilder(draggable),
+                () -> getElementUniqueName(JLMarker.class, idGenerator.incrementAndGet()));
+        clusterLayer.addAll(latLngs);
+        return clusterLayer;
+    }
+
+    private JLBulkBuilder<JLMarker> markersBuilder(boolean draggable) {
+        return JLBulkBuilder.markers()
+                .setTransporter(getTransporter())
+                .withOptions(JLOptions.DEFAULT.toBuilder().draggable(draggable).build())
+                .withLazyCallbacks(
+                        JLAction.MOVE,
+                        JLAction.MOVE_START,
+                        JLAction.MOVE_END,
+                        JLAction.DRAG,
+                        JLAction.DRAG_START,
+                        JLAction.DRAG_END,
+                        JLAction.ADD,
+                        JLAction.REMOVE,
+                        JLAction.CLICK,
+                        JLAction.DOUBLE_CLICK);
+    }
+
     /**
      * Remove a {{@link JLMarker}} from the map.
      *
@@ -81,7 +161,13 @@ public class JLVaadinUiLayer extends JLVaadinLayer implements LeafletUILayerInt
     @Override
     public boolean removeMarker(String id) {
         try {
-            engine.executeScript(removeLayerWithUUID(id));
+            JLMarker marker = callbackHandler.getRegistry().get(id, JLMarker.class);
+            if (marker != null) {
+                // releases the marker from its layers too, culled or clustered ones aren't on the client
+                marker.remove();
+            } else {
+                executeScript(removeLayerWithUUID(id));
+            }
             callbackHandler.remove(JLMarker.class, id);
         } catch (RuntimeException e) {
             log.error(e.getMessage(), e);
@@ -109,14 +195,14 @@ public class JLVaadinUiLayer extends JLVaadinLayer implements LeafletUILayerInt
                 .setLat(latLng.getLat())
                 .setLng(latLng.getLng())
                 .setTransporter(getTransporter())
-                .withCallbacks(jlCallbackBuilder -> {
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.CLICK);
                     jlCallbackBuilder.on(JLAction.DOUBLE_CLICK);
                     jlCallbackBuilder.on(JLAction.ADD);
                     jlCallbackBuilder.on(JLAction.REMOVE);
                 }).withOptions(options);
 
-        engine.executeScript(popupBuilder.buildJsElement());
+        executeScript(popupBuilder.buildJsElement());
         var popup = popupBuilder.buildJLObject();
         callbackHandler.addJLObject(elementUniqueName, popup);
         return popup;
@@ -141,7 +227,7 @@ public class JLVaadinUiLayer extends JLVaadinLayer implements LeafletUILayerInt
     @Override
     public boolean removePopup(String id) {
         try {
-            engine.executeScript(removeLayerWithUUID(id));
+            executeScript(removeLayerWithUUID(id));
             callbackHandler.remove(JLPopup.class, id);
         } catch (RuntimeException e) {
             log.error(e.getMessage(), e);
@@ -161,14 +247,14 @@ public class JLVaadinUiLayer extends JLVaadinLayer implements LeafletUILayerInt
                         new double[]{bounds.getNorthEast().getLat(), bounds.getNorthEast().getLng()}))
                 .setTransporter(getTransporter())
                 .withOptions(options)
-                .withCallbacks(jlCallbackBuilder -> {
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.CLICK);
                     jlCallbackBuilder.on(JLAction.DOUBLE_CLICK);
                     jlCallbackBuilder.on(JLAction.ADD);
                     jlCallbackBuilder.on(JLAction.REMOVE);
                 });
 
-        engine.executeScript(imageBuilder.buildJsElement());
+        executeScript(imageBuilder.buildJsElement());
         var imageOverlay = imageBuilder.buildJLObject();
         callbackHandler.addJLObject(elementUniqueName, imageOverlay);
         return imageOverlay;
@@ -12,7 +12,7 @@ import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -52,13 +52,29 @@ public class JLVaadinVectorLayer extends JLVaadinLayer implements LeafletVectorL
      */
     @Override
     public JLPolyline addPolyline(JLLatLng[] vertices, JLOptions options) {
+        return addPolyline(vertices, options, 0);
+    }
+
+    /**
+     * Drawing polyline overlays on the map that only show the points needed at the zoom level
+     * of the map, see {@link JLPathLevels}.
+     *
+     * @param vertices          arrays of LatLng points
+     * @param options           see {@link JLOptions} for customizing
+     * @param simplifyTolerance maximum deviation of the shown polyline in pixels, {@code 0} to show all points
+     * @return the added {@link JLPolyline} to map
+     */
+    @Override
+    public JLPolyline addPolyline(JLLatLng[] vertices, JLOptions options, double simplifyTolerance) {
         var elementUniqueName = getElementUniqueName(JLPolyline.class, idGenerator.incrementAndGet());
 
         var polylineBuilder = new JLPolylineBuilder()
                 .setUuid(elementUniqueName)
                 .setTransporter(getTransporter())
                 .withOptions(options)
-                .withCallbacks(jlCallbackBuilder -> {
+                .withCoordinateEncoding(engine.getCoordinateEncoding())
+                .withLevelsOfDetail(simplifyTolerance, callbackHandler.getZoom())
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.ADD);
                     jlCallbackBuilder.on(JLAction.REMOVE);
                     jlCallbackBuilder.on(JLAction.CLICK);
@@ -66,17 +82,46 @@ public class JLVaadinVectorLayer extends JLVaadinLayer implements LeafletVectorL
                     jlCallbackBuilder.on(JLAction.CONTEXT_MENU);
                 });
 
-        // Add vertices to the builder using the correct method
-        for (JLLatLng vertex : vertices) {
-            polylineBuilder.addLatLng(vertex.getLat(), vertex.getLng());
-        }
+        polylineBuilder.addLatLngs(vertices);
 
-        engine.executeScript(polylineBuilder.buildJsElement());
+        executeScript(polylineBuilder.buildJsElement());
         var polyline = polylineBuilder.buildJLObject();
         callbackHandler.addJLObject(elementUniqueName, polyline);
         return polyline;
     }
 
+    /**
+     * Drawing a set of polyline overlays on the map in one go. The whole set is shipped to the
+     * client as a single payload and registered in the event handler together.
+     *
+     * @param polylines vertices of each polyline
+     * @param options   see {@link JLOptions} for customizing
+     * @return the added {@link JLPolyline}s, in the iteration order of {@code polylines}
+     * @see JLVaadinVectorLayer#addPolyline(JLLatLng[], JLOptions)
+     */
+    @Override
+    public List<JLPolyline> addPolylines(Collection<JLLatLng[]> polylines, JLOptions options) {
+        JLBulkBuilder<JLPolyline> bulkBuilder = JLBulkBuilder.polylines()
+                .setTransporter(getTransporter())
+                .withOptions(options)
+                .withCoordinateEncoding(engine.getCoordinateEncoding())
+                .withLazyCallbacks(
+                        JLAction.ADD,
+                        JLAction.REMOVE,
+                        JLAction.CLICK,
+                        JLAction.DOUBLE_CLICK,
+                        JLAction.CONTEXT_MENU);
+        polylines.forEach(vertices -> bulkBuilder.add(getElementUniqueName(JLPolyline.class, idGenerator.incrementAndGet()), vertices));
+        if (bulkBuilder.size() == 0) {
+            return List.of();
+        }
+
+        dispatch(bulkBuilder.buildOperations());
+        List<JLPolyline> result = bulkBuilder.buildJLObjects();
+        callbackHandler.addJLObjects(result);
+        return result;
+    }
+
     /**
      * Remove a polyline from the map by id.
      *
@@ -86,7 +131,7 @@ public class JLVaadinVectorLayer extends JLVaadinLayer implements LeafletVectorL
     @Override
     public boolean removePolyline(String id) {
         try {
-            engine.executeScript(removeLayerWithUUID(id));
+            executeScript(removeLayerWithUUID(id));
             callbackHandler.remove(JLPolyline.class, id);
         } catch (RuntimeException e) {
             log.error(e.getMessage(), e);
@@ -124,7 +169,8 @@ public class JLVaadinVectorLayer extends JLVaadinLayer implements LeafletVectorL
                 .setUuid(elementUniqueName)
                 .setTransporter(getTransporter())
                 .withOptions(options)
-                .withCallbacks(jlCallbackBuilder -> {
+                .withCoordinateEncoding(engine.getCoordinateEncoding())
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.ADD);
                     jlCallbackBuilder.on(JLAction.REMOVE);
                     jlCallbackBuilder.on(JLAction.CLICK);
@@ -132,16 +178,11 @@ public class JLVaadinVectorLayer extends JLVaadinLayer implements LeafletVectorL
                     jlCallbackBuilder.on(JLAction.CONTEXT_MENU);
                 });
 
-        // Add vertices arrays to the builder using the correct method
         for (JLLatLng[] vertexArray : vertices) {
-            List<double[]> line = new ArrayList<>();
-            for (JLLatLng vertex : vertexArray) {
-                line.add(new double[]{vertex.getLat(), vertex.getLng()});
-            }
-            multiPolylineBuilder.addLine(line);
+            multiPolylineBuilder.addLine(vertexArray);
         }
 
-        engine.executeScript(multiPolylineBuilder.buildJsElement());
+        executeScript(multiPolylineBuilder.buildJsElement());
         var multiPolyline = multiPolylineBuilder.buildJLObject();
         callbackHandler.addJLObject(elementUniqueName, multiPolyline);
         return multiPolyline;
@@ -156,7 +197,7 @@ public class JLVaadinVectorLayer extends JLVaadinLayer implements LeafletVectorL
     @Override
     public boolean removeMultiPolyline(String id) {
         try {
-            engine.executeScript(removeLayerWithUUID(id));
+            executeScript(removeLayerWithUUID(id));
             callbackHandler.remove(JLMultiPolyline.class, id);
         } catch (RuntimeException e) {
             log.error(e.getMessage(), e);
@@ -173,13 +214,29 @@ public class JLVaadinVectorLayer extends JLVaadinLayer implements LeafletVectorL
      */
     @Override
     public JLPolygon addPolygon(JLLatLng[][][] vertices, JLOptions options) {
+        return addPolygon(vertices, options, 0);
+    }
+
+    /**
+     * Drawing polygon overlays on the map that only show the points needed at the zoom level
+     * of the map, see {@link JLPathLevels}.
+     *
+     * @param vertices          arrays of LatLng points
+     * @param options           see {@link JLOptions} for customizing
+     * @param simplifyTolerance maximum deviation of the shown polygon in pixels, {@code 0} to show all points
+     * @return the added {@link JLPolygon} to map
+     */
+    @Override
+    public JLPolygon addPolygon(JLLatLng[][][] vertices, JLOptions options, double simplifyTolerance) {
         var elementUniqueName = getElementUniqueName(JLPolygon.class, idGenerator.incrementAndGet());
 
         var polygonBuilder = new JLPolygonBuilder()
                 .setUuid(elementUniqueName)
                 .setTransporter(getTransporter())
                 .withOptions(options)
-                .withCallbacks(jlCallbackBuilder -> {
+                .withCoordinateEncoding(engine.getCoordinateEncoding())
+                .withLevelsOfDetail(simplifyTolerance, callbackHandler.getZoom())
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.ADD);
                     jlCallbackBuilder.on(JLAction.REMOVE);
                     jlCallbackBuilder.on(JLAction.CLICK);
@@ -187,18 +244,12 @@ public class JLVaadinVectorLayer extends JLVaadinLayer implements LeafletVectorL
                     jlCallbackBuilder.on(JLAction.CONTEXT_MENU);
                 });
 
-        // Add vertices arrays to the builder using the correct method
+        // the rings of a group are joined into one ring
         for (JLLatLng[][] ringArray : vertices) {
-            List<double[]> group = new ArrayList<>();
-            for (JLLatLng[] ring : ringArray) {
-                for (JLLatLng vertex : ring) {
-                    group.add(new double[]{vertex.getLat(), vertex.getLng()});
-                }
-            }
-            polygonBuilder.addLatLngGroup(group);
+            polygonBuilder.addLatLngGroup(ringArray);
         }
 
-        engine.executeScript(polygonBuilder.buildJsElement());
+        executeScript(polygonBuilder.buildJsElement());
         var polygon = polygonBuilder.buildJLObject();
         callbackHandler.addJLObject(elementUniqueName, polygon);
         return polygon;
@@ -224,7 +275,7 @@ public class JLVaadinVectorLayer extends JLVaadinLayer implements LeafletVectorL
     @Override
     public boolean removePolygon(String id) {
         try {
-            engine.executeScript(removeLayerWithUUID(id));
+            executeScript(removeLayerWithUUID(id));
             callbackHandler.remove(JLPolygon.class, id);
         } catch (RuntimeException e) {
             log.error(e.getMessage(), e);
@@ -252,7 +303,7 @@ public class JLVaadinVectorLayer extends JLVaadinLayer implements LeafletVectorL
                 .setRadius(radius)
                 .setTransporter(getTransporter())
                 .withOptions(options)
-                .withCallbacks(jlCallbackBuilder -> {
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.MOVE);
                     jlCallbackBuilder.on(JLAction.ADD);
                     jlCallbackBuilder.on(JLAction.REMOVE);
@@ -261,7 +312,7 @@ public class JLVaadinVectorLayer extends JLVaadinLayer implements LeafletVectorL
                     jlCallbackBuilder.on(JLAction.CONTEXT_MENU);
                 });
 
-        engine.executeScript(circleBuilder.buildJsElement());
+        executeScript(circleBuilder.buildJsElement());
         var circle = circleBuilder.buildJLObject();
         callbackHandler.addJLObject(elementUniqueName, circle);
         return circle;
@@ -287,7 +338,7 @@ public class JLVaadinVectorLayer extends JLVaadinLayer implements LeafletVectorL
     @Override
     public boolean removeCircle(String id) {
         try {
-            engine.executeScript(removeLayerWithUUID(id));
+            executeScript(removeLayerWithUUID(id));
             callbackHandler.remove(JLCircle.class, id);
         } catch (RuntimeException e) {
             log.error(e.getMessage(), e);
@@ -316,7 +367,7 @@ public class JLVaadinVectorLayer extends JLVaadinLayer implements LeafletVectorL
                 .setRadius(radius)
                 .setTransporter(getTransporter())
                 .withOptions(options)
-                .withCallbacks(jlCallbackBuilder -> {
+                .withLazyCallbacks(jlCallbackBuilder -> {
                     jlCallbackBuilder.on(JLAction.MOVE);
                     jlCallbackBuilder.on(JLAction.ADD);
                     jlCallbackBuilder.on(JLAction.REMOVE);
@@ -325,7 +376,7 @@ public class JLVaadinVectorLayer extends JLVaadinLayer implements LeafletVectorL
                     jlCallbackBuilder.on(JLAction.CONTEXT_MENU);
                 });
 
-        engine.executeScript(circleMarkerBuilder.buildJsElement());
+        executeScript(circleMarkerBuilder.buildJsElement());
         var circleMarker = circleMarkerBuilder.buildJLObject();
         callbackHandler.addJLObject(elementUniqueName, circleMarker);
         return circleMarker;
@@ -342,6 +393,40 @@ public class JLVaadinVectorLayer extends JLVaadinLayer implements LeafletVectorL
         return addCircleMarker(center, 6, JLOptions.DEFAULT);
     }
 
+    /**
+     * Drawing a set of circle marker overlays on the map in one go. The whole set is shipped to
+     * the client as a single payload and registered in the event handler together.
+     *
+     * @param centers latLng points of the circle markers
+     * @param radius  radius of the circle markers in pixels
+     * @param options see {@link JLOptions} for customizing
+     * @return the added {@link JLCircleMarker}s, in the iteration order of {@code centers}
+     * @see JLVaadinVectorLayer#addCircleMarker(JLLatLng, int, JLOptions)
+     */
+    @Override
+    public List<JLCircleMarker> addCircleMarkers(Collection<JLLatLng> centers, int radius, JLOptions options) {
+        JLBulkBuilder<JLCircleMarker> bulkBuilder = JLBulkBuilder.circleMarkers()
+                .setRadius(radius)
+                .setTransporter(getTransporter())
+                .withOptions(options)
+                .withLazyCallbacks(
+                        JLAction.MOVE,
+                        JLAction.ADD,
+                        JLAction.REMOVE,
+                        JLAction.CLICK,
+                        JLAction.DOUBLE_CLICK,
+                        JLAction.CONTEXT_MENU);
+        centers.forEach(center -> bulkBuilder.add(getElementUniqueName(JLCircleMarker.class, idGenerator.incrementAndGet()), center));
+        if (bulkBuilder.size() == 0) {
+            return List.of();
+        }
+
+        dispatch(bulkBuilder.buildOperations());
+        List<JLCircleMarker> circleMarkers = bulkBuilder.buildJLObjects();
+        callbackHandler.addJLObjects(circleMarkers);
+        return circleMarkers;
+    }
+
     /**
      * Remove a circle marker from the map by id.
      *
@@ -351,7 +436,7 @@ public class JLVaadinVectorLayer extends JLVaadinLayer implements LeafletVectorL
     @Override
     public boolean removeCircleMarker(String id) {
         try {
-            engine.executeScript(removeLayerWithUUID(id));
+            executeScript(removeLayerWithUUID(id));
             callbackHandler.remove(JLCircleMarker.class, id);
         } catch (RuntimeException e) {
             log.error(e.getMessage(), e);
@@ -2,6 +2,7 @@ package io.github.makbn.jlmap.vaadin.test.layer;
 
 import com.vaadin.flow.component.page.PendingJavaScriptResult;
 import io.github.makbn.jlmap.JLMapEventHandler;
+import io.github.makbn.jlmap.JLObjectRegistry;
 import io.github.makbn.jlmap.engine.JLWebEngine;
 import io.github.makbn.jlmap.model.*;
 import io.github.makbn.jlmap.vaadin.layer.JLVaadinUiLayer;
@@ -103,6 +104,7 @@ class JLVaadinUiLayerTest {
 
     @Test
     void removeMarker_shouldExecuteRemoveScript() {
+        when(mockCallbackHandler.getRegistry()).thenReturn(new JLObjectRegistry());
         when(mockEngine.executeScript(anyString())).thenReturn(mockJavaScriptResult);
 
         boolean result = uiLayer.removeMarker("test-marker-id");
@@ -152,8 +152,7 @@ class JLVaadinVectorLayerTest {
         assertThat(script).contains("[52.520000, 13.405000]");
         assertThat(script).contains("radius: " + JLProperties.DEFAULT_CIRCLE_RADIUS);
 
-        assertThat(script).contains("on('add'");
-        assertThat(script).contains("on('remove'");
+        assertThat(script).contains(".on('remove', window.jlDispatch.forwarder(").doesNotContain(".on('click'");
 
         assertThat(result).isNotNull();
         assertThat(result.getJLId()).startsWith("JLCircle");
@@ -210,9 +209,7 @@ class JLVaadinVectorLayerTest {
         String script = scriptCaptor.getValue();
         assertThat(script).contains("L.circleMarker");
         assertThat(script).contains("[52.520000, 13.405000]");
-        assertThat(script).contains("on('move'");
-        assertThat(script).contains("on('click'");
-        assertThat(script).contains("on('dblclick'");
+        assertThat(script).contains(".on('remove', window.jlDispatch.forwarder(").doesNotContain(".on('click'");
 
         assertThat(result).isNotNull();
         assertThat(result.getJLId()).startsWith("JLCircleMarker");